@@ -0,0 +1,34 @@
+package com.karan.intellijplatformplugin.benchmark;
+
+import com.karan.intellijplatformplugin.generator.DtoGenerator;
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-field loop of the DTO generator, the only generator whose cost grows with the entity size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoFieldLoopBenchmark {
+
+    @Param({"5", "50", "500", "5000"})
+    private int fieldCount;
+
+    private ClassMeta meta;
+
+    @Setup
+    public void setUp() {
+        meta = SyntheticMetas.entityWithFields(fieldCount);
+    }
+
+    @Benchmark
+    public String renderMembers() {
+        return DtoGenerator.renderMembers(meta);
+    }
+}
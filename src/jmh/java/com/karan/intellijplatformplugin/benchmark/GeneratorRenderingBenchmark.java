@@ -0,0 +1,197 @@
+package com.karan.intellijplatformplugin.benchmark;
+
+import com.karan.intellijplatformplugin.generator.AppUserRepositoryGenerator;
+import com.karan.intellijplatformplugin.generator.ApplicationPropertiesGenerator;
+import com.karan.intellijplatformplugin.generator.AuditingReadmeGenerator;
+import com.karan.intellijplatformplugin.generator.AuthControllerGenerator;
+import com.karan.intellijplatformplugin.generator.AuthDtoGenerator;
+import com.karan.intellijplatformplugin.generator.AuthenticationServiceGenerator;
+import com.karan.intellijplatformplugin.generator.BaseAuditEntityGenerator;
+import com.karan.intellijplatformplugin.generator.CacheConfigGenerator;
+import com.karan.intellijplatformplugin.generator.ControllerGenerator;
+import com.karan.intellijplatformplugin.generator.CountCacheGenerator;
+import com.karan.intellijplatformplugin.generator.DtoGenerator;
+import com.karan.intellijplatformplugin.generator.ErrorResponseGenerator;
+import com.karan.intellijplatformplugin.generator.ExceptionGenerator;
+import com.karan.intellijplatformplugin.generator.GlobalExceptionHandlerGenerator;
+import com.karan.intellijplatformplugin.generator.JpaAuditingConfigGenerator;
+import com.karan.intellijplatformplugin.generator.JwtAuthenticationFilterGenerator;
+import com.karan.intellijplatformplugin.generator.JwtServiceGenerator;
+import com.karan.intellijplatformplugin.generator.MapperGenerator;
+import com.karan.intellijplatformplugin.generator.PaginationGenerator;
+import com.karan.intellijplatformplugin.generator.RepositoryGenerator;
+import com.karan.intellijplatformplugin.generator.RoleEnumGenerator;
+import com.karan.intellijplatformplugin.generator.SecurityConfigGenerator;
+import com.karan.intellijplatformplugin.generator.SecurityReadmeGenerator;
+import com.karan.intellijplatformplugin.generator.ServiceGenerator;
+import com.karan.intellijplatformplugin.generator.SwaggerConfigGenerator;
+import com.karan.intellijplatformplugin.generator.SwaggerReadmeGenerator;
+import com.karan.intellijplatformplugin.generator.UserDetailsServiceImplGenerator;
+import com.karan.intellijplatformplugin.generator.UserEntityGenerator;
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rendering step of every generator for entities of increasing size.
+ * Rendering needs no Project or PSI, so these run outside the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorRenderingBenchmark {
+
+    @Param({"5", "50", "500", "5000"})
+    private int fieldCount;
+
+    private ClassMeta meta;
+
+    @Setup
+    public void setUp() {
+        meta = SyntheticMetas.entityWithFields(fieldCount);
+    }
+
+    @Benchmark
+    public Object appUserRepository() {
+        return AppUserRepositoryGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object applicationProperties() {
+        return ApplicationPropertiesGenerator.render(meta, true);
+    }
+
+    @Benchmark
+    public Object auditingReadme() {
+        return AuditingReadmeGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object authController() {
+        return AuthControllerGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object authDto() {
+        return AuthDtoGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object authenticationService() {
+        return AuthenticationServiceGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object baseAuditEntity() {
+        return BaseAuditEntityGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object cacheConfig() {
+        return CacheConfigGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object controller() {
+        return ControllerGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object countCache() {
+        return CountCacheGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object dto() {
+        return DtoGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object errorResponse() {
+        return ErrorResponseGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object exception() {
+        return ExceptionGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object globalExceptionHandler() {
+        return GlobalExceptionHandlerGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object jpaAuditingConfig() {
+        return JpaAuditingConfigGenerator.render(meta, true);
+    }
+
+    @Benchmark
+    public Object jwtAuthenticationFilter() {
+        return JwtAuthenticationFilterGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object jwtService() {
+        return JwtServiceGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object mapper() {
+        return MapperGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object pagination() {
+        return PaginationGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object repository() {
+        return RepositoryGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object roleEnum() {
+        return RoleEnumGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object securityConfig() {
+        return SecurityConfigGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object securityReadme() {
+        return SecurityReadmeGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object service() {
+        return ServiceGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object swaggerConfig() {
+        return SwaggerConfigGenerator.render(meta, true);
+    }
+
+    @Benchmark
+    public Object swaggerReadme() {
+        return SwaggerReadmeGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object userDetailsServiceImpl() {
+        return UserDetailsServiceImplGenerator.render(meta);
+    }
+
+    @Benchmark
+    public Object userEntity() {
+        return UserEntityGenerator.render(meta);
+    }
+}
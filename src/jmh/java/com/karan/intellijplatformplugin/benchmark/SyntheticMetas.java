@@ -0,0 +1,33 @@
+package com.karan.intellijplatformplugin.benchmark;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds entity metadata of arbitrary size for benchmarks.
+ */
+final class SyntheticMetas {
+
+    private static final String[] FIELD_TYPES = {
+            "String", "Long", "Integer", "Boolean", "java.math.BigDecimal", "java.time.LocalDateTime"
+    };
+
+    private SyntheticMetas() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Creates a {@code Product} entity with a Long id followed by {@code fieldCount} fields of mixed types.
+     */
+    static ClassMeta entityWithFields(int fieldCount) {
+        List<FieldMeta> fields = new ArrayList<>(fieldCount + 1);
+        fields.add(new FieldMeta("id", "Long"));
+        for (int i = 0; i < fieldCount; i++) {
+            fields.add(new FieldMeta("attribute" + i, FIELD_TYPES[i % FIELD_TYPES.length]));
+        }
+        return new ClassMeta("Product", "com.example.shop.entity", "Long", fields);
+    }
+}
@@ -0,0 +1,298 @@
+package com.karan.intellijplatformplugin.benchmark;
+
+import com.karan.intellijplatformplugin.generator.ServiceGenerator;
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the precompiled template engine with the previous String.format rendering,
+ * using the service layer (the largest positional template) as the reference.
+ * The template side is pinned to the options of that service (list endpoint, no export, cursor or caches),
+ * and both sides must render the same text, so that they do the same work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateRenderingBenchmark {
+
+    private static final GenerationOptions OPTIONS = GenerationOptions.DEFAULT
+            .withListEndpoint(true)
+            .withExportEndpoint(false);
+
+    private ClassMeta meta;
+
+    @Setup
+    public void setUp() {
+        meta = new ClassMeta("Product", "com.example.shop.entity", "Long", List.of(
+                new FieldMeta("id", "Long"),
+                new FieldMeta("name", "String"),
+                new FieldMeta("price", "java.math.BigDecimal")
+        ));
+        if (!template().equals(stringFormat())) {
+            throw new IllegalStateException("The service template no longer renders the String.format reference");
+        }
+    }
+
+    @Benchmark
+    public String template() {
+        return ServiceGenerator.render(meta, OPTIONS).getContent();
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return renderWithStringFormat(meta);
+    }
+
+    /**
+     * The service template as it was rendered before the template engine was introduced,
+     * with imports in the order the generator sorts them now.
+     */
+    private static String renderWithStringFormat(ClassMeta meta) {
+        String pkg = meta.basePackage() + ".service";
+
+        return String.format("""
+                package %s;
+                
+                import %s.dto.%sDto;
+                import %s.%s;
+                import %s.exception.BadRequestException;
+                import %s.exception.ResourceNotFoundException;
+                import %s.mapper.%sMapper;
+                import %s.repository.%sRepository;
+                import org.slf4j.Logger;
+                import org.slf4j.LoggerFactory;
+                import org.springframework.data.domain.Page;
+                import org.springframework.data.domain.PageRequest;
+                import org.springframework.data.domain.Pageable;
+                import org.springframework.data.domain.Sort;
+                import org.springframework.stereotype.Service;
+                import org.springframework.transaction.annotation.Transactional;
+                
+                import java.util.List;
+                
+                /**
+                 * Service class for %s entity operations with pagination and sorting support.
+                 */
+                @Service
+                @Transactional(readOnly = true)
+                public class %sService {
+                
+                    private static final Logger log = LoggerFactory.getLogger(%sService.class);
+                    private final %sRepository repository;
+                
+                    public %sService(%sRepository repository) {
+                        this.repository = repository;
+                    }
+                
+                    /**
+                     * Retrieves all entities.
+                     */
+                    public List<%s> findAll() {
+                        log.debug("Finding all %s entities");
+                        return repository.findAll();
+                    }
+                
+                    /**
+                     * Retrieves paginated and sorted entities.
+                     * 
+                     * @param page Page number (0-indexed)
+                     * @param size Number of items per page
+                     * @param sortBy Field name to sort by
+                     * @param sortDirection Sort direction (ASC or DESC)
+                     * @return Paginated result
+                     */
+                    public Page<%s> findAllPaginated(int page, int size, String sortBy, String sortDirection) {
+                        log.debug("Finding paginated %s - page: {}, size: {}, sortBy: {}, direction: {}", 
+                                  page, size, sortBy, sortDirection);
+                        
+                        if (page < 0) {
+                            throw new BadRequestException("Page number cannot be negative");
+                        }
+                        
+                        if (size <= 0) {
+                            throw new BadRequestException("Page size must be greater than 0");
+                        }
+                        
+                        if (size > 100) {
+                            log.warn("Page size {} is too large, limiting to 100", size);
+                            size = 100;
+                        }
+                        
+                        Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC") 
+                                ? Sort.Direction.DESC 
+                                : Sort.Direction.ASC;
+                        
+                        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+                        
+                        Page<%s> result = repository.findAll(pageable);
+                        log.debug("Found {} entities in page {} of {}", 
+                                  result.getNumberOfElements(), page, result.getTotalPages());
+                        
+                        return result;
+                    }
+                
+                    /**
+                     * Retrieves an entity by ID.
+                     * 
+                     * @param id Entity ID
+                     * @return Entity
+                     * @throws ResourceNotFoundException if entity not found
+                     */
+                    public %s findById(%s id) {
+                        log.debug("Finding %s by id: {}", id);
+                        
+                        if (id == null) {
+                            throw new BadRequestException("ID cannot be null");
+                        }
+                        
+                        return repository.findById(id)
+                                .orElseThrow(() -> new ResourceNotFoundException(
+                                        "%s", "id", id
+                                ));
+                    }
+                
+                    /**
+                     * Creates a new entity from DTO.
+                     * 
+                     * @param dto Entity DTO
+                     * @return Created entity
+                     * @throws BadRequestException if DTO is invalid
+                     */
+                    @Transactional
+                    public %s create(%sDto dto) {
+                        log.info("Creating new %s from DTO: {}", dto);
+                        
+                        if (dto == null) {
+                            throw new BadRequestException("DTO cannot be null");
+                        }
+                        
+                        %s entity = %sMapper.toEntity(dto);
+                        log.info("Mapped entity before save: {}", entity);
+                        
+                        %s saved = repository.save(entity);
+                        log.info("Saved entity: {}", saved);
+                        
+                        return saved;
+                    }
+                
+                    /**
+                     * Updates an existing entity from DTO.
+                     * 
+                     * @param id Entity ID
+                     * @param dto Entity DTO
+                     * @return Updated entity
+                     * @throws ResourceNotFoundException if entity not found
+                     * @throws BadRequestException if DTO is invalid
+                     */
+                    @Transactional
+                    public %s update(%s id, %sDto dto) {
+                        log.info("Updating %s with id: {} from DTO: {}", id, dto);
+                        
+                        if (id == null) {
+                            throw new BadRequestException("ID cannot be null");
+                        }
+                        
+                        if (dto == null) {
+                            throw new BadRequestException("DTO cannot be null");
+                        }
+                        
+                        %s entity = findById(id);
+                        log.info("Entity before update: {}", entity);
+                        
+                        %sMapper.updateEntity(entity, dto);
+                        log.info("Entity after mapping: {}", entity);
+                        
+                        %s updated = repository.save(entity);
+                        log.info("Updated entity: {}", updated);
+                        
+                        return updated;
+                    }
+                
+                    /**
+                     * Deletes an entity by ID.
+                     * 
+                     * @param id Entity ID
+                     * @throws ResourceNotFoundException if entity not found
+                     * @throws BadRequestException if ID is invalid
+                     */
+                    @Transactional
+                    public void delete(%s id) {
+                        log.info("Deleting %s with id: {}", id);
+                        
+                        if (id == null) {
+                            throw new BadRequestException("ID cannot be null");
+                        }
+                        
+                        %s entity = findById(id);
+                        repository.delete(entity);
+                        
+                        log.info("Deleted %s with id: {}", id);
+                    }
+                
+                    /**
+                     * Checks if an entity exists by ID.
+                     * 
+                     * @param id Entity ID
+                     * @return true if exists, false otherwise
+                     */
+                    public boolean existsById(%s id) {
+                        if (id == null) {
+                            return false;
+                        }
+                        return repository.existsById(id);
+                    }
+                
+                    /**
+                     * Counts all entities.
+                     * 
+                     * @return Total count
+                     */
+                    public long count() {
+                        return repository.count();
+                    }
+                }
+                """,
+                pkg,
+                meta.basePackage(), meta.getClassName(),
+                meta.getPackageName(), meta.getClassName(),
+                meta.basePackage(),
+                meta.basePackage(),
+                meta.basePackage(), meta.getClassName(),
+                meta.basePackage(), meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(), meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(), meta.getIdType(), meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(), meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(), meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(), meta.getIdType(), meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getIdType(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getClassName(),
+                meta.getIdType()
+        );
+    }
+}
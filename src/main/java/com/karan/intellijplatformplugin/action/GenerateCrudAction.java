@@ -1,61 +1,83 @@
 package com.karan.intellijplatformplugin.action;
 
 import com.intellij.openapi.actionSystem.*;
-import com.intellij.openapi.command.WriteCommandAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.Computable;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
-import com.karan.intellijplatformplugin.generator.*;
-import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.service.GeneratorSettings;
 import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
 
 /**
  * Action to generate complete CRUD code with optional security.
+ * Works on a single entity or on a batch of entities (multi-selection or whole packages).
+ * Dialogs run on the EDT, the generation itself runs in {@link GenerateCrudTask}.
  */
 public class GenerateCrudAction extends AnAction {
 
     @Override
     public void actionPerformed(AnActionEvent e) {
         Project project = e.getProject();
-        PsiFile file = e.getData(CommonDataKeys.PSI_FILE);
 
         if (project == null) {
             Messages.showErrorDialog("No project found", "Error");
             return;
         }
 
-        if (!(file instanceof PsiJavaFile)) {
-            Messages.showErrorDialog(
-                    "Please select a Java class file",
-                    "Invalid Selection"
-            );
-            return;
-        }
+        VirtualFile[] selection = e.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY);
+        Computable<List<PsiClass>> entityClasses;
+        String qualifiedName = null;
 
-        PsiJavaFile javaFile = (PsiJavaFile) file;
-        PsiClass[] classes = javaFile.getClasses();
+        if (e.getData(CommonDataKeys.EDITOR) == null && isBatchSelection(selection)) {
+            // Packages or multiple files selected: every @Entity found is collected in the background
+            entityClasses = () -> PsiDirectoryUtil.collectEntityClasses(project, selection);
+        } else {
+            PsiFile file = e.getData(CommonDataKeys.PSI_FILE);
 
-        if (classes.length == 0) {
-            Messages.showErrorDialog(
-                    "No class found in the selected file",
-                    "Invalid Selection"
-            );
-            return;
-        }
+            if (!(file instanceof PsiJavaFile)) {
+                Messages.showErrorDialog(
+                        "Please select a Java class file",
+                        "Invalid Selection"
+                );
+                return;
+            }
 
-        PsiClass psiClass = classes[0];
+            PsiJavaFile javaFile = (PsiJavaFile) file;
+            PsiClass[] classes = javaFile.getClasses();
 
-        if (!isEntity(psiClass)) {
-            int result = Messages.showYesNoDialog(
-                    project,
-                    "The selected class does not have @Entity annotation. Continue anyway?",
-                    "Not an Entity",
-                    Messages.getQuestionIcon()
-            );
-            if (result != Messages.YES) {
+            if (classes.length == 0) {
+                Messages.showErrorDialog(
+                        "No class found in the selected file",
+                        "Invalid Selection"
+                );
                 return;
             }
+
+            PsiClass psiClass = classes[0];
+
+            if (!PsiDirectoryUtil.isEntity(psiClass)) {
+                int result = Messages.showYesNoDialog(
+                        project,
+                        "The selected class does not have @Entity annotation. Continue anyway?",
+                        "Not an Entity",
+                        Messages.getQuestionIcon()
+                );
+                if (result != Messages.YES) {
+                    return;
+                }
+            }
+
+            qualifiedName = psiClass.getQualifiedName();
+            SmartPsiElementPointer<PsiClass> pointer = SmartPointerManager.createPointer(psiClass);
+            entityClasses = () -> {
+                PsiClass element = pointer.getElement();
+                return element != null ? List.of(element) : List.of();
+            };
         }
 
         // Ask user if they want to include Spring Security
@@ -87,184 +109,101 @@ public class GenerateCrudAction extends AnAction {
 
         boolean includeSecurity = (securityChoice == Messages.YES);
 
-        try {
-            ClassMeta meta = PsiDirectoryUtil.toClassMeta(psiClass);
-
-            PsiDirectory sourceRoot = PsiDirectoryUtil.getSourceRoot(file);
-            if (sourceRoot == null) {
-                Messages.showErrorDialog(
-                        "Cannot locate source root (src/main/java)",
-                        "Error"
-                );
-                return;
-            }
-
-            WriteCommandAction.runWriteCommandAction(project, () -> {
-                // Generate Swagger/OpenAPI documentation
-                SwaggerConfigGenerator.generate(project, sourceRoot, meta, includeSecurity); // ✅ FIXED: Added includeSecurity parameter
-                SwaggerReadmeGenerator.generate(project, sourceRoot, meta);
-                ApplicationPropertiesGenerator.generate(project, sourceRoot, meta, includeSecurity);
-
-                // Generate Spring Security (OPTIONAL)
-                if (includeSecurity) {
-                    SecurityConfigGenerator.generate(project, sourceRoot, meta);
-                    JwtServiceGenerator.generate(project, sourceRoot, meta);
-                    JwtAuthenticationFilterGenerator.generate(project, sourceRoot, meta);
-                    UserEntityGenerator.generate(project, sourceRoot, meta);
-                    RoleEnumGenerator.generate(project, sourceRoot, meta);
-                    AppUserRepositoryGenerator.generate(project, sourceRoot, meta);
-                    UserDetailsServiceImplGenerator.generate(project, sourceRoot, meta);
-                    AuthenticationServiceGenerator.generate(project, sourceRoot, meta);
-                    AuthControllerGenerator.generate(project, sourceRoot, meta);
-                    AuthDtoGenerator.generate(project, sourceRoot, meta);
-                    SecurityReadmeGenerator.generate(project, sourceRoot, meta);
-                }
-
-                // Generate auditing support (integrated with Security if enabled)
-                BaseAuditEntityGenerator.generate(project, sourceRoot, meta);
-                JpaAuditingConfigGenerator.generate(project, sourceRoot, meta, includeSecurity);
-                AuditingReadmeGenerator.generate(project, sourceRoot, meta);
-
-                // Generate pagination support
-                PaginationGenerator.generate(project, sourceRoot, meta);
-
-                // Generate exception handling
-                ExceptionGenerator.generate(project, sourceRoot, meta);
-                ErrorResponseGenerator.generate(project, sourceRoot, meta);
-                GlobalExceptionHandlerGenerator.generate(project, sourceRoot, meta);
-
-                // Generate CRUD components
-                DtoGenerator.generate(project, sourceRoot, meta);
-                MapperGenerator.generate(project, sourceRoot, meta);
-                RepositoryGenerator.generate(project, sourceRoot, meta);
-                ServiceGenerator.generate(project, sourceRoot, meta);
-                ControllerGenerator.generate(project, sourceRoot, meta);
-            });
-
-            // Build success message based on what was generated
-            String securityMessage = includeSecurity ? """
-                    
-                    🔒 Security Components:
-                    ✓ Spring Security Configuration (JWT)
-                    ✓ Authentication Controller (Register/Login)
-                    ✓ JWT Service & Filter
-                    ✓ User Entity with Roles
-                    ✓ User Repository & UserDetailsService
-                    ✓ Security Setup Guide
-                    
-                    📄 Public Endpoints:
-                    • POST /api/auth/register - Register new user
-                    • POST /api/auth/login - Login
-                    
-                    🔒 Protected Endpoints (requires JWT token):
-                    """ : """
-                    
-                    📄 API Endpoints (No Authentication):
-                    """;
-
-            String message = String.format("""
-                    Successfully generated CRUD code for %s:
-                    
-                    ✓ Swagger Configuration
-                    ✓ OpenAPI Documentation
-                    ✓ JPA Auditing (CreatedAt, UpdatedAt, CreatedBy, UpdatedBy)
-                    ✓ Pagination Support (PageResponse, SortDirection)
-                    ✓ Custom Exceptions
-                    ✓ Error Response DTO
-                    ✓ Global Exception Handler
-                    ✓ DTO with Validation
-                    ✓ Mapper
-                    ✓ Repository
-                    ✓ Service (with pagination)
-                    ✓ Controller (with paginated endpoint)
-                    ✓ Complete Documentation
-                    %s
-                    • GET /api/%s - Get all
-                    • GET /api/%s/paginated - Get paginated & sorted
-                    • GET /api/%s/{id} - Get by ID
-                    • POST /api/%s - Create
-                    • PUT /api/%s/{id} - Update
-                    • DELETE /api/%s/{id} - Delete
-                    • HEAD /api/%s/{id} - Check exists
-                    • GET /api/%s/count - Count all
+        // Batches keep the pagination mode remembered per entity; a single entity is asked once
+        GenerationOptions options = GeneratorSettings.getInstance(project).getOptions();
+        if (qualifiedName != null && !options.hasPaginationMode(qualifiedName)) {
+            int paginationChoice = Messages.showDialog(
+                    project,
+                    """
+                    Which response should GET /api/{entity}/paginated return for this entity?
                     
-                    📝 Next Steps:
-                    %s
+                    • Page: totalElements and totalPages, at the cost of a COUNT query per request
+                    • Slice: only whether a next page exists, without a COUNT query
+                      (suited to infinite scrolling and large tables)
                     
-                    Access Swagger UI at: http://localhost:8080/swagger-ui.html
+                    The choice is remembered; it can be asked again from the settings page.
                     """,
-                    meta.getClassName(),
-                    securityMessage,
-                    meta.getClassName().toLowerCase(),
-                    meta.getClassName().toLowerCase(),
-                    meta.getClassName().toLowerCase(),
-                    meta.getClassName().toLowerCase(),
-                    meta.getClassName().toLowerCase(),
-                    meta.getClassName().toLowerCase(),
-                    meta.getClassName().toLowerCase(),
-                    meta.getClassName().toLowerCase(),
-                    includeSecurity ?
-                            "1. Add Spring Security & JWT dependencies to pom.xml\n" +
-                                    "    2. Check SECURITY_GUIDE.md for complete setup\n" +
-                                    "    3. Register a user at /api/auth/register\n" +
-                                    "    4. Use the token in Authorization header" :
-                            "1. Your endpoints are publicly accessible\n" +
-                                    "    2. Consider adding security later if needed\n" +
-                                    "    3. Check generated documentation"
+                    "Pagination Mode",
+                    new String[]{"Page (with Totals)", "Slice (No Count Query)", "Cancel"},
+                    options.getProfile().isSlicePagination() ? 1 : 0,
+                    Messages.getQuestionIcon()
             );
 
-            Messages.showInfoMessage(project, message, "Spring Boot CRUD Generator");
+            if (paginationChoice != 0 && paginationChoice != 1) {
+                return;
+            }
 
-        } catch (Exception ex) {
-            Messages.showErrorDialog(
-                    project,
-                    "Failed to generate CRUD code: " + ex.getMessage(),
-                    "Generation Error"
-            );
-            ex.printStackTrace();
+            options = options.withSlicePagination(qualifiedName, paginationChoice == 1);
         }
+
+        new GenerateCrudTask(project, entityClasses, includeSecurity, options).queue();
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
     }
 
     @Override
-    public void update(AnActionEvent e) {
+    public void update(@NotNull AnActionEvent e) {
         Presentation presentation = e.getPresentation();
         Project project = e.getProject();
+        if (project == null) {
+            presentation.setEnabledAndVisible(false);
+            return;
+        }
 
-        PsiJavaFile javaFile = null;
+        if (e.getData(CommonDataKeys.EDITOR) == null
+                && isBatchSelection(e.getData(CommonDataKeys.VIRTUAL_FILE_ARRAY))) {
+            presentation.setEnabledAndVisible(true);
+            return;
+        }
 
-        PsiFile psiFile = e.getData(CommonDataKeys.PSI_FILE);
-        if (psiFile instanceof PsiJavaFile) {
-            javaFile = (PsiJavaFile) psiFile;
+        // Reject anything that is not a Java source before touching PSI
+        VirtualFile vf = e.getData(CommonDataKeys.VIRTUAL_FILE);
+        if (vf != null && (vf.isDirectory() || !"java".equals(vf.getExtension()))) {
+            presentation.setEnabledAndVisible(false);
+            return;
         }
 
-        if (javaFile == null) {
-            PsiElement element = e.getData(CommonDataKeys.PSI_ELEMENT);
-            if (element instanceof PsiJavaFile) {
-                javaFile = (PsiJavaFile) element;
-            } else if (element instanceof PsiClass) {
-                PsiFile containingFile = element.getContainingFile();
-                if (containingFile instanceof PsiJavaFile) {
-                    javaFile = (PsiJavaFile) containingFile;
-                }
+        // Class lists and annotations come from stubs; the entity check is cached until Java code changes
+        PsiJavaFile javaFile = findJavaFile(e, project, vf);
+        presentation.setEnabledAndVisible(javaFile != null && containsEntity(javaFile));
+    }
+
+    private static boolean containsEntity(PsiJavaFile javaFile) {
+        for (PsiClass psiClass : javaFile.getClasses()) {
+            if (PsiDirectoryUtil.isEntity(psiClass)) {
+                return true;
             }
         }
+        return false;
+    }
 
-        if (javaFile == null && project != null) {
-            VirtualFile vf = e.getData(CommonDataKeys.VIRTUAL_FILE);
-            if (vf != null) {
-                PsiFile fileFromVf = PsiManager.getInstance(project).findFile(vf);
-                if (fileFromVf instanceof PsiJavaFile) {
-                    javaFile = (PsiJavaFile) fileFromVf;
-                }
-            }
+    private static PsiJavaFile findJavaFile(AnActionEvent e, Project project, VirtualFile vf) {
+        if (e.getData(CommonDataKeys.PSI_FILE) instanceof PsiJavaFile javaFile) {
+            return javaFile;
         }
 
-        boolean enabled = javaFile != null && javaFile.getClasses().length > 0;
-        presentation.setEnabledAndVisible(enabled);
+        PsiElement element = e.getData(CommonDataKeys.PSI_ELEMENT);
+        if (element instanceof PsiJavaFile javaFile) {
+            return javaFile;
+        }
+        if (element instanceof PsiClass && element.getContainingFile() instanceof PsiJavaFile javaFile) {
+            return javaFile;
+        }
+
+        if (vf != null && PsiManager.getInstance(project).findFile(vf) instanceof PsiJavaFile javaFile) {
+            return javaFile;
+        }
+        return null;
     }
 
-    private boolean isEntity(PsiClass psiClass) {
-        return psiClass.hasAnnotation("jakarta.persistence.Entity") ||
-                psiClass.hasAnnotation("javax.persistence.Entity");
+    /**
+     * A selection of several files or of a package/directory is processed as a batch.
+     */
+    private static boolean isBatchSelection(VirtualFile[] selection) {
+        return selection != null
+                && (selection.length > 1 || (selection.length == 1 && selection[0].isDirectory()));
     }
-}
\ No newline at end of file
+}
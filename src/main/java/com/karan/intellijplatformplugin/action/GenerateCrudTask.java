@@ -0,0 +1,304 @@
+package com.karan.intellijplatformplugin.action;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.util.Computable;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiDirectory;
+import com.karan.intellijplatformplugin.generator.CrudGenerator;
+import com.karan.intellijplatformplugin.generator.GenerationManifest;
+import com.karan.intellijplatformplugin.generator.GenerationReport;
+import com.karan.intellijplatformplugin.generator.OutputMode;
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.service.GenerationManifestService;
+import com.karan.intellijplatformplugin.service.GenerationReportWriter;
+import com.karan.intellijplatformplugin.service.GeneratorSettings;
+import com.karan.intellijplatformplugin.util.ExistingFileIndex;
+import com.karan.intellijplatformplugin.util.GeneratorOptions;
+import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Background task running the CRUD generation off the EDT.
+ * Metadata is extracted in a non-blocking read action, templates are rendered on the background thread
+ * and only the final insertion of the rendered files happens under the write lock.
+ */
+public class GenerateCrudTask extends Task.Backgroundable {
+
+    private static final int MAX_LISTED_ENTITIES = 20;
+
+    private final Computable<List<PsiClass>> entityClasses;
+    private final boolean includeSecurity;
+    private final GenerationOptions savedOptions;
+
+    private List<CrudGenerator.Target> targets = List.of();
+    private GenerationOptions options = GenerationOptions.DEFAULT;
+    private long elapsedMillis;
+    private GenerationReport report;
+
+    /**
+     * @param entityClasses resolves the selected entity classes; evaluated inside a read action
+     * @param savedOptions the project's options, read on the EDT, with any pagination mode chosen for this run
+     */
+    public GenerateCrudTask(Project project, Computable<List<PsiClass>> entityClasses, boolean includeSecurity,
+                            GenerationOptions savedOptions) {
+        super(project, "Generating Spring Boot CRUD", true);
+        this.entityClasses = entityClasses;
+        this.includeSecurity = includeSecurity;
+        this.savedOptions = savedOptions;
+    }
+
+    @Override
+    public void run(@NotNull ProgressIndicator indicator) {
+        long startTime = System.nanoTime();
+        indicator.setIndeterminate(false);
+        OutputMode outputMode = GeneratorOptions.outputMode();
+        report = new GenerationReport(outputMode);
+
+        indicator.setText("Analyzing entities...");
+        targets = ReadAction.nonBlocking(this::collectTargets)
+                .wrapProgress(indicator)
+                .executeSynchronously();
+        if (targets.isEmpty()) {
+            return;
+        }
+        report.setEntities(targets.size());
+        long analyzedTime = System.nanoTime();
+        report.setAnalyzeMillis(millisBetween(startTime, analyzedTime));
+
+        indicator.setText("Scanning existing files...");
+        ExistingFileIndex existingFiles = ReadAction.nonBlocking(() -> CrudGenerator.indexExistingFiles(targets))
+                .wrapProgress(indicator)
+                .executeSynchronously();
+        long scannedTime = System.nanoTime();
+        report.setScanMillis(millisBetween(analyzedTime, scannedTime));
+
+        indicator.setText("Rendering templates...");
+        GenerationManifest manifest = GenerationManifestService.getManifest(myProject);
+        options = withDefaultPaginationModes(savedOptions);
+        Map<PsiDirectory, List<CrudGenerator.Step>> steps =
+                CrudGenerator.render(targets, includeSecurity, options, manifest, existingFiles, report, indicator);
+        long renderedTime = System.nanoTime();
+        report.setRenderMillis(millisBetween(scannedTime, renderedTime));
+
+        indicator.checkCanceled();
+        indicator.setText("Writing files...");
+        indicator.setText2("");
+        boolean reformat = GeneratorOptions.reformat();
+        ApplicationManager.getApplication().invokeAndWait(() ->
+                WriteCommandAction.runWriteCommandAction(myProject, () ->
+                        CrudGenerator.write(myProject, steps, outputMode, reformat, manifest, existingFiles, report)));
+        long endTime = System.nanoTime();
+        report.setWriteMillis(millisBetween(renderedTime, endTime));
+
+        elapsedMillis = millisBetween(startTime, endTime);
+        report.setTotalMillis(elapsedMillis);
+        GenerationReportWriter.writeJson(myProject, report);
+    }
+
+    private static long millisBetween(long startNanos, long endNanos) {
+        return (endNanos - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Gives the entities without a chosen pagination mode the one the profile preselects.
+     */
+    private GenerationOptions withDefaultPaginationModes(GenerationOptions base) {
+        GenerationOptions result = base;
+        for (CrudGenerator.Target target : targets) {
+            String qualifiedName = target.meta().qualifiedName();
+            if (!base.hasPaginationMode(qualifiedName)) {
+                result = result.withSlicePagination(qualifiedName, base.getProfile().isSlicePagination());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Records the pagination mode each generated entity used; modes of other entities are kept.
+     */
+    private GenerationOptions withUsedPaginationModes(GenerationOptions base) {
+        GenerationOptions result = base;
+        for (CrudGenerator.Target target : targets) {
+            ClassMeta meta = target.meta();
+            result = result.withSlicePagination(meta.qualifiedName(), options.isSlicePagination(meta));
+        }
+        return result;
+    }
+
+    private List<CrudGenerator.Target> collectTargets() {
+        List<CrudGenerator.Target> result = new ArrayList<>();
+        for (PsiClass psiClass : entityClasses.compute()) {
+            PsiDirectory sourceRoot = PsiDirectoryUtil.getSourceRoot(psiClass.getContainingFile());
+            if (sourceRoot == null) {
+                throw new IllegalStateException("Cannot locate source root (src/main/java) for " + psiClass.getName());
+            }
+            result.add(new CrudGenerator.Target(sourceRoot, PsiDirectoryUtil.toClassMeta(psiClass)));
+        }
+        return result;
+    }
+
+    @Override
+    public void onSuccess() {
+        // Remembered for sync and headless runs; written on the EDT, like the settings page does
+        GeneratorSettings settings = GeneratorSettings.getInstance(myProject);
+        settings.setOptions(withUsedPaginationModes(settings.getOptions()));
+
+        if (targets.isEmpty()) {
+            Messages.showErrorDialog(
+                    myProject,
+                    "No @Entity classes found in the selected files or packages",
+                    "Invalid Selection"
+            );
+            return;
+        }
+
+        GenerationReportWriter.notify(myProject, report);
+
+        if (targets.size() > 1) {
+            Messages.showInfoMessage(
+                    myProject,
+                    buildBatchMessage(),
+                    "Spring Boot CRUD Generator"
+            );
+            return;
+        }
+
+        Messages.showInfoMessage(myProject, buildSuccessMessage(targets.get(0).meta()), "Spring Boot CRUD Generator");
+    }
+
+    @Override
+    public void onThrowable(@NotNull Throwable error) {
+        Messages.showErrorDialog(
+                myProject,
+                "Failed to generate CRUD code: " + error.getMessage(),
+                "Generation Error"
+        );
+        error.printStackTrace();
+    }
+
+    private String buildSuccessMessage(ClassMeta meta) {
+        // Build success message based on what was generated
+        String securityMessage = includeSecurity ? """
+                
+                🔒 Security Components:
+                ✓ Spring Security Configuration (JWT)
+                ✓ Authentication Controller (Register/Login)
+                ✓ JWT Service & Filter
+                ✓ User Entity with Roles
+                ✓ User Repository & UserDetailsService
+                ✓ Security Setup Guide
+                
+                📄 Public Endpoints:
+                • POST /api/auth/register - Register new user
+                • POST /api/auth/login - Login
+                
+                🔒 Protected Endpoints (requires JWT token):
+                """ : """
+                
+                📄 API Endpoints (No Authentication):
+                """;
+
+        return String.format("""
+                Successfully generated CRUD code for %s in %d ms:
+                
+                ✓ Swagger Configuration
+                ✓ OpenAPI Documentation
+                ✓ JPA Auditing (CreatedAt, UpdatedAt, CreatedBy, UpdatedBy)
+                ✓ Pagination Support (PageResponse, SliceResponse, SortDirection)
+                ✓ Custom Exceptions
+                ✓ Error Response DTO
+                ✓ Global Exception Handler
+                ✓ DTO with Validation
+                ✓ Mapper
+                ✓ Repository
+                ✓ Service (with pagination)
+                ✓ Controller (with paginated endpoint)
+                ✓ Complete Documentation
+                %s
+                %s• GET /api/%s/paginated - Get paginated & sorted
+                • GET /api/%s/{id} - Get by ID
+                • POST /api/%s - Create
+                • PUT /api/%s/{id} - Update
+                • DELETE /api/%s/{id} - Delete
+                • HEAD /api/%s/{id} - Check exists
+                • GET /api/%s/count - Count all
+                
+                📝 Next Steps:
+                %s
+                
+                Access Swagger UI at: http://localhost:8080/swagger-ui.html
+                """,
+                meta.getClassName(),
+                elapsedMillis,
+                securityMessage,
+                listEndpointLines(meta.getClassName().toLowerCase()),
+                meta.getClassName().toLowerCase(),
+                meta.getClassName().toLowerCase(),
+                meta.getClassName().toLowerCase(),
+                meta.getClassName().toLowerCase(),
+                meta.getClassName().toLowerCase(),
+                meta.getClassName().toLowerCase(),
+                meta.getClassName().toLowerCase(),
+                includeSecurity ?
+                        "1. Add Spring Security & JWT dependencies to pom.xml\n" +
+                                "    2. Check SECURITY_GUIDE.md for complete setup\n" +
+                                "    3. Register a user at /api/auth/register\n" +
+                                "    4. Use the token in Authorization header" :
+                        "1. Your endpoints are publicly accessible\n" +
+                                "    2. Consider adding security later if needed\n" +
+                                "    3. Check generated documentation"
+        );
+    }
+
+    private String listEndpointLines(String path) {
+        StringBuilder lines = new StringBuilder();
+        if (options.isListEndpoint()) {
+            lines.append("• GET /api/").append(path).append(" - Get all\n");
+        }
+        if (options.isExportEndpoint()) {
+            lines.append("• GET /api/").append(path).append("/export - Stream all (NDJSON or JSON array)\n");
+        }
+        if (options.isCursorEndpoint()) {
+            lines.append("• GET /api/").append(path).append("/cursor - Get by keyset cursor\n");
+        }
+        return lines.toString();
+    }
+
+    private String buildBatchMessage() {
+        StringBuilder entityList = new StringBuilder();
+        int shown = Math.min(targets.size(), MAX_LISTED_ENTITIES);
+        for (int i = 0; i < shown; i++) {
+            entityList.append("• ").append(targets.get(i).meta().getClassName()).append("\n");
+        }
+        if (targets.size() > shown) {
+            entityList.append("• ... and ").append(targets.size() - shown).append(" more\n");
+        }
+
+        return String.format("""
+                Successfully generated CRUD code for %d entities in %d ms (%d ms per entity):
+                
+                %s
+                ✓ Shared configuration generated once per base package
+                ✓ DTO, Mapper, Repository, Service and Controller for every entity%s
+                
+                Access Swagger UI at: http://localhost:8080/swagger-ui.html
+                """,
+                targets.size(),
+                elapsedMillis,
+                elapsedMillis / targets.size(),
+                entityList,
+                includeSecurity ? "\n✓ JWT Security (see SECURITY_GUIDE.md)" : ""
+        );
+    }
+}
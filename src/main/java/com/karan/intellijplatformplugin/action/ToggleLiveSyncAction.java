@@ -0,0 +1,40 @@
+package com.karan.intellijplatformplugin.action;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.ToggleAction;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.karan.intellijplatformplugin.service.EntitySyncService;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Turns live sync of generated CRUD code on or off for the current project.
+ */
+public class ToggleLiveSyncAction extends ToggleAction implements DumbAware {
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        return project != null && EntitySyncService.getInstance(project).isEnabled();
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        Project project = e.getProject();
+        if (project != null) {
+            EntitySyncService.getInstance(project).setEnabled(state);
+        }
+    }
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        super.update(e);
+        e.getPresentation().setEnabledAndVisible(e.getProject() != null);
+    }
+}
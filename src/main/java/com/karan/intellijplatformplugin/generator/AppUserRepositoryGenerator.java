@@ -1,62 +1,47 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
-import com.karan.intellijplatformplugin.util.FileExistsUtil;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
 
 /**
  * Generates AppUser repository.
  */
 public class AppUserRepositoryGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
-        }
-
-        String pkg = meta.basePackage() + ".repository";
-        // CHECK IF FILE ALREADY EXISTS
-        if (FileExistsUtil.fileExistsInPackage(root, pkg, "AppUserRepository.java")) {
-            System.out.println("AppUserRepository.java already exists, skipping generation.");
-            return;
-        }
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
-
-        String code = String.format("""
-                package %s;
+    private static final Template TEMPLATE = Template.compile("app-user-repository", """
+            package {{package}};
+            
+            import {{basePackage}}.entity.AppUser;
+            import org.springframework.data.jpa.repository.JpaRepository;
+            import org.springframework.stereotype.Repository;
+            
+            import java.util.Optional;
+            
+            /**
+             * Repository interface for AppUser entity.
+             */
+            @Repository
+            public interface AppUserRepository extends JpaRepository<AppUser, Long> {
                 
-                import %s.entity.AppUser;
-                import org.springframework.data.jpa.repository.JpaRepository;
-                import org.springframework.stereotype.Repository;
+                Optional<AppUser> findByUsername(String username);
                 
-                import java.util.Optional;
+                Optional<AppUser> findByEmail(String email);
                 
-                /**
-                 * Repository interface for AppUser entity.
-                 */
-                @Repository
-                public interface AppUserRepository extends JpaRepository<AppUser, Long> {
-                    
-                    Optional<AppUser> findByUsername(String username);
-                    
-                    Optional<AppUser> findByEmail(String email);
-                    
-                    boolean existsByUsername(String username);
-                    
-                    boolean existsByEmail(String email);
-                }
-                """, pkg, meta.basePackage());
+                boolean existsByUsername(String username);
+                
+                boolean existsByEmail(String email);
+            }
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
+        }
+
+        String pkg = meta.basePackage() + ".repository";
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        "AppUserRepository.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
+        String code = TEMPLATE.render(TemplateContext.of(meta).with("package", pkg));
 
-        dir.add(file);
+        return GeneratedFile.sharedJavaSource(pkg, "AppUserRepository.java", code);
     }
 }
\ No newline at end of file
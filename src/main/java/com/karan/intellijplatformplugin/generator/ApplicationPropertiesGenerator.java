@@ -1,90 +1,165 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.openapi.project.Project;
-import com.intellij.openapi.vfs.VirtualFile;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.model.GenerationProfile;
 
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Updates application.properties with configurations.
+ * Every section is only appended if its header is not yet present in the file.
  */
 public class ApplicationPropertiesGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta, boolean includeSecurity) {
-        if (project == null || root == null || meta == null) {
-            return;
+    private static final String FILE_NAME = "application.properties";
+
+    private static final Template TUNING_POOL_TEMPLATE = Template.compile("properties-tuning-pool", """
+            spring.datasource.hikari.maximum-pool-size={{maxPoolSize}}
+            spring.datasource.hikari.minimum-idle={{minIdle}}
+            """);
+
+    private static final Template TUNING_BATCH_TEMPLATE = Template.compile("properties-tuning-batch", """
+            spring.jpa.properties.hibernate.jdbc.batch_size={{jdbcBatchSize}}
+            spring.jpa.properties.hibernate.order_inserts=true
+            spring.jpa.properties.hibernate.order_updates=true
+            """);
+
+    private static final Template TUNING_LOG_TEMPLATE = Template.compile("properties-tuning-log", """
+            logging.level.{{basePackage}}={{logLevel}}
+            """);
+
+    private static final Template TUNING_TEMPLATE = Template.compile("properties-tuning", """
+
+            # ========================================
+            # Performance Tuning (profile: {{profile}})
+            # ========================================
+            {{properties}}""");
+
+    public static List<GeneratedFile> render(ClassMeta meta, boolean includeSecurity) {
+        return render(meta, includeSecurity, GenerationOptions.DEFAULT);
+    }
+
+    public static List<GeneratedFile> render(ClassMeta meta, boolean includeSecurity, GenerationOptions options) {
+        if (meta == null || options == null) {
+            throw new IllegalArgumentException("Metadata and options cannot be null");
         }
 
-        try {
-            PsiDirectory resourcesDir = findResourcesDirectory(root);
-            if (resourcesDir == null) {
-                return;
-            }
+        List<GeneratedFile> sections = new ArrayList<>();
+
+        sections.add(GeneratedFile.resourceSection(FILE_NAME, "Springdoc OpenAPI Configuration", """
+
+                # ========================================
+                # Springdoc OpenAPI Configuration
+                # ========================================
+                springdoc.api-docs.path=/v3/api-docs
+                springdoc.swagger-ui.path=/swagger-ui.html
+                springdoc.swagger-ui.enabled=true
+                springdoc.swagger-ui.operations-sorter=method
+                springdoc.swagger-ui.tags-sorter=alpha
+                """));
+
+        // Add JWT configuration only if security is enabled
+        if (includeSecurity) {
+            sections.add(GeneratedFile.resourceSection(FILE_NAME, "JWT Configuration", """
 
-            String configurations = """
-                    
                     # ========================================
-                    # Springdoc OpenAPI Configuration
+                    # JWT Configuration
                     # ========================================
-                    springdoc.api-docs.path=/v3/api-docs
-                    springdoc.swagger-ui.path=/swagger-ui.html
-                    springdoc.swagger-ui.enabled=true
-                    springdoc.swagger-ui.operations-sorter=method
-                    springdoc.swagger-ui.tags-sorter=alpha
-                    """;
-
-            // Add JWT configuration only if security is enabled
-            if (includeSecurity) {
-                configurations += """
-                        
-                        # ========================================
-                        # JWT Configuration
-                        # ========================================
-                        jwt.secret-key=404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970
-                        jwt.expiration=86400000
-                        # Note: Change secret key in production! Generate with: openssl rand -base64 32
-                        # Expiration time in milliseconds (86400000 = 24 hours)
-                        """;
-            }
-
-            PsiFile existingFile = resourcesDir.findFile("application.properties");
-
-            if (existingFile != null) {
-                VirtualFile virtualFile = existingFile.getVirtualFile();
-                if (virtualFile != null && virtualFile.isWritable()) {
-                    String currentContent = new String(virtualFile.contentsToByteArray());
-
-                    // Only add if not already present
-                    if (!currentContent.contains("Springdoc OpenAPI Configuration")) {
-                        String newContent = currentContent + configurations;
-                        virtualFile.setBinaryContent(newContent.getBytes());
-                    }
-                }
-            } else {
-                PsiFile file = PsiFileFactory.getInstance(project)
-                        .createFileFromText("application.properties", configurations);
-                resourcesDir.add(file);
-            }
-        } catch (IOException e) {
-            // Silently fail
+                    jwt.secret-key=404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970
+                    jwt.expiration=86400000
+                    # Note: Change secret key in production! Generate with: openssl rand -base64 32
+                    # Expiration time in milliseconds (86400000 = 24 hours)
+                    """));
         }
+
+        if (options.isExportEndpoint()) {
+            sections.add(GeneratedFile.resourceSection(FILE_NAME, "Streaming Export", """
+
+                    # ========================================
+                    # Streaming Export
+                    # ========================================
+                    # Exports run until the whole table is written; the servlet container's default
+                    # async timeout (30 seconds on Tomcat) would cut large exports off
+                    spring.mvc.async.request-timeout=30m
+                    """));
+        }
+
+        if (options.isCountCache()) {
+            sections.add(GeneratedFile.resourceSection(FILE_NAME, "Entity Count Cache", """
+
+                    # ========================================
+                    # Entity Count Cache
+                    # ========================================
+                    # Creates and deletes through the generated services refresh counts right away;
+                    # the TTL bounds how long writes from elsewhere (SQL scripts, other apps) go unnoticed
+                    app.count-cache.ttl=30s
+                    # Hit ratio per entity: /actuator/metrics/entity.count.cache.hit.ratio?tag=entity:<Entity>
+                    """));
+        }
+
+        if (options.isEntityCache()) {
+            sections.add(GeneratedFile.resourceSection(FILE_NAME, "Entity Cache", """
+
+                    # ========================================
+                    # Entity Cache (Caffeine)
+                    # ========================================
+                    # DTOs read by ID, one cache per entity; update and delete evict an entry
+                    # once the transaction commits. Needs spring-boot-starter-cache and caffeine.
+                    app.entity-cache.maximum-size=10000
+                    app.entity-cache.ttl=10m
+                    # Statistics: /actuator/metrics/cache.gets?tag=cache:<entity>&tag=result:hit
+                    """));
+        }
+
+        // Both caches publish their statistics through Micrometer
+        if (options.isCountCache() || options.isEntityCache()) {
+            sections.add(GeneratedFile.resourceSection(FILE_NAME, "Actuator Endpoints", """
+
+                    # ========================================
+                    # Actuator Endpoints
+                    # ========================================
+                    # Needs spring-boot-starter-actuator, which also provides the MeterRegistry
+                    management.endpoints.web.exposure.include=health,metrics,caches
+                    """));
+        }
+
+        TemplateContext context = TemplateContext.shared(meta);
+        String tuning = renderTuning(context, options.getProfile());
+        if (!tuning.isEmpty()) {
+            sections.add(GeneratedFile.resourceSection(FILE_NAME, "Performance Tuning", tuning));
+        }
+
+        return sections;
     }
 
-    private static PsiDirectory findResourcesDirectory(PsiDirectory sourceRoot) {
-        PsiDirectory main = sourceRoot.getParentDirectory();
-        if (main == null) return null;
-
-        PsiDirectory resources = main.findSubdirectory("resources");
-        if (resources == null) {
-            try {
-                resources = main.createSubdirectory("resources");
-            } catch (Exception e) {
-                return null;
-            }
+    /**
+     * Connection pool, JDBC batching and log level of the profile; empty if it keeps all Spring Boot defaults.
+     * Like every section, it is only added once, so switching profiles later does not rewrite it.
+     */
+    private static String renderTuning(TemplateContext context, GenerationProfile profile) {
+        StringBuilder properties = new StringBuilder();
+        if (profile.getMaxPoolSize() > 0) {
+            context.with("maxPoolSize", String.valueOf(profile.getMaxPoolSize()))
+                    .with("minIdle", String.valueOf(profile.getMinIdle()));
+            properties.append(TUNING_POOL_TEMPLATE.render(context));
+        }
+        if (profile.getJdbcBatchSize() > 0) {
+            context.with("jdbcBatchSize", String.valueOf(profile.getJdbcBatchSize()));
+            properties.append(TUNING_BATCH_TEMPLATE.render(context));
+        }
+        if (profile.getLogLevel() != null) {
+            context.with("logLevel", profile.getLogLevel());
+            properties.append(TUNING_LOG_TEMPLATE.render(context));
+        }
+        if (properties.isEmpty()) {
+            return "";
         }
 
-        return resources;
+        return TUNING_TEMPLATE.render(context
+                .with("profile", profile.getDisplayName())
+                .with("properties", properties.toString()));
     }
-}
\ No newline at end of file
+}
@@ -1,31 +1,14 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.PsiDirectory;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiFileFactory;
 import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
 
 /**
  * Generates README with JPA Auditing setup instructions.
  */
 public class AuditingReadmeGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            return;
-        }
-
-        PsiDirectory projectRoot = root;
-        while (projectRoot.getParentDirectory() != null &&
-                !projectRoot.getName().equals("src")) {
-            projectRoot = projectRoot.getParentDirectory();
-        }
-        if (projectRoot.getName().equals("src")) {
-            projectRoot = projectRoot.getParentDirectory();
-        }
-
-        String readme = String.format("""
+    private static final Template TEMPLATE = Template.compile("auditing-readme", """
                 # JPA Auditing Setup Guide
                 
                 ## Overview
@@ -274,11 +257,13 @@ public class AuditingReadmeGenerator {
                 **Generated by Spring Boot CRUD Generator Plugin v1.0.4**
                 """);
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText("AUDITING_GUIDE.md", readme);
-
-        if (projectRoot != null && projectRoot.findFile("AUDITING_GUIDE.md") == null) {
-            projectRoot.add(file);
+    public static GeneratedFile render(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
         }
+
+        String readme = TEMPLATE.render(TemplateContext.shared(meta));
+
+        return GeneratedFile.projectDocument("AUDITING_GUIDE.md", readme);
     }
 }
\ No newline at end of file
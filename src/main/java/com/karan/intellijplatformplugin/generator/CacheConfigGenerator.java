@@ -0,0 +1,74 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+
+/**
+ * Generates the Caffeine cache configuration backing the cached {@code findDtoById} of the generated services.
+ */
+public class CacheConfigGenerator {
+
+    private static final Template TEMPLATE = Template.compile("cache-config", """
+            package {{package}};
+
+            import com.github.benmanes.caffeine.cache.Cache;
+            import com.github.benmanes.caffeine.cache.Caffeine;
+            import io.micrometer.core.instrument.MeterRegistry;
+            import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+            import org.springframework.beans.factory.annotation.Value;
+            import org.springframework.cache.CacheManager;
+            import org.springframework.cache.annotation.EnableCaching;
+            import org.springframework.cache.caffeine.CaffeineCacheManager;
+            import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+            import org.springframework.context.annotation.Bean;
+            import org.springframework.context.annotation.Configuration;
+
+            import java.time.Duration;
+
+            /**
+             * Caffeine caches for the DTOs read by the generated services, one cache per entity.
+             * Size and TTL apply to each cache and come from {@code app.entity-cache.*}. Cache statistics are
+             * published through Micrometer, so Actuator shows them under {@code cache.gets}, {@code cache.puts}
+             * and {@code cache.evictions}, and lists the caches at {@code /actuator/caches}.
+             */
+            @Configuration
+            @EnableCaching
+            public class CacheConfig {
+
+                @Bean
+                public CacheManager cacheManager(@Value("${app.entity-cache.maximum-size:10000}") long maximumSize,
+                                                 @Value("${app.entity-cache.ttl:10m}") Duration ttl,
+                                                 MeterRegistry meterRegistry) {
+                    // Caches are created on first use, after Spring Boot has bound the caches known at startup
+                    CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+                        @Override
+                        protected Cache<Object, Object> createNativeCaffeineCache(String name) {
+                            Cache<Object, Object> cache = super.createNativeCaffeineCache(name);
+                            CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+                            return cache;
+                        }
+                    };
+                    cacheManager.setCaffeine(Caffeine.newBuilder()
+                            .maximumSize(maximumSize)
+                            .expireAfterWrite(ttl)
+                            .recordStats());
+
+                    // Puts and evictions inside a transaction only happen once it commits,
+                    // so a rolled back update never reaches the cache
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                }
+            }
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
+        }
+
+        String pkg = meta.basePackage() + ".config";
+
+        String code = TEMPLATE.render(TemplateContext.shared(meta).with("package", pkg));
+
+        return GeneratedFile.sharedJavaSource(pkg, "CacheConfig.java", code);
+    }
+}
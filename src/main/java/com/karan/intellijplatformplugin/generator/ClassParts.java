@@ -0,0 +1,61 @@
+package com.karan.intellijplatformplugin.generator;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Collects the parts of a generated class that depend on the generation options: its imports and its
+ * constructor-injected dependencies. They are rendered into the {@code imports}, {@code fields},
+ * {@code constructorParameters} and {@code constructorAssignments} placeholders.
+ * Imports follow IntelliJ's default layout: other imports first, then {@code java.*}, each group sorted.
+ */
+final class ClassParts {
+
+    private final Set<String> imports = new TreeSet<>();
+    private final Map<String, String> dependencies = new LinkedHashMap<>();
+
+    ClassParts imports(String... classNames) {
+        Collections.addAll(imports, classNames);
+        return this;
+    }
+
+    /**
+     * Adds a final field set by the constructor; dependencies keep the order they are added in.
+     */
+    ClassParts inject(String type, String name) {
+        dependencies.put(name, type);
+        return this;
+    }
+
+    TemplateContext applyTo(TemplateContext context) {
+        StringBuilder other = new StringBuilder();
+        StringBuilder java = new StringBuilder();
+        for (String name : imports) {
+            (name.startsWith("java.") ? java : other).append("import ").append(name).append(";\n");
+        }
+        if (!java.isEmpty()) {
+            other.append('\n').append(java);
+        }
+        other.append('\n');
+
+        StringBuilder fields = new StringBuilder();
+        StringBuilder parameters = new StringBuilder();
+        StringBuilder assignments = new StringBuilder();
+        dependencies.forEach((name, type) -> {
+            fields.append("    private final ").append(type).append(' ').append(name).append(";\n");
+            if (!parameters.isEmpty()) {
+                parameters.append(", ");
+            }
+            parameters.append(type).append(' ').append(name);
+            assignments.append("        this.").append(name).append(" = ").append(name).append(";\n");
+        });
+
+        return context.with("imports", other.toString())
+                .with("fields", fields.toString())
+                .with("constructorParameters", parameters.toString())
+                .with("constructorAssignments", assignments.toString());
+    }
+}
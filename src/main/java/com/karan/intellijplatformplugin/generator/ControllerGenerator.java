@@ -1,424 +1,550 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
 
 /**
  * Generates REST Controller classes with OpenAPI 3.0 documentation and pagination support.
  */
 public class ControllerGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
-        }
+    private static final Template GET_ALL_TEMPLATE = Template.compile("controller-get-all", """
+            
+                @Operation(
+                        summary = "Get all {{entity}}",
+                        description = "Retrieve a list of all {{entity}} entities (unpaginated)"
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "200",
+                                description = "Successfully retrieved list",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = {{entity}}.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "500",
+                                description = "Internal server error",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        )
+                })
+                @GetMapping
+                public ResponseEntity<List<{{entity}}>> getAll() {
+                    log.debug("GET /api/{{entityLower}} - Retrieving all entities");
+                    List<{{entity}}> entities = service.findAll();
+                    return ResponseEntity.ok(entities);
+                }
+            """);
 
-        String basePkg = meta.basePackage();
-        String controllerPkg = basePkg + ".controller";
+    private static final Template EXPORT_TEMPLATE = Template.compile("controller-export", """
+            
+                @Operation(
+                        summary = "Export all {{entity}}",
+                        description = "Stream all {{entity}} entities as NDJSON (one JSON object per line) "
+                                + "or as a JSON array. Rows are read and written in chunks, "
+                                + "so memory use does not grow with the table."
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "200",
+                                description = "Export streamed successfully",
+                                content = {
+                                        @Content(
+                                                mediaType = "application/x-ndjson",
+                                                schema = @Schema(implementation = {{entity}}.class)
+                                        ),
+                                        @Content(
+                                                mediaType = "application/json",
+                                                schema = @Schema(implementation = {{entity}}.class)
+                                        )
+                                }
+                        )
+                })
+                @GetMapping(value = "/export", produces = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+                public ResponseEntity<StreamingResponseBody> export(
+                        @Parameter(description = "Output format: ndjson or json (array)", example = "ndjson")
+                        @RequestParam(defaultValue = "ndjson") String format
+                ) {
+                    log.debug("GET /api/{{entityLower}}/export - format: {}", format);
+                    boolean array = format.equalsIgnoreCase("json");
+                    MediaType contentType = array
+                            ? MediaType.APPLICATION_JSON
+                            : MediaType.parseMediaType("application/x-ndjson");
+            
+                    // Written after the request thread is released; the service opens its own read-only transaction
+                    StreamingResponseBody body = out -> {
+                        try (SequenceWriter writer = array
+                                ? objectMapper.writer().writeValuesAsArray(out)
+                                : objectMapper.writer().withRootValueSeparator("\\n").writeValues(out)) {
+                            service.streamAll(entity -> {
+                                try {
+                                    writer.write(entity);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            });
+                        }
+                    };
+            
+                    return ResponseEntity.ok()
+                            .contentType(contentType)
+                            .body(body);
+                }
+            """);
 
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, controllerPkg);
+    private static final Template GET_PAGE_TEMPLATE = Template.compile("controller-get-page", """
+                @Operation(
+                        summary = "Get paginated {{entity}}",
+                        description = "Retrieve paginated and sorted list of {{entity}} entities"
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "200",
+                                description = "Successfully retrieved paginated list",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = PageResponse.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "400",
+                                description = "Invalid pagination parameters",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        )
+                })
+                @GetMapping("/paginated")
+                public ResponseEntity<PageResponse<{{entity}}>> getAllPaginated(
+                        @Parameter(description = "Page number (0-indexed)", example = "0")
+                        @RequestParam(defaultValue = "0") int page,
+                        
+                        @Parameter(description = "Page size (max {{maxPageSize}})", example = "10")
+                        @RequestParam(defaultValue = "10") int size,
+                        
+                        @Parameter(description = "Sort field", example = "id")
+                        @RequestParam(defaultValue = "id") String sortBy,
+                        
+                        @Parameter(description = "Sort direction (ASC/DESC)", example = "ASC")
+                        @RequestParam(defaultValue = "ASC") String sortDirection
+                ) {
+                    log.debug("GET /api/{{entityLower}}/paginated - page: {}, size: {}, sortBy: {}, direction: {}", 
+                              page, size, sortBy, sortDirection);
+                    
+                    Page<{{entity}}> pageResult = service.findAllPaginated(page, size, sortBy, sortDirection);
+                    PageResponse<{{entity}}> response = PageResponse.of(pageResult);
+                    
+                    log.debug("Returning page {} with {} items", page, response.getContent().size());
+                    return ResponseEntity.ok(response);
+                }
+            """);
 
-        String entity = meta.getClassName();
-        String entityPackage = meta.getPackageName();
-        String idType = meta.getIdType();
-        String lower = entity.toLowerCase();
+    private static final Template GET_SLICE_TEMPLATE = Template.compile("controller-get-slice", """
+                @Operation(
+                        summary = "Get paginated {{entity}}",
+                        description = "Retrieve paginated and sorted list of {{entity}} entities. "
+                                + "The response tells whether more pages follow but carries no totals."
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "200",
+                                description = "Successfully retrieved paginated list",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = SliceResponse.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "400",
+                                description = "Invalid pagination parameters",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        )
+                })
+                @GetMapping("/paginated")
+                public ResponseEntity<SliceResponse<{{entity}}>> getAllPaginated(
+                        @Parameter(description = "Page number (0-indexed)", example = "0")
+                        @RequestParam(defaultValue = "0") int page,
+                        
+                        @Parameter(description = "Page size (max {{maxPageSize}})", example = "10")
+                        @RequestParam(defaultValue = "10") int size,
+                        
+                        @Parameter(description = "Sort field", example = "id")
+                        @RequestParam(defaultValue = "id") String sortBy,
+                        
+                        @Parameter(description = "Sort direction (ASC/DESC)", example = "ASC")
+                        @RequestParam(defaultValue = "ASC") String sortDirection
+                ) {
+                    log.debug("GET /api/{{entityLower}}/paginated - page: {}, size: {}, sortBy: {}, direction: {}", 
+                              page, size, sortBy, sortDirection);
+                    
+                    Slice<{{entity}}> sliceResult = service.findAllPaginated(page, size, sortBy, sortDirection);
+                    SliceResponse<{{entity}}> response = SliceResponse.of(sliceResult);
+                    
+                    log.debug("Returning page {} with {} items", page, response.getContent().size());
+                    return ResponseEntity.ok(response);
+                }
+            """);
 
-        String code = String.format("""
-                package %s;
-                
-                import %s.%s;
-                import %s.dto.%sDto;
-                import %s.dto.ErrorResponse;
-                import %s.dto.PageResponse;
-                import %s.service.%sService;
-                import io.swagger.v3.oas.annotations.Operation;
-                import io.swagger.v3.oas.annotations.Parameter;
-                import io.swagger.v3.oas.annotations.media.Content;
-                import io.swagger.v3.oas.annotations.media.Schema;
-                import io.swagger.v3.oas.annotations.responses.ApiResponse;
-                import io.swagger.v3.oas.annotations.responses.ApiResponses;
-                import io.swagger.v3.oas.annotations.tags.Tag;
-                import jakarta.validation.Valid;
-                import org.slf4j.Logger;
-                import org.slf4j.LoggerFactory;
-                import org.springframework.data.domain.Page;
-                import org.springframework.http.HttpStatus;
-                import org.springframework.http.ResponseEntity;
-                import org.springframework.web.bind.annotation.*;
-                
-                import java.util.List;
-                
-                /**
-                 * REST Controller for %s entity operations with pagination support.
-                 */
-                @RestController
-                @RequestMapping("/api/%s")
-                @Tag(name = "%s Management", description = "Operations for managing %s resources")
-                public class %sController {
-                
-                    private static final Logger log = LoggerFactory.getLogger(%sController.class);
-                    private final %sService service;
-                
-                    public %sController(%sService service) {
-                        this.service = service;
-                    }
-                
-                    @Operation(
-                            summary = "Get all %s",
-                            description = "Retrieve a list of all %s entities (unpaginated)"
-                    )
-                    @ApiResponses(value = {
-                            @ApiResponse(
-                                    responseCode = "200",
-                                    description = "Successfully retrieved list",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = %s.class)
-                                    )
-                            ),
-                            @ApiResponse(
-                                    responseCode = "500",
-                                    description = "Internal server error",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            )
-                    })
-                    @GetMapping
-                    public ResponseEntity<List<%s>> getAll() {
-                        log.debug("GET /api/%s - Retrieving all entities");
-                        List<%s> entities = service.findAll();
-                        return ResponseEntity.ok(entities);
-                    }
-                
-                    @Operation(
-                            summary = "Get paginated %s",
-                            description = "Retrieve paginated and sorted list of %s entities"
-                    )
-                    @ApiResponses(value = {
-                            @ApiResponse(
-                                    responseCode = "200",
-                                    description = "Successfully retrieved paginated list",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = PageResponse.class)
-                                    )
-                            ),
-                            @ApiResponse(
-                                    responseCode = "400",
-                                    description = "Invalid pagination parameters",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            )
-                    })
-                    @GetMapping("/paginated")
-                    public ResponseEntity<PageResponse<%s>> getAllPaginated(
-                            @Parameter(description = "Page number (0-indexed)", example = "0")
-                            @RequestParam(defaultValue = "0") int page,
-                            
-                            @Parameter(description = "Page size (max 100)", example = "10")
-                            @RequestParam(defaultValue = "10") int size,
-                            
-                            @Parameter(description = "Sort field", example = "id")
-                            @RequestParam(defaultValue = "id") String sortBy,
-                            
-                            @Parameter(description = "Sort direction (ASC/DESC)", example = "ASC")
-                            @RequestParam(defaultValue = "ASC") String sortDirection
-                    ) {
-                        log.debug("GET /api/%s/paginated - page: {}, size: {}, sortBy: {}, direction: {}", 
-                                  page, size, sortBy, sortDirection);
+    private static final Template CURSOR_TEMPLATE = Template.compile("controller-cursor", """
+            
+                @Operation(
+                        summary = "Get {{entity}} by keyset cursor",
+                        description = "Retrieve {{entity}} entities ordered by ID, one page after another. "
+                                + "Pass the nextCursor of a response to get the following page; unlike /paginated, "
+                                + "deep pages are as fast as the first and no total count is computed."
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "200",
+                                description = "Successfully retrieved page",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = CursorPageResponse.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "400",
+                                description = "Invalid cursor or page size",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        )
+                })
+                @GetMapping("/cursor")
+                public ResponseEntity<CursorPageResponse<{{entity}}>> getAllByCursor(
+                        @Parameter(description = "nextCursor of the previous page; omit for the first page")
+                        @RequestParam(required = false) String cursor,
                         
-                        Page<%s> pageResult = service.findAllPaginated(page, size, sortBy, sortDirection);
-                        PageResponse<%s> response = PageResponse.of(pageResult);
+                        @Parameter(description = "Page size (max {{maxPageSize}})", example = "10")
+                        @RequestParam(defaultValue = "10") int size,
                         
-                        log.debug("Returning page {} with {} items", page, response.getContent().size());
-                        return ResponseEntity.ok(response);
-                    }
-                
-                    @Operation(
-                            summary = "Get %s by ID",
-                            description = "Retrieve a specific %s entity by its ID"
-                    )
-                    @ApiResponses(value = {
-                            @ApiResponse(
-                                    responseCode = "200",
-                                    description = "Successfully retrieved entity",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = %s.class)
-                                    )
-                            ),
-                            @ApiResponse(
-                                    responseCode = "404",
-                                    description = "%s not found",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            ),
-                            @ApiResponse(
-                                    responseCode = "400",
-                                    description = "Invalid ID supplied",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            )
-                    })
-                    @GetMapping("/{id}")
-                    public ResponseEntity<%s> getById(
-                            @Parameter(description = "ID of the %s to retrieve", required = true)
-                            @PathVariable %s id
-                    ) {
-                        log.debug("GET /api/%s/{} - Retrieving entity by ID", id);
-                        %s entity = service.findById(id);
-                        return ResponseEntity.ok(entity);
-                    }
-                
-                    @Operation(
-                            summary = "Create a new %s",
-                            description = "Create a new %s entity"
-                    )
-                    @ApiResponses(value = {
-                            @ApiResponse(
-                                    responseCode = "201",
-                                    description = "%s created successfully",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = %s.class)
-                                    )
-                            ),
-                            @ApiResponse(
-                                    responseCode = "400",
-                                    description = "Invalid input data",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            ),
-                            @ApiResponse(
-                                    responseCode = "409",
-                                    description = "%s already exists",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            )
-                    })
-                    @PostMapping
-                    public ResponseEntity<%s> create(
-                            @Parameter(description = "%s data to create", required = true)
-                            @Valid @RequestBody %sDto dto
-                    ) {
-                        log.info("POST /api/%s - Creating new entity: {}", dto);
-                        %s created = service.create(dto);
-                        log.info("Created entity with ID: {}", created);
-                        return ResponseEntity.status(HttpStatus.CREATED).body(created);
-                    }
-                
-                    @Operation(
-                            summary = "Update %s",
-                            description = "Update an existing %s entity by ID"
-                    )
-                    @ApiResponses(value = {
-                            @ApiResponse(
-                                    responseCode = "200",
-                                    description = "%s updated successfully",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = %s.class)
-                                    )
-                            ),
-                            @ApiResponse(
-                                    responseCode = "404",
-                                    description = "%s not found",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            ),
-                            @ApiResponse(
-                                    responseCode = "400",
-                                    description = "Invalid input data",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            )
-                    })
-                    @PutMapping("/{id}")
-                    public ResponseEntity<%s> update(
-                            @Parameter(description = "ID of the %s to update", required = true)
-                            @PathVariable %s id,
-                            @Parameter(description = "Updated %s data", required = true)
-                            @Valid @RequestBody %sDto dto
-                    ) {
-                        log.info("PUT /api/%s/{} - Updating entity: {}", id, dto);
-                        %s updated = service.update(id, dto);
-                        log.info("Updated entity: {}", updated);
-                        return ResponseEntity.ok(updated);
-                    }
-                
-                    @Operation(
-                            summary = "Delete %s",
-                            description = "Delete a %s entity by ID"
-                    )
-                    @ApiResponses(value = {
-                            @ApiResponse(
-                                    responseCode = "204",
-                                    description = "%s deleted successfully"
-                            ),
-                            @ApiResponse(
-                                    responseCode = "404",
-                                    description = "%s not found",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            ),
-                            @ApiResponse(
-                                    responseCode = "400",
-                                    description = "Invalid ID supplied",
-                                    content = @Content(
-                                            mediaType = "application/json",
-                                            schema = @Schema(implementation = ErrorResponse.class)
-                                    )
-                            )
-                    })
-                    @DeleteMapping("/{id}")
-                    public ResponseEntity<Void> delete(
-                            @Parameter(description = "ID of the %s to delete", required = true)
-                            @PathVariable %s id
-                    ) {
-                        log.info("DELETE /api/%s/{} - Deleting entity", id);
-                        service.delete(id);
-                        log.info("Deleted entity with ID: {}", id);
-                        return ResponseEntity.noContent().build();
-                    }
-                
-                    @Operation(
-                            summary = "Check if %s exists",
-                            description = "Check if a %s entity exists by ID"
-                    )
-                    @ApiResponses(value = {
-                            @ApiResponse(
-                                    responseCode = "200",
-                                    description = "%s exists"
-                            ),
-                            @ApiResponse(
-                                    responseCode = "404",
-                                    description = "%s not found"
-                            )
-                    })
-                    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
-                    public ResponseEntity<Void> exists(
-                            @Parameter(description = "ID of the %s to check", required = true)
-                            @PathVariable %s id
-                    ) {
-                        log.debug("HEAD /api/%s/{} - Checking existence", id);
-                        boolean exists = service.existsById(id);
-                        return exists ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
-                    }
-                
-                    @Operation(
-                            summary = "Count all %s",
-                            description = "Get the total count of %s entities"
-                    )
-                    @ApiResponses(value = {
-                            @ApiResponse(
-                                    responseCode = "200",
-                                    description = "Successfully retrieved count"
-                            )
-                    })
-                    @GetMapping("/count")
-                    public ResponseEntity<Long> count() {
-                        log.debug("GET /api/%s/count - Counting entities");
-                        long count = service.count();
-                        return ResponseEntity.ok(count);
-                    }
+                        @Parameter(description = "ID order (ASC/DESC)", example = "ASC")
+                        @RequestParam(defaultValue = "ASC") String sortDirection
+                ) {
+                    log.debug("GET /api/{{entityLower}}/cursor - cursor: {}, size: {}, direction: {}", 
+                              cursor, size, sortDirection);
+                    
+                    CursorPageResponse<{{entity}}> response = service.findAllByCursor(cursor, size, sortDirection);
+                    
+                    log.debug("Returning {} items, has next: {}", response.getContent().size(), response.isHasNext());
+                    return ResponseEntity.ok(response);
+                }
+            """);
+
+    private static final Template TEMPLATE = Template.compile("controller", """
+            package {{package}};
+            
+            {{imports}}/**
+             * REST Controller for {{entity}} entity operations with pagination support.
+             */
+            @RestController
+            @RequestMapping("/api/{{entityLower}}")
+            @Tag(name = "{{entity}} Management", description = "Operations for managing {{entity}} resources")
+            public class {{entity}}Controller {
+            
+                private static final Logger log = LoggerFactory.getLogger({{entity}}Controller.class);
+            {{fields}}
+                public {{entity}}Controller({{constructorParameters}}) {
+            {{constructorAssignments}}    }
+            {{listEndpoints}}
+            {{getPaginated}}{{cursorEndpoints}}
+                @Operation(
+                        summary = "Get {{entity}} by ID",
+                        description = "Retrieve a specific {{entity}} entity by its ID"
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "200",
+                                description = "Successfully retrieved entity",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = {{byIdType}}.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "404",
+                                description = "{{entity}} not found",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "400",
+                                description = "Invalid ID supplied",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        )
+                })
+                @GetMapping("/{id}")
+                public ResponseEntity<{{byIdType}}> getById(
+                        @Parameter(description = "ID of the {{entity}} to retrieve", required = true)
+                        @PathVariable {{idType}} id
+                ) {
+                    log.debug("GET /api/{{entityLower}}/{} - Retrieving entity by ID", id);
+                    {{byIdType}} {{byIdVariable}} = service.{{byIdMethod}}(id);
+                    return ResponseEntity.ok({{byIdVariable}});
+                }
+            
+                @Operation(
+                        summary = "Create a new {{entity}}",
+                        description = "Create a new {{entity}} entity"
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "201",
+                                description = "{{entity}} created successfully",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = {{entity}}.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "400",
+                                description = "Invalid input data",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "409",
+                                description = "{{entity}} already exists",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        )
+                })
+                @PostMapping
+                public ResponseEntity<{{entity}}> create(
+                        @Parameter(description = "{{entity}} data to create", required = true)
+                        @Valid @RequestBody {{entity}}Dto dto
+                ) {
+                    log.info("POST /api/{{entityLower}} - Creating new entity: {}", dto);
+                    {{entity}} created = service.create(dto);
+                    log.info("Created entity with ID: {}", created);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(created);
+                }
+            
+                @Operation(
+                        summary = "Update {{entity}}",
+                        description = "Update an existing {{entity}} entity by ID"
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "200",
+                                description = "{{entity}} updated successfully",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = {{entity}}.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "404",
+                                description = "{{entity}} not found",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "400",
+                                description = "Invalid input data",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        )
+                })
+                @PutMapping("/{id}")
+                public ResponseEntity<{{entity}}> update(
+                        @Parameter(description = "ID of the {{entity}} to update", required = true)
+                        @PathVariable {{idType}} id,
+                        @Parameter(description = "Updated {{entity}} data", required = true)
+                        @Valid @RequestBody {{entity}}Dto dto
+                ) {
+                    log.info("PUT /api/{{entityLower}}/{} - Updating entity: {}", id, dto);
+                    {{entity}} updated = service.update(id, dto);
+                    log.info("Updated entity: {}", updated);
+                    return ResponseEntity.ok(updated);
+                }
+            
+                @Operation(
+                        summary = "Delete {{entity}}",
+                        description = "Delete a {{entity}} entity by ID"
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "204",
+                                description = "{{entity}} deleted successfully"
+                        ),
+                        @ApiResponse(
+                                responseCode = "404",
+                                description = "{{entity}} not found",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        ),
+                        @ApiResponse(
+                                responseCode = "400",
+                                description = "Invalid ID supplied",
+                                content = @Content(
+                                        mediaType = "application/json",
+                                        schema = @Schema(implementation = ErrorResponse.class)
+                                )
+                        )
+                })
+                @DeleteMapping("/{id}")
+                public ResponseEntity<Void> delete(
+                        @Parameter(description = "ID of the {{entity}} to delete", required = true)
+                        @PathVariable {{idType}} id
+                ) {
+                    log.info("DELETE /api/{{entityLower}}/{} - Deleting entity", id);
+                    service.delete(id);
+                    log.info("Deleted entity with ID: {}", id);
+                    return ResponseEntity.noContent().build();
+                }
+            
+                @Operation(
+                        summary = "Check if {{entity}} exists",
+                        description = "Check if a {{entity}} entity exists by ID"
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "200",
+                                description = "{{entity}} exists"
+                        ),
+                        @ApiResponse(
+                                responseCode = "404",
+                                description = "{{entity}} not found"
+                        )
+                })
+                @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+                public ResponseEntity<Void> exists(
+                        @Parameter(description = "ID of the {{entity}} to check", required = true)
+                        @PathVariable {{idType}} id
+                ) {
+                    log.debug("HEAD /api/{{entityLower}}/{} - Checking existence", id);
+                    boolean exists = service.existsById(id);
+                    return exists ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
                 }
-                """,
-                // Format arguments (total: 88)
-                controllerPkg,                          // 1
-                entityPackage, entity,                  // 2, 3
-                basePkg, entity,                        // 4, 5
-                basePkg,                                // 6
-                basePkg,                                // 7 - PageResponse import
-                basePkg, entity,                        // 8, 9
-                entity,                                 // 10
-                lower,                                  // 11
-                entity, entity,                         // 12, 13
-                entity,                                 // 14
-                entity,                                 // 15
-                entity,                                 // 16
-                entity, entity,                         // 17, 18
-                entity, entity,                         // 19, 20
-                entity,                                 // 21
-                entity,                                 // 22
-                lower,                                  // 23
-                entity,                                 // 24
-                entity, entity,                         // 25, 26
-                entity,                                 // 27 - paginated return type
-                lower,                                  // 28
-                entity,                                 // 29 - Page<Entity>
-                entity,                                 // 30 - PageResponse<Entity>
-                entity, entity,                         // 31, 32
-                entity,                                 // 33
-                entity,                                 // 34
-                entity,                                 // 35
-                entity,                                 // 36
-                idType,                                 // 37
-                lower,                                  // 38
-                entity,                                 // 39
-                entity, entity,                         // 40, 41
-                entity,                                 // 42
-                entity,                                 // 43
-                entity,                                 // 44
-                entity,                                 // 45
-                entity,                                 // 46
-                entity,                                 // 47
-                lower,                                  // 48
-                entity,                                 // 49
-                entity, entity,                         // 50, 51
-                entity,                                 // 52
-                entity,                                 // 53
-                entity,                                 // 54
-                entity,                                 // 55
-                entity,                                 // 56
-                idType,                                 // 57
-                entity,                                 // 58
-                entity,                                 // 59
-                lower,                                  // 60
-                entity,                                 // 61
-                entity, entity,                         // 62, 63
-                entity,                                 // 64
-                entity,                                 // 65
-                entity,                                 // 66
-                idType,                                 // 67
-                lower,                                  // 68
-                entity, entity,                         // 69, 70
-                entity,                                 // 71
-                entity,                                 // 72
-                entity,                                 // 73
-                idType,                                 // 74
-                lower,                                  // 75
-                entity, entity,                         // 76, 77
-                lower                                   // 78
-        );
+            
+                @Operation(
+                        summary = "Count all {{entity}}",
+                        description = "Get the total count of {{entity}} entities"
+                )
+                @ApiResponses(value = {
+                        @ApiResponse(
+                                responseCode = "200",
+                                description = "Successfully retrieved count"
+                        )
+                })
+                @GetMapping("/count")
+                public ResponseEntity<Long> count() {
+                    log.debug("GET /api/{{entityLower}}/count - Counting entities");
+                    long count = service.count();
+                    return ResponseEntity.ok(count);
+                }
+            }
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        return render(meta, GenerationOptions.DEFAULT);
+    }
+
+    public static GeneratedFile render(ClassMeta meta, GenerationOptions options) {
+        if (meta == null || options == null) {
+            throw new IllegalArgumentException("Metadata and options cannot be null");
+        }
+
+        String basePkg = meta.basePackage();
+        String controllerPkg = basePkg + ".controller";
+        String entity = meta.getClassName();
+
+        ClassParts parts = new ClassParts()
+                .imports(meta.getPackageName() + "." + entity,
+                        basePkg + ".dto." + entity + "Dto",
+                        basePkg + ".dto.ErrorResponse",
+                        basePkg + ".service." + entity + "Service",
+                        "io.swagger.v3.oas.annotations.Operation",
+                        "io.swagger.v3.oas.annotations.Parameter",
+                        "io.swagger.v3.oas.annotations.media.Content",
+                        "io.swagger.v3.oas.annotations.media.Schema",
+                        "io.swagger.v3.oas.annotations.responses.ApiResponse",
+                        "io.swagger.v3.oas.annotations.responses.ApiResponses",
+                        "io.swagger.v3.oas.annotations.tags.Tag",
+                        "jakarta.validation.Valid",
+                        "org.slf4j.Logger",
+                        "org.slf4j.LoggerFactory",
+                        "org.springframework.http.HttpStatus",
+                        "org.springframework.http.ResponseEntity",
+                        "org.springframework.web.bind.annotation.*")
+                .inject(entity + "Service", "service");
+        TemplateContext context = TemplateContext.of(meta)
+                .with("package", controllerPkg)
+                .with("maxPageSize", String.valueOf(options.getProfile().getMaxPageSize()));
+
+        // With the entity cache, the service caches DTOs, never entities
+        if (options.isEntityCache()) {
+            context.with("byIdType", entity + "Dto")
+                    .with("byIdVariable", "dto")
+                    .with("byIdMethod", "findDtoById");
+        } else {
+            context.with("byIdType", entity)
+                    .with("byIdVariable", "entity")
+                    .with("byIdMethod", "findById");
+        }
+
+        String getPaginated;
+        if (options.isSlicePagination(meta)) {
+            parts.imports(basePkg + ".dto.SliceResponse", "org.springframework.data.domain.Slice");
+            getPaginated = GET_SLICE_TEMPLATE.render(context);
+        } else {
+            parts.imports(basePkg + ".dto.PageResponse", "org.springframework.data.domain.Page");
+            getPaginated = GET_PAGE_TEMPLATE.render(context);
+        }
+
+        StringBuilder listEndpoints = new StringBuilder();
+        if (options.isListEndpoint()) {
+            parts.imports("java.util.List");
+            listEndpoints.append(GET_ALL_TEMPLATE.render(context));
+        }
+        if (options.isExportEndpoint()) {
+            parts.imports("com.fasterxml.jackson.databind.ObjectMapper",
+                            "com.fasterxml.jackson.databind.SequenceWriter",
+                            "org.springframework.http.MediaType",
+                            "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody",
+                            "java.io.IOException",
+                            "java.io.UncheckedIOException")
+                    .inject("ObjectMapper", "objectMapper");
+            listEndpoints.append(EXPORT_TEMPLATE.render(context));
+        }
+
+        String cursorEndpoints = "";
+        if (options.isCursorEndpoint()) {
+            parts.imports(basePkg + ".dto.CursorPageResponse");
+            cursorEndpoints = CURSOR_TEMPLATE.render(context);
+        }
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        entity + "Controller.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
+        String code = TEMPLATE.render(parts.applyTo(context)
+                .with("listEndpoints", listEndpoints.toString())
+                .with("getPaginated", getPaginated)
+                .with("cursorEndpoints", cursorEndpoints));
 
-        dir.add(file);
+        return GeneratedFile.javaSource(controllerPkg, entity + "Controller.java", code);
     }
-}
\ No newline at end of file
+}
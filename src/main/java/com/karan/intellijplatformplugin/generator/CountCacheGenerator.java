@@ -0,0 +1,172 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+
+/**
+ * Generates the entity count cache shared by all services of a base package.
+ */
+public class CountCacheGenerator {
+
+    private static final Template TEMPLATE = Template.compile("count-cache", """
+            package {{package}};
+
+            import io.micrometer.core.instrument.FunctionCounter;
+            import io.micrometer.core.instrument.Gauge;
+            import io.micrometer.core.instrument.MeterRegistry;
+            import org.springframework.beans.factory.annotation.Value;
+            import org.springframework.stereotype.Component;
+            import org.springframework.transaction.support.TransactionSynchronization;
+            import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+            import java.time.Duration;
+            import java.util.Map;
+            import java.util.concurrent.ConcurrentHashMap;
+            import java.util.concurrent.atomic.AtomicLong;
+            import java.util.concurrent.atomic.LongAdder;
+            import java.util.function.LongSupplier;
+
+            /**
+             * Caches the row count of each entity, so that polling /count or requesting pages does not run
+             * a COUNT query every time.
+             * The generated services invalidate an entity's count once a create or delete commits; the TTL
+             * ({@code app.count-cache.ttl}) bounds how stale a count can get through writes from elsewhere.
+             * Hits and misses are published as {@code entity.count.cache.requests} and
+             * {@code entity.count.cache.hit.ratio} per entity.
+             */
+            @Component
+            public class EntityCountCache {
+
+                private final long ttlNanos;
+                private final MeterRegistry meterRegistry;
+                private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+                public EntityCountCache(@Value("${app.count-cache.ttl:30s}") Duration ttl,
+                                        MeterRegistry meterRegistry) {
+                    this.ttlNanos = ttl.toNanos();
+                    this.meterRegistry = meterRegistry;
+                }
+
+                /**
+                 * Returns the cached count of the entity, running the count query if it is missing or expired.
+                 * Concurrent misses of the same entity run the query only once.
+                 *
+                 * @param entity Entity name
+                 * @param counter Count query of the entity
+                 * @return Number of rows
+                 */
+                public long get(String entity, LongSupplier counter) {
+                    return entries.computeIfAbsent(entity, this::createEntry).get(counter);
+                }
+
+                /**
+                 * Drops the cached count of the entity once the current transaction commits, or right away
+                 * outside a transaction. Invalidating before the commit would let a concurrent reader cache
+                 * the old count again.
+                 *
+                 * @param entity Entity name
+                 */
+                public void invalidateAfterCommit(String entity) {
+                    // Also created when nothing is cached yet, as a count query may be running right now
+                    Entry entry = entries.computeIfAbsent(entity, this::createEntry);
+                    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                            @Override
+                            public void afterCommit() {
+                                entry.invalidate();
+                            }
+                        });
+                    } else {
+                        entry.invalidate();
+                    }
+                }
+
+                private Entry createEntry(String entity) {
+                    Entry entry = new Entry(ttlNanos);
+                    FunctionCounter.builder("entity.count.cache.requests", entry, e -> e.hits.sum())
+                            .tag("entity", entity)
+                            .tag("result", "hit")
+                            .register(meterRegistry);
+                    FunctionCounter.builder("entity.count.cache.requests", entry, e -> e.misses.sum())
+                            .tag("entity", entity)
+                            .tag("result", "miss")
+                            .register(meterRegistry);
+                    Gauge.builder("entity.count.cache.hit.ratio", entry, Entry::hitRatio)
+                            .tag("entity", entity)
+                            .register(meterRegistry);
+                    return entry;
+                }
+
+                /**
+                 * The count of one entity. A version number tells a running count query that the entity was
+                 * invalidated meanwhile, so that the possibly outdated result is returned but not cached.
+                 */
+                private static final class Entry {
+
+                    private final long ttlNanos;
+                    private final AtomicLong version = new AtomicLong();
+                    private final LongAdder hits = new LongAdder();
+                    private final LongAdder misses = new LongAdder();
+                    private volatile Snapshot snapshot;
+
+                    Entry(long ttlNanos) {
+                        this.ttlNanos = ttlNanos;
+                    }
+
+                    long get(LongSupplier counter) {
+                        Snapshot current = snapshot;
+                        if (current != null && current.isFresh()) {
+                            hits.increment();
+                            return current.count();
+                        }
+
+                        synchronized (this) {
+                            current = snapshot;
+                            if (current != null && current.isFresh()) {
+                                hits.increment();
+                                return current.count();
+                            }
+
+                            misses.increment();
+                            long loadedVersion = version.get();
+                            long count = counter.getAsLong();
+                            if (version.get() == loadedVersion) {
+                                snapshot = new Snapshot(count, System.nanoTime() + ttlNanos);
+                            }
+                            return count;
+                        }
+                    }
+
+                    void invalidate() {
+                        version.incrementAndGet();
+                        snapshot = null;
+                    }
+
+                    double hitRatio() {
+                        long hitCount = hits.sum();
+                        long total = hitCount + misses.sum();
+                        return total == 0 ? 0.0 : (double) hitCount / total;
+                    }
+                }
+
+                private record Snapshot(long count, long expiresAt) {
+
+                    boolean isFresh() {
+                        return System.nanoTime() - expiresAt < 0;
+                    }
+                }
+            }
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
+        }
+
+        String pkg = meta.basePackage() + ".service";
+
+        String code = TEMPLATE.render(TemplateContext.shared(meta).with("package", pkg));
+
+        return GeneratedFile.sharedJavaSource(pkg, "EntityCountCache.java", code);
+    }
+}
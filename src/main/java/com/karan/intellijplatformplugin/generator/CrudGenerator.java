@@ -0,0 +1,319 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiDirectory;
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.util.ExistingFileIndex;
+import com.karan.intellijplatformplugin.util.HashUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the complete generator set for one or more entities.
+ * Shared artifacts are generated once per base package, entity-specific layers once per entity.
+ * Rendering is free of PSI access and runs in parallel on background threads; only {@link #write} needs the
+ * write lock.
+ * Steps whose inputs did not change since the last run (see {@link GenerationManifest}) are not rendered again.
+ */
+public final class CrudGenerator {
+
+    private CrudGenerator() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * An entity to generate CRUD code for, together with the source root it lives in.
+     */
+    public record Target(PsiDirectory sourceRoot, ClassMeta meta) {
+    }
+
+    /**
+     * The files rendered by one generation step, with the fingerprint of the inputs they were rendered from.
+     */
+    public record Step(String key, String inputHash, List<GeneratedFile> files) {
+    }
+
+    /**
+     * One entity-specific generator. Only layers that depend on fields are re-rendered when fields change.
+     */
+    private record EntityLayer(String name, boolean dependsOnFields, Class<?> generator,
+                               BiFunction<ClassMeta, GenerationOptions, GeneratedFile> renderer) {
+
+        List<GeneratedFile> render(ClassMeta meta, GenerationOptions options, GenerationReport report) {
+            return timed(report, generator, () -> renderer.apply(meta, options));
+        }
+    }
+
+    private static final List<EntityLayer> ENTITY_LAYERS = List.of(
+            new EntityLayer("dto", true, DtoGenerator.class, DtoGenerator::render),
+            new EntityLayer("mapper", true, MapperGenerator.class, MapperGenerator::render),
+            new EntityLayer("repository", false, RepositoryGenerator.class, RepositoryGenerator::render),
+            new EntityLayer("service", false, ServiceGenerator.class, ServiceGenerator::render),
+            new EntityLayer("controller", false, ControllerGenerator.class, ControllerGenerator::render)
+    );
+
+    /**
+     * Renders shared and entity-specific code for all targets, grouped by source root.
+     * Outdated steps are collected first and then rendered concurrently on the shared fork-join pool;
+     * the order of the steps does not depend on scheduling.
+     */
+    public static Map<PsiDirectory, List<Step>> render(List<Target> targets, boolean includeSecurity,
+                                                       GenerationOptions options, GenerationManifest manifest,
+                                                       ExistingFileIndex existingFiles, GenerationReport report,
+                                                       ProgressIndicator indicator) {
+        return render(targets, true, includeSecurity, options, manifest, existingFiles, report, indicator);
+    }
+
+    /**
+     * Renders only the entity-specific layers that are outdated, leaving shared artifacts alone.
+     * Used to keep generated code in sync after an entity was edited.
+     */
+    public static Map<PsiDirectory, List<Step>> renderEntityLayers(List<Target> targets, GenerationOptions options,
+                                                                   GenerationManifest manifest,
+                                                                   ExistingFileIndex existingFiles,
+                                                                   GenerationReport report,
+                                                                   ProgressIndicator indicator) {
+        return render(targets, false, false, options, manifest, existingFiles, report, indicator);
+    }
+
+    /**
+     * Scans the base package of every target once, so that no generator has to probe for existing files.
+     * Must be called inside a read action.
+     */
+    public static ExistingFileIndex indexExistingFiles(List<Target> targets) {
+        ExistingFileIndex index = new ExistingFileIndex();
+        for (Target target : targets) {
+            String basePath = target.meta().basePackage().replace('.', '/');
+            index.scan(target.sourceRoot().getVirtualFile().findFileByRelativePath(basePath));
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if CRUD code was generated for the target's entity before.
+     */
+    public static boolean isGenerated(Target target, GenerationManifest manifest) {
+        return manifest.hasStep(entityKey(target) + "|" + ENTITY_LAYERS.get(0).name());
+    }
+
+    private static Map<PsiDirectory, List<Step>> render(List<Target> targets, boolean includeShared,
+                                                        boolean includeSecurity, GenerationOptions options,
+                                                        GenerationManifest manifest, ExistingFileIndex existingFiles,
+                                                        GenerationReport report, ProgressIndicator indicator) {
+        if (targets == null || options == null || manifest == null || existingFiles == null || report == null
+                || indicator == null) {
+            throw new IllegalArgumentException(
+                    "Targets, options, manifest, file index, report and progress indicator cannot be null");
+        }
+
+        // Template overrides are read once per run; their content is part of every fingerprint
+        Map<String, String> templateFingerprints = new HashMap<>();
+        for (Target target : targets) {
+            templateFingerprints.computeIfAbsent(target.meta().getTemplateDirectory(),
+                    directory -> TemplateOverrideLoader.load(directory).fingerprint());
+        }
+
+        List<PendingStep> pending = new ArrayList<>();
+
+        // Shared artifacts only depend on the base package, so entities of the same
+        // module and base package reuse a single set of them
+        Set<String> renderedBasePackages = new HashSet<>();
+        for (Target target : targets) {
+            indicator.checkCanceled();
+
+            ClassMeta meta = target.meta();
+            StepPlanner planner = new StepPlanner(target.sourceRoot(), meta.getClassName(), pending,
+                    manifest, existingFiles, report);
+            String rootPath = target.sourceRoot().getVirtualFile().getPath();
+            String templates = templateFingerprints.get(meta.getTemplateDirectory());
+
+            String sharedKey = rootPath + "|" + meta.basePackage();
+            if (includeShared && renderedBasePackages.add(sharedKey)) {
+                planner.plan(sharedKey + "|shared",
+                        HashUtil.sha256(meta.basePackage(), String.valueOf(includeSecurity), templates,
+                                options.fingerprint()),
+                        () -> renderShared(meta, includeSecurity, options, report));
+            }
+
+            String entityKey = entityKey(target);
+            String entityHash = HashUtil.sha256(meta.getClassName(), meta.getPackageName(), meta.getIdType(),
+                    templates, options.fingerprint(meta));
+            String fieldsHash = HashUtil.sha256(entityHash, fieldsFingerprint(meta));
+            for (EntityLayer layer : ENTITY_LAYERS) {
+                planner.plan(entityKey + "|" + layer.name(), layer.dependsOnFields() ? fieldsHash : entityHash,
+                        () -> layer.render(meta, options, report));
+            }
+        }
+
+        // Generators are pure functions of the metadata, so steps can render on any thread
+        Step[] rendered = new Step[pending.size()];
+        AtomicInteger done = new AtomicInteger();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+                IntStream.range(0, pending.size()).boxed().toList(), indicator, index -> {
+                    PendingStep step = pending.get(index);
+                    indicator.setText2(step.label());
+                    rendered[index] = new Step(step.key(), step.inputHash(), step.renderer().get());
+                    indicator.setFraction((double) done.incrementAndGet() / rendered.length);
+                    return true;
+                });
+
+        Map<PsiDirectory, List<Step>> stepsByRoot = new LinkedHashMap<>();
+        for (int i = 0; i < rendered.length; i++) {
+            stepsByRoot.computeIfAbsent(pending.get(i).sourceRoot(), root -> new ArrayList<>()).add(rendered[i]);
+        }
+        return stepsByRoot;
+    }
+
+    /**
+     * Inserts rendered files into the project and records them in the manifest. Must be called inside a write command.
+     * With {@code reformat}, the written Java sources are formatted together once all of them are inserted.
+     */
+    public static void write(Project project, Map<PsiDirectory, List<Step>> stepsByRoot,
+                             OutputMode outputMode, boolean reformat, GenerationManifest manifest,
+                             ExistingFileIndex existingFiles, GenerationReport report) {
+        GeneratedFileWriter writer = new GeneratedFileWriter(project, outputMode, manifest, existingFiles, report);
+        stepsByRoot.forEach(writer::write);
+
+        if (reformat) {
+            long start = System.nanoTime();
+            GeneratedCodeFormatter.format(project, writer.getWrittenSources(), manifest);
+            report.setFormatMillis((System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Renders configuration, security, auditing, pagination, caching and exception handling support.
+     */
+    public static List<GeneratedFile> renderShared(ClassMeta meta, boolean includeSecurity, GenerationOptions options,
+                                                   GenerationReport report) {
+        List<GeneratedFile> files = new ArrayList<>();
+
+        // Generate Swagger/OpenAPI documentation
+        files.addAll(timed(report, SwaggerConfigGenerator.class,
+                () -> SwaggerConfigGenerator.render(meta, includeSecurity)));
+        files.addAll(timed(report, SwaggerReadmeGenerator.class, () -> SwaggerReadmeGenerator.render(meta)));
+        files.addAll(timedAll(report, ApplicationPropertiesGenerator.class,
+                () -> ApplicationPropertiesGenerator.render(meta, includeSecurity, options)));
+
+        // Generate Spring Security (OPTIONAL)
+        if (includeSecurity) {
+            files.addAll(timed(report, SecurityConfigGenerator.class, () -> SecurityConfigGenerator.render(meta)));
+            files.addAll(timed(report, JwtServiceGenerator.class, () -> JwtServiceGenerator.render(meta)));
+            files.addAll(timed(report, JwtAuthenticationFilterGenerator.class,
+                    () -> JwtAuthenticationFilterGenerator.render(meta)));
+            files.addAll(timed(report, UserEntityGenerator.class, () -> UserEntityGenerator.render(meta)));
+            files.addAll(timed(report, RoleEnumGenerator.class, () -> RoleEnumGenerator.render(meta)));
+            files.addAll(timed(report, AppUserRepositoryGenerator.class,
+                    () -> AppUserRepositoryGenerator.render(meta)));
+            files.addAll(timed(report, UserDetailsServiceImplGenerator.class,
+                    () -> UserDetailsServiceImplGenerator.render(meta)));
+            files.addAll(timed(report, AuthenticationServiceGenerator.class,
+                    () -> AuthenticationServiceGenerator.render(meta)));
+            files.addAll(timed(report, AuthControllerGenerator.class, () -> AuthControllerGenerator.render(meta)));
+            files.addAll(timedAll(report, AuthDtoGenerator.class, () -> AuthDtoGenerator.render(meta)));
+            files.addAll(timed(report, SecurityReadmeGenerator.class, () -> SecurityReadmeGenerator.render(meta)));
+        }
+
+        // Generate auditing support (integrated with Security if enabled)
+        files.addAll(timed(report, BaseAuditEntityGenerator.class, () -> BaseAuditEntityGenerator.render(meta)));
+        files.addAll(timed(report, JpaAuditingConfigGenerator.class,
+                () -> JpaAuditingConfigGenerator.render(meta, includeSecurity)));
+        files.addAll(timed(report, AuditingReadmeGenerator.class, () -> AuditingReadmeGenerator.render(meta)));
+
+        // Generate pagination support
+        files.addAll(timedAll(report, PaginationGenerator.class, () -> PaginationGenerator.render(meta, options)));
+
+        // Generate the entity count cache (OPTIONAL)
+        if (options.isCountCache()) {
+            files.addAll(timed(report, CountCacheGenerator.class, () -> CountCacheGenerator.render(meta)));
+        }
+
+        // Generate the entity cache configuration (OPTIONAL)
+        if (options.isEntityCache()) {
+            files.addAll(timed(report, CacheConfigGenerator.class, () -> CacheConfigGenerator.render(meta)));
+        }
+
+        // Generate exception handling
+        files.addAll(timedAll(report, ExceptionGenerator.class, () -> ExceptionGenerator.render(meta)));
+        files.addAll(timed(report, ErrorResponseGenerator.class, () -> ErrorResponseGenerator.render(meta)));
+        files.addAll(timed(report, GlobalExceptionHandlerGenerator.class,
+                () -> GlobalExceptionHandlerGenerator.render(meta)));
+
+        return files;
+    }
+
+    /**
+     * Renders the DTO, mapper, repository, service and controller of a single entity.
+     */
+    public static List<GeneratedFile> renderEntity(ClassMeta meta, GenerationOptions options, GenerationReport report) {
+        List<GeneratedFile> files = new ArrayList<>();
+        for (EntityLayer layer : ENTITY_LAYERS) {
+            files.addAll(layer.render(meta, options, report));
+        }
+        return files;
+    }
+
+    private static List<GeneratedFile> timed(GenerationReport report, Class<?> generator,
+                                             Supplier<GeneratedFile> render) {
+        return timedAll(report, generator, () -> List.of(render.get()));
+    }
+
+    private static List<GeneratedFile> timedAll(GenerationReport report, Class<?> generator,
+                                                Supplier<List<GeneratedFile>> render) {
+        long start = System.nanoTime();
+        List<GeneratedFile> files = render.get();
+        report.rendered(generator.getSimpleName(), System.nanoTime() - start, files);
+        return files;
+    }
+
+    /**
+     * A step that is not up to date and still has to be rendered.
+     */
+    private record PendingStep(PsiDirectory sourceRoot, String label, String key, String inputHash,
+                               Supplier<List<GeneratedFile>> renderer) {
+    }
+
+    /**
+     * Queues a step for rendering unless the manifest shows it is up to date.
+     */
+    private record StepPlanner(PsiDirectory sourceRoot, String label, List<PendingStep> pending,
+                               GenerationManifest manifest, ExistingFileIndex existingFiles,
+                               GenerationReport report) {
+
+        void plan(String key, String inputHash, Supplier<List<GeneratedFile>> renderer) {
+            if (manifest.isUpToDate(key, inputHash, existingFiles)) {
+                report.stepUpToDate();
+                return;
+            }
+            pending.add(new PendingStep(sourceRoot, label, key, inputHash, renderer));
+        }
+    }
+
+    private static String entityKey(Target target) {
+        ClassMeta meta = target.meta();
+        return target.sourceRoot().getVirtualFile().getPath() + "|" + meta.getPackageName() + "." + meta.getClassName();
+    }
+
+    private static String fieldsFingerprint(ClassMeta meta) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (FieldMeta field : meta.getFields()) {
+            fingerprint.append(field.getName()).append(':').append(field.getType()).append(';');
+        }
+        return fingerprint.toString();
+    }
+}
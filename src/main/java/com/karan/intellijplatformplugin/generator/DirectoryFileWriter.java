@@ -0,0 +1,77 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Writes rendered files below a plain directory laid out like a Maven/Gradle module
+ * ({@code src/main/java}, {@code src/main/resources} and documentation in the module root).
+ * Used by the headless generator, which has no project model to write into.
+ * Entity-specific sources are overwritten, shared sources and documents are kept if they exist.
+ */
+public final class DirectoryFileWriter {
+
+    private final Path moduleRoot;
+    private final GenerationReport report;
+
+    public DirectoryFileWriter(Path moduleRoot, GenerationReport report) {
+        if (moduleRoot == null || report == null) {
+            throw new IllegalArgumentException("Module root and report cannot be null");
+        }
+        this.moduleRoot = moduleRoot;
+        this.report = report;
+    }
+
+    public void write(List<GeneratedFile> files) throws IOException {
+        for (GeneratedFile file : files) {
+            long start = System.nanoTime();
+            Path target = resolve(file);
+
+            if (Files.exists(target) && file.getWriteMode() == GeneratedFile.WriteMode.SKIP_IF_EXISTS) {
+                report.fileSkipped(file, System.nanoTime() - start, "already exists");
+                continue;
+            }
+
+            if (Files.exists(target) && file.getWriteMode() == GeneratedFile.WriteMode.APPEND_IF_MISSING) {
+                // Only add if not already present
+                if (Files.readString(target, StandardCharsets.UTF_8).contains(file.getMarker())) {
+                    report.fileUnchanged(file, System.nanoTime() - start);
+                } else {
+                    Files.writeString(target, file.getContent(), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+                    report.fileUpdated(file, System.nanoTime() - start);
+                }
+                continue;
+            }
+
+            boolean existed = Files.exists(target);
+            Files.createDirectories(target.getParent());
+            Files.writeString(target, file.getContent(), StandardCharsets.UTF_8);
+            if (existed) {
+                report.fileUpdated(file, System.nanoTime() - start);
+            } else {
+                report.fileCreated(file, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private Path resolve(GeneratedFile file) {
+        return switch (file.getLocation()) {
+            case SOURCE_ROOT -> {
+                Path dir = moduleRoot.resolve("src/main/java");
+                String pkg = file.getPackageName();
+                if (pkg != null && !pkg.isEmpty()) {
+                    dir = dir.resolve(pkg.replace('.', '/'));
+                }
+                yield dir.resolve(file.getFileName());
+            }
+            case RESOURCES -> moduleRoot.resolve("src/main/resources").resolve(file.getFileName());
+            case PROJECT_ROOT -> moduleRoot.resolve(file.getFileName());
+        };
+    }
+}
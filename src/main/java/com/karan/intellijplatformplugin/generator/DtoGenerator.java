@@ -1,125 +1,237 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.*;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+
+import java.util.List;
 
 /**
- * Generates DTO classes with OpenAPI schema annotations.
+ * Generates DTO classes or records with OpenAPI schema annotations.
  */
 public class DtoGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
+    private static final Template FIELD_TEMPLATE = Template.compile("dto-field", """
+            @Schema(description = "{{capitalizedName}} of the {{entityLower}}", example = "Sample {{fieldName}}", requiredMode = Schema.RequiredMode.REQUIRED)
+            @jakarta.validation.constraints.NotNull(message = "{{capitalizedName}} cannot be null")
+            private {{fieldType}} {{fieldName}};
+            
+            """);
+
+    private static final Template GETTER_TEMPLATE = Template.compile("dto-getter", """
+            public {{fieldType}} get{{capitalizedName}}() {
+                return {{fieldName}};
+            }
+            
+            """);
+
+    private static final Template SETTER_TEMPLATE = Template.compile("dto-setter", """
+            public void set{{capitalizedName}}({{fieldType}} {{fieldName}}) {
+                this.{{fieldName}} = {{fieldName}};
+            }
+            
+            """);
+
+    private static final Template TO_STRING_FIELD_TEMPLATE = Template.compile(
+            "dto-to-string-field", "{{fieldName}}='\" + {{fieldName}} + \"'");
+
+    private static final Template TO_STRING_TEMPLATE = Template.compile("dto-to-string", """
+            
+            @Override
+            public String toString() {
+                return "{{entity}}Dto{" +
+                        "{{toStringFields}}" +
+                        "}";
+            }
+            """);
+
+    private static final Template EMPTY_TO_STRING_TEMPLATE = Template.compile("dto-empty-to-string", """
+            
+            @Override
+            public String toString() {
+                return "{{entity}}Dto{}";
+            }
+            """);
+
+    private static final Template TEMPLATE = Template.compile("dto", """
+            package {{package}};
+            
+            import io.swagger.v3.oas.annotations.media.Schema;
+            import jakarta.validation.constraints.NotNull;
+            
+            /**
+             * DTO for {{entity}} entity.
+             */
+            @Schema(description = "Data Transfer Object for {{entity}}")
+            public class {{entity}}Dto {
+                
+            {{members}}}
+            """);
+
+    private static final Template RECORD_COMPONENT_TEMPLATE = Template.compile("dto-record-component", """
+                    @Schema(description = "{{capitalizedName}} of the {{entityLower}}", example = "Sample {{fieldName}}", requiredMode = Schema.RequiredMode.REQUIRED)
+                    @jakarta.validation.constraints.NotNull(message = "{{capitalizedName}} cannot be null")
+                    {{fieldType}} {{fieldName}}
+            """);
+
+    private static final Template RECORD_TEMPLATE = Template.compile("dto-record", """
+            package {{package}};
+            
+            import io.swagger.v3.oas.annotations.media.Schema;
+            import jakarta.validation.constraints.NotNull;
+            
+            /**
+             * DTO for {{entity}} entity.
+             */
+            @Schema(description = "Data Transfer Object for {{entity}}")
+            public record {{entity}}Dto(
+            {{components}}) {
+            }
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        return render(meta, GenerationOptions.DEFAULT);
+    }
+
+    public static GeneratedFile render(ClassMeta meta, GenerationOptions options) {
+        if (meta == null || options == null) {
+            throw new IllegalArgumentException("Metadata and options cannot be null");
         }
 
         String pkg = meta.basePackage() + ".dto";
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
+        if (options.getDtoStyle() == DtoStyle.RECORD) {
+            return GeneratedFile.javaSource(pkg, meta.getClassName() + "Dto.java", renderRecord(meta, pkg));
+        }
 
-        StringBuilder fields = new StringBuilder();
-        StringBuilder gettersSetters = new StringBuilder();
-        StringBuilder toStringBuilder = new StringBuilder();
+        // The members are written straight into the file buffer, which is allocated once at its final size
+        String code = TEMPLATE.render(TemplateContext.of(meta)
+                .with("package", pkg)
+                .with("members", new Members(meta)));
 
-        int fieldCount = 0;
-        for (FieldMeta f : meta.getFields()) {
-            if (f.getName().equalsIgnoreCase("id")) {
-                continue;
+        return GeneratedFile.javaSource(pkg, meta.getClassName() + "Dto.java", code);
+    }
+
+    /**
+     * Renders a record with one component per non-ID field; accessors, equals, hashCode and toString
+     * come with the record.
+     */
+    private static String renderRecord(ClassMeta meta, String pkg) {
+        TemplateContext context = TemplateContext.of(meta);
+        StringBuilder components = new StringBuilder();
+        for (FieldMeta f : dtoFields(meta)) {
+            if (!components.isEmpty()) {
+                // The comma goes after the previous component, before its line break
+                components.insert(components.length() - 1, ',');
             }
+            context.with("fieldName", f.getName())
+                    .with("fieldType", f.getType())
+                    .with("capitalizedName", f.getCapitalizedName());
+            RECORD_COMPONENT_TEMPLATE.renderTo(context, components);
+        }
 
-            String fieldName = f.getName();
-            String fieldType = f.getType();
-            String capitalizedName = f.getCapitalizedName();
-
-            // Add field with validation and OpenAPI schema annotations
-            fields.append(String.format("""
-                    @Schema(description = "%s of the %s", example = "Sample %s", requiredMode = Schema.RequiredMode.REQUIRED)
-                    @jakarta.validation.constraints.NotNull(message = "%s cannot be null")
-                    private %s %s;
-                    
-                    """,
-                    capitalizedName,
-                    meta.getClassName().toLowerCase(),
-                    fieldName,
-                    capitalizedName,
-                    fieldType,
-                    fieldName));
-
-            // Add getter
-            gettersSetters.append(String.format("""
-                    public %s get%s() {
-                        return %s;
-                    }
-                    
-                    """, fieldType, capitalizedName, fieldName));
+        return RECORD_TEMPLATE.render(context
+                .with("package", pkg)
+                .with("components", components.toString()));
+    }
 
-            // Add setter
-            gettersSetters.append(String.format("""
-                    public void set%s(%s %s) {
-                        this.%s = %s;
-                    }
-                    
-                    """, capitalizedName, fieldType, fieldName, fieldName, fieldName));
+    /**
+     * The fields a DTO carries: all but the ID, which is never part of a request body.
+     */
+    static List<FieldMeta> dtoFields(ClassMeta meta) {
+        return meta.getFields().stream()
+                .filter(f -> !f.getName().equalsIgnoreCase("id"))
+                .toList();
+    }
 
-            if (fieldCount > 0) {
-                toStringBuilder.append(", ");
+    /**
+     * Renders the class body: one field, getter and setter per non-ID field, followed by toString().
+     */
+    public static String renderMembers(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
+        }
+
+        Members members = new Members(meta);
+        StringBuilder out = new StringBuilder(members.length());
+        members.appendTo(out);
+        return out.toString();
+    }
+
+    /**
+     * The class body as a template fragment. Its length is measured in a first pass over the fields,
+     * so wide entities do not build per-section strings that are copied into the file afterwards.
+     */
+    private static final class Members implements TemplateFragment {
+
+        private final List<FieldMeta> fields;
+        private final TemplateContext fieldContext;
+        private final TemplateContext toStringContext;
+
+        Members(ClassMeta meta) {
+            this.fields = dtoFields(meta);
+            this.fieldContext = TemplateContext.of(meta);
+            this.toStringContext = TemplateContext.of(meta).with("toStringFields", new ToStringFields());
+        }
+
+        @Override
+        public int length() {
+            int length = 0;
+            for (FieldMeta f : fields) {
+                bind(f);
+                length += FIELD_TEMPLATE.measure(fieldContext)
+                        + GETTER_TEMPLATE.measure(fieldContext)
+                        + SETTER_TEMPLATE.measure(fieldContext);
             }
-            toStringBuilder.append(String.format("%s='\" + %s + \"'", fieldName, fieldName));
-            fieldCount++;
+            return length + toStringTemplate().measure(toStringContext);
         }
 
-        String toStringMethod;
-        if (fieldCount > 0) {
-            toStringMethod = String.format("""
-                    
-                    @Override
-                    public String toString() {
-                        return "%sDto{" +
-                                "%s" +
-                                "}";
-                    }
-                    """, meta.getClassName(), toStringBuilder.toString());
-        } else {
-            toStringMethod = String.format("""
-                    
-                    @Override
-                    public String toString() {
-                        return "%sDto{}";
-                    }
-                    """, meta.getClassName());
+        @Override
+        public void appendTo(StringBuilder out) {
+            // Add fields with validation and OpenAPI schema annotations
+            for (FieldMeta f : fields) {
+                FIELD_TEMPLATE.renderTo(bind(f), out);
+            }
+
+            // Add getters and setters
+            for (FieldMeta f : fields) {
+                GETTER_TEMPLATE.renderTo(bind(f), out);
+                SETTER_TEMPLATE.renderTo(fieldContext, out);
+            }
+
+            toStringTemplate().renderTo(toStringContext, out);
         }
 
-        String code = String.format("""
-                package %s;
-                
-                import io.swagger.v3.oas.annotations.media.Schema;
-                import jakarta.validation.constraints.NotNull;
-                
-                /**
-                 * DTO for %s entity.
-                 */
-                @Schema(description = "Data Transfer Object for %s")
-                public class %sDto {
-                    
-                %s%s%s}
-                """,
-                pkg,
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                fields.toString(),
-                gettersSetters.toString(),
-                toStringMethod);
-
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        meta.getClassName() + "Dto.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
-
-        dir.add(file);
+        private TemplateContext bind(FieldMeta f) {
+            return fieldContext.with("fieldName", f.getName())
+                    .with("fieldType", f.getType())
+                    .with("capitalizedName", f.getCapitalizedName());
+        }
+
+        private Template toStringTemplate() {
+            return fields.isEmpty() ? EMPTY_TO_STRING_TEMPLATE : TO_STRING_TEMPLATE;
+        }
+
+        /**
+         * The {@code name='value'} list inside toString().
+         */
+        private final class ToStringFields implements TemplateFragment {
+
+            @Override
+            public int length() {
+                int length = 2 * Math.max(0, fields.size() - 1);
+                for (FieldMeta f : fields) {
+                    length += TO_STRING_FIELD_TEMPLATE.measure(bind(f));
+                }
+                return length;
+            }
+
+            @Override
+            public void appendTo(StringBuilder out) {
+                for (int i = 0; i < fields.size(); i++) {
+                    if (i > 0) {
+                        out.append(", ");
+                    }
+                    TO_STRING_FIELD_TEMPLATE.renderTo(bind(fields.get(i)), out);
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
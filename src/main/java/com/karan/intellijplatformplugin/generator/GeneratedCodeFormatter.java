@@ -0,0 +1,56 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.karan.intellijplatformplugin.util.HashUtil;
+
+import java.util.Map;
+
+/**
+ * Optimizes imports and reformats all generated Java sources in one pass, after every file has been inserted.
+ * Must be called inside the write command that inserted the files.
+ * The manifest is updated with the formatted text, so the files still count as unmodified on the next run.
+ */
+public final class GeneratedCodeFormatter {
+
+    private GeneratedCodeFormatter() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    public static void format(Project project, Map<String, VirtualFile> sources, GenerationManifest manifest) {
+        if (sources.isEmpty()) {
+            return;
+        }
+
+        // One commit for all inserted documents instead of one per file
+        PsiDocumentManager psiDocuments = PsiDocumentManager.getInstance(project);
+        psiDocuments.commitAllDocuments();
+
+        PsiManager psiManager = PsiManager.getInstance(project);
+        JavaCodeStyleManager imports = JavaCodeStyleManager.getInstance(project);
+        CodeStyleManager codeStyle = CodeStyleManager.getInstance(project);
+        FileDocumentManager documents = FileDocumentManager.getInstance();
+
+        sources.forEach((path, file) -> {
+            if (!file.isValid() || !(psiManager.findFile(file) instanceof PsiJavaFile javaFile)) {
+                return;
+            }
+
+            imports.optimizeImports(javaFile);
+            codeStyle.reformat(javaFile);
+
+            Document document = documents.getDocument(file);
+            if (document != null) {
+                psiDocuments.doPostponedOperationsAndUnblockDocument(document);
+                manifest.recordContent(path, HashUtil.sha256(document.getText()));
+            }
+        });
+    }
+}
@@ -0,0 +1,218 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.util.ExistingFileIndex;
+import com.karan.intellijplatformplugin.util.HashUtil;
+import com.karan.intellijplatformplugin.util.PackageDirectoryCache;
+import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inserts rendered files into the project.
+ * This is the only part of generation that touches PSI or VFS and must run inside a write command.
+ * Existing files are only replaced if the plugin generated them and the user has not edited them since.
+ */
+public final class GeneratedFileWriter {
+
+    private final Project project;
+    private final OutputMode outputMode;
+    private final GenerationManifest manifest;
+    private final ExistingFileIndex existingFiles;
+    private final GenerationReport report;
+    private final Map<String, VirtualFile> writtenSources = new LinkedHashMap<>();
+
+    public GeneratedFileWriter(Project project, OutputMode outputMode, GenerationManifest manifest,
+                               ExistingFileIndex existingFiles, GenerationReport report) {
+        if (project == null || outputMode == null || manifest == null || existingFiles == null || report == null) {
+            throw new IllegalArgumentException("Project, output mode, manifest, file index, and report cannot be null");
+        }
+        if (outputMode == OutputMode.DIRECTORY) {
+            throw new IllegalArgumentException("Directory output is written by DirectoryFileWriter");
+        }
+        this.project = project;
+        this.outputMode = outputMode;
+        this.manifest = manifest;
+        this.existingFiles = existingFiles;
+        this.report = report;
+    }
+
+    public void write(PsiDirectory sourceRoot, List<CrudGenerator.Step> steps) {
+        if (sourceRoot == null || steps == null) {
+            throw new IllegalArgumentException("Source root and steps cannot be null");
+        }
+
+        PackageDirectoryCache directories = new PackageDirectoryCache(sourceRoot.getVirtualFile());
+        for (CrudGenerator.Step step : steps) {
+            List<String> paths = new ArrayList<>();
+            for (GeneratedFile file : step.files()) {
+                try {
+                    String path = switch (file.getLocation()) {
+                        case SOURCE_ROOT -> writeOrUpdate(directories.getOrCreate(file.getPackageName()), file);
+                        case RESOURCES -> writeResource(sourceRoot, file);
+                        case PROJECT_ROOT -> writeProjectDocument(sourceRoot, file);
+                    };
+                    // Sections of one resource file share its path
+                    if (path != null && !paths.contains(path)) {
+                        paths.add(path);
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to write " + file.getFileName(), e);
+                }
+            }
+            manifest.recordStep(step.key(), step.inputHash(), paths);
+        }
+        report.addDirectoryLookups(directories.getHits(), directories.getMisses());
+    }
+
+    /**
+     * Java sources created or updated by this writer, by path.
+     */
+    public Map<String, VirtualFile> getWrittenSources() {
+        return Collections.unmodifiableMap(writtenSources);
+    }
+
+    private String writeProjectDocument(PsiDirectory root, GeneratedFile generated) throws IOException {
+        PsiDirectory projectRoot = PsiDirectoryUtil.getProjectRoot(root);
+        if (projectRoot == null) {
+            return null;
+        }
+
+        return writeOrUpdate(projectRoot.getVirtualFile(), generated);
+    }
+
+    /**
+     * @return the path of the target file, also if it was skipped, so that the step is only
+     *         generated again after its inputs change or one of its files is deleted
+     */
+    private String writeOrUpdate(VirtualFile dir, GeneratedFile generated) throws IOException {
+        long start = System.nanoTime();
+        String path = dir.getPath() + "/" + generated.getFileName();
+
+        // The index answers most lookups; only files known to exist are resolved
+        VirtualFile existing = existingFiles.exists(path) ? dir.findChild(generated.getFileName()) : null;
+        if (existing == null) {
+            String writtenText = create(dir, generated);
+            existingFiles.add(path);
+            manifest.recordContent(path, HashUtil.sha256(writtenText));
+            trackSource(path, dir.findChild(generated.getFileName()), generated);
+            report.fileCreated(generated, System.nanoTime() - start);
+            return path;
+        }
+
+        String writtenHash = manifest.getContentHash(path);
+        if (writtenHash == null) {
+            report.fileSkipped(generated, System.nanoTime() - start,
+                    generated.getWriteMode() == GeneratedFile.WriteMode.SKIP_IF_EXISTS
+                            ? "already exists"
+                            : "written by hand");
+            return path;
+        }
+
+        Document document = FileDocumentManager.getInstance().getDocument(existing);
+        if (document == null) {
+            report.fileSkipped(generated, System.nanoTime() - start, "not a text file");
+            return path;
+        }
+
+        String currentText = document.getText();
+        if (!writtenHash.equals(HashUtil.sha256(currentText))) {
+            report.fileModifiedByUser(generated, System.nanoTime() - start);
+            return path;
+        }
+
+        if (currentText.equals(generated.getContent())) {
+            report.fileUnchanged(generated, System.nanoTime() - start);
+            return path;
+        }
+
+        document.setText(generated.getContent());
+        manifest.recordContent(path, HashUtil.sha256(document.getText()));
+        trackSource(path, existing, generated);
+        report.fileUpdated(generated, System.nanoTime() - start);
+        return path;
+    }
+
+    private void trackSource(String path, VirtualFile file, GeneratedFile generated) {
+        if (file != null && generated.getLocation() == GeneratedFile.Location.SOURCE_ROOT) {
+            writtenSources.put(path, file);
+        }
+    }
+
+    /**
+     * Creates a new file and returns the text it was created with.
+     */
+    private String create(VirtualFile dir, GeneratedFile generated) throws IOException {
+        if (outputMode == OutputMode.VFS) {
+            VirtualFile file = dir.createChildData(this, generated.getFileName());
+            VfsUtil.saveText(file, generated.getContent());
+            return generated.getContent();
+        }
+
+        PsiDirectory psiDir = PsiManager.getInstance(project).findDirectory(dir);
+        if (psiDir == null) {
+            throw new IOException("Cannot resolve directory " + dir.getPath());
+        }
+
+        PsiFileFactory factory = PsiFileFactory.getInstance(project);
+        PsiFile file = generated.getLocation() == GeneratedFile.Location.SOURCE_ROOT
+                ? factory.createFileFromText(generated.getFileName(), JavaFileType.INSTANCE, generated.getContent())
+                : factory.createFileFromText(generated.getFileName(), generated.getContent());
+        return psiDir.add(file).getText();
+    }
+
+    private String writeResource(PsiDirectory root, GeneratedFile generated) {
+        long start = System.nanoTime();
+        try {
+            PsiDirectory resourcesDir = PsiDirectoryUtil.findResourcesDirectory(root);
+            if (resourcesDir == null) {
+                return null;
+            }
+
+            String path = resourcesDir.getVirtualFile().getPath() + "/" + generated.getFileName();
+            PsiFile existingFile = resourcesDir.findFile(generated.getFileName());
+
+            if (existingFile != null) {
+                VirtualFile virtualFile = existingFile.getVirtualFile();
+                if (virtualFile != null && virtualFile.isWritable()) {
+                    String currentContent = new String(virtualFile.contentsToByteArray());
+
+                    // Only add if not already present
+                    if (!currentContent.contains(generated.getMarker())) {
+                        String newContent = currentContent + generated.getContent();
+                        virtualFile.setBinaryContent(newContent.getBytes());
+                        report.fileUpdated(generated, System.nanoTime() - start);
+                    } else {
+                        report.fileUnchanged(generated, System.nanoTime() - start);
+                    }
+                } else {
+                    report.fileSkipped(generated, System.nanoTime() - start, "read-only");
+                    return null;
+                }
+            } else {
+                PsiFile file = PsiFileFactory.getInstance(project)
+                        .createFileFromText(generated.getFileName(), generated.getContent());
+                resourcesDir.add(file);
+                report.fileCreated(generated, System.nanoTime() - start);
+            }
+            // Resource sections are appended to files the user owns: the path is recorded for the step,
+            // but no content hash is kept
+            return path;
+        } catch (IOException e) {
+            report.fileSkipped(generated, System.nanoTime() - start, e.getMessage());
+            return null;
+        }
+    }
+}
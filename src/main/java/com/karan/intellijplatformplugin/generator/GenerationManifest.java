@@ -0,0 +1,69 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.util.ExistingFileIndex;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records what previous runs generated, so that regeneration only re-renders steps whose inputs changed
+ * and never overwrites a generated file the user has edited since.
+ * The public fields are the persisted state (see {@code GenerationManifestService}).
+ */
+public class GenerationManifest {
+
+    /**
+     * Input fingerprint of every generation step, keyed by step.
+     */
+    public Map<String, String> inputHashes = new HashMap<>();
+
+    /**
+     * Paths of the files a step generated, one per line, keyed by step.
+     */
+    public Map<String, String> stepFiles = new HashMap<>();
+
+    /**
+     * Hash of the content last written to a generated file, keyed by path.
+     */
+    public Map<String, String> contentHashes = new HashMap<>();
+
+    /**
+     * Returns true if the step was generated from the same inputs before and all of its files still exist.
+     * A step without recorded files wrote nothing last time (e.g. its target directory was missing),
+     * so it is never up to date.
+     */
+    public synchronized boolean isUpToDate(String step, String inputHash, ExistingFileIndex existingFiles) {
+        String files = stepFiles.get(step);
+        if (files == null || files.isEmpty() || !inputHash.equals(inputHashes.get(step))) {
+            return false;
+        }
+
+        for (String path : files.split("\n")) {
+            if (!path.isEmpty() && !existingFiles.exists(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized boolean hasStep(String step) {
+        return stepFiles.containsKey(step);
+    }
+
+    /**
+     * Returns the hash of the content last written to the file, or null if the plugin never generated it.
+     */
+    public synchronized String getContentHash(String path) {
+        return contentHashes.get(path);
+    }
+
+    public synchronized void recordContent(String path, String contentHash) {
+        contentHashes.put(path, contentHash);
+    }
+
+    public synchronized void recordStep(String step, String inputHash, List<String> paths) {
+        inputHashes.put(step, inputHash);
+        stepFiles.put(step, String.join("\n", paths));
+    }
+}
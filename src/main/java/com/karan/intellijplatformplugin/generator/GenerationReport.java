@@ -0,0 +1,265 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Timings and counters of one generation run, per generator and per phase.
+ * Rendering may run on several threads, so all updates are synchronized.
+ * The non-transient fields are serialized as the JSON report.
+ */
+public final class GenerationReport {
+
+    /**
+     * Cost of a single generator over the run.
+     */
+    public static final class GeneratorStats {
+        private int calls;
+        private long renderNanos;
+        private long bytesRendered;
+        private int filesRendered;
+        private int filesCreated;
+        private int filesUpdated;
+        private int filesSkipped;
+        private long writeNanos;
+
+        public int getCalls() {
+            return calls;
+        }
+
+        public long getRenderNanos() {
+            return renderNanos;
+        }
+
+        public long getBytesRendered() {
+            return bytesRendered;
+        }
+
+        public int getFilesRendered() {
+            return filesRendered;
+        }
+
+        public int getFilesCreated() {
+            return filesCreated;
+        }
+
+        public int getFilesUpdated() {
+            return filesUpdated;
+        }
+
+        public int getFilesSkipped() {
+            return filesSkipped;
+        }
+
+        public long getWriteNanos() {
+            return writeNanos;
+        }
+    }
+
+    private static final String UNKNOWN_GENERATOR = "Unknown";
+
+    private final OutputMode outputMode;
+    private final Map<String, GeneratorStats> generators = new TreeMap<>();
+    private final List<String> skippedFiles = new ArrayList<>();
+    private int entities;
+    private int filesModifiedByUser;
+    private int stepsUpToDate;
+    private int directoryCacheHits;
+    private int directoryCacheMisses;
+    private long analyzeMillis;
+    private long scanMillis;
+    private long renderMillis;
+    private long writeMillis;
+    private long formatMillis;
+    private long totalMillis;
+
+    // Which generator rendered a file, so that write costs can be attributed to it
+    private final transient Map<GeneratedFile, String> fileGenerators = new IdentityHashMap<>();
+
+    public GenerationReport(OutputMode outputMode) {
+        if (outputMode == null) {
+            throw new IllegalArgumentException("Output mode cannot be null");
+        }
+        this.outputMode = outputMode;
+    }
+
+    synchronized void rendered(String generator, long nanos, List<GeneratedFile> files) {
+        GeneratorStats stats = generators.computeIfAbsent(generator, name -> new GeneratorStats());
+        stats.calls++;
+        stats.renderNanos += nanos;
+        for (GeneratedFile file : files) {
+            stats.filesRendered++;
+            stats.bytesRendered += utf8Length(file.getContent());
+            fileGenerators.put(file, generator);
+        }
+    }
+
+    synchronized void stepUpToDate() {
+        stepsUpToDate++;
+    }
+
+    synchronized void fileCreated(GeneratedFile file, long nanos) {
+        GeneratorStats stats = statsOf(file);
+        stats.filesCreated++;
+        stats.writeNanos += nanos;
+    }
+
+    synchronized void fileUpdated(GeneratedFile file, long nanos) {
+        GeneratorStats stats = statsOf(file);
+        stats.filesUpdated++;
+        stats.writeNanos += nanos;
+    }
+
+    synchronized void fileUnchanged(GeneratedFile file, long nanos) {
+        statsOf(file).writeNanos += nanos;
+    }
+
+    synchronized void fileSkipped(GeneratedFile file, long nanos, String reason) {
+        GeneratorStats stats = statsOf(file);
+        stats.filesSkipped++;
+        stats.writeNanos += nanos;
+        skippedFiles.add(file.getFileName() + ": " + reason);
+    }
+
+    /**
+     * A file was kept because the user edited it after it was generated, so its new content was not applied.
+     * Unlike other skips, this needs the user's attention.
+     */
+    synchronized void fileModifiedByUser(GeneratedFile file, long nanos) {
+        fileSkipped(file, nanos, "modified by the user");
+        filesModifiedByUser++;
+    }
+
+    synchronized void addDirectoryLookups(int hits, int misses) {
+        directoryCacheHits += hits;
+        directoryCacheMisses += misses;
+    }
+
+    public synchronized void setEntities(int entities) {
+        this.entities = entities;
+    }
+
+    public synchronized void setAnalyzeMillis(long analyzeMillis) {
+        this.analyzeMillis = analyzeMillis;
+    }
+
+    public synchronized void setScanMillis(long scanMillis) {
+        this.scanMillis = scanMillis;
+    }
+
+    public synchronized void setRenderMillis(long renderMillis) {
+        this.renderMillis = renderMillis;
+    }
+
+    public synchronized void setWriteMillis(long writeMillis) {
+        this.writeMillis = writeMillis;
+    }
+
+    public synchronized void setFormatMillis(long formatMillis) {
+        this.formatMillis = formatMillis;
+    }
+
+    public synchronized void setTotalMillis(long totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+
+    public OutputMode getOutputMode() {
+        return outputMode;
+    }
+
+    public synchronized Map<String, GeneratorStats> getGenerators() {
+        return Collections.unmodifiableMap(new TreeMap<>(generators));
+    }
+
+    public synchronized List<String> getSkippedFiles() {
+        return List.copyOf(skippedFiles);
+    }
+
+    public synchronized int getFilesCreated() {
+        return generators.values().stream().mapToInt(GeneratorStats::getFilesCreated).sum();
+    }
+
+    public synchronized int getFilesUpdated() {
+        return generators.values().stream().mapToInt(GeneratorStats::getFilesUpdated).sum();
+    }
+
+    public synchronized int getFilesSkipped() {
+        return generators.values().stream().mapToInt(GeneratorStats::getFilesSkipped).sum();
+    }
+
+    public synchronized int getFilesModifiedByUser() {
+        return filesModifiedByUser;
+    }
+
+    public synchronized int getStepsUpToDate() {
+        return stepsUpToDate;
+    }
+
+    public synchronized long getTotalMillis() {
+        return totalMillis;
+    }
+
+    /**
+     * Summary lines: phases, file counts and the slowest generators.
+     */
+    public synchronized List<String> summaryLines(int slowestGenerators) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%d entities in %d ms (analyze %d, scan %d, render %d, write %d ms via %s)",
+                entities, totalMillis, analyzeMillis, scanMillis, renderMillis, writeMillis, outputMode));
+        if (formatMillis > 0) {
+            lines.add(String.format("Reformat and import optimization: %d ms", formatMillis));
+        }
+        lines.add(String.format("%d files created, %d updated, %d skipped, %d steps up to date",
+                getFilesCreated(), getFilesUpdated(), getFilesSkipped(), stepsUpToDate));
+        if (filesModifiedByUser > 0) {
+            lines.add(String.format("%d files kept because they were modified since generation", filesModifiedByUser));
+        }
+        lines.add(String.format("Package directories: %d cached, %d resolved",
+                directoryCacheHits, directoryCacheMisses));
+
+        List<Map.Entry<String, GeneratorStats>> slowest = new ArrayList<>(generators.entrySet());
+        slowest.sort(Comparator.comparingLong(
+                (Map.Entry<String, GeneratorStats> entry) -> entry.getValue().renderNanos + entry.getValue().writeNanos)
+                .reversed());
+        int shown = Math.min(slowestGenerators, slowest.size());
+        for (Map.Entry<String, GeneratorStats> entry : slowest.subList(0, shown)) {
+            GeneratorStats stats = entry.getValue();
+            lines.add(String.format("• %s: render %.1f ms, write %.1f ms, %d KB",
+                    entry.getKey(), stats.renderNanos / 1e6, stats.writeNanos / 1e6, stats.bytesRendered / 1024));
+        }
+        return lines;
+    }
+
+    /**
+     * Encoded size of the text, counted without encoding a copy of it.
+     */
+    private static long utf8Length(String text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private GeneratorStats statsOf(GeneratedFile file) {
+        String generator = fileGenerators.getOrDefault(file, UNKNOWN_GENERATOR);
+        return generators.computeIfAbsent(generator, name -> new GeneratorStats());
+    }
+}
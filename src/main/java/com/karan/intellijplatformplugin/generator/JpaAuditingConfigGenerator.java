@@ -1,138 +1,123 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
-import com.karan.intellijplatformplugin.util.FileExistsUtil;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
 
 /**
  * Generates JPA Auditing configuration.
  */
 public class JpaAuditingConfigGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta, boolean withSecurity) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
-        }
+    private static final Template SECURED_TEMPLATE = Template.compile("jpa-auditing-config-secured", """
+                package {{package}};
+                
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+                import org.springframework.data.domain.AuditorAware;
+                import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+                import org.springframework.security.core.Authentication;
+                import org.springframework.security.core.context.SecurityContextHolder;
+                
+                import java.util.Optional;
+                
+                /**
+                 * Configuration for JPA Auditing integrated with Spring Security.
+                 * Automatically tracks createdBy and updatedBy using authenticated username.
+                 */
+                @Configuration
+                @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
+                public class JpaAuditingConfig {
+                    
+                    /**
+                     * Provides the current auditor from Spring Security context.
+                     * Returns authenticated username or "anonymous" if not authenticated.
+                     */
+                    @Bean
+                    public AuditorAware<String> auditorProvider() {
+                        return () -> {
+                            Authentication authentication = SecurityContextHolder
+                                    .getContext()
+                                    .getAuthentication();
+                            
+                            if (authentication == null || !authentication.isAuthenticated()) {
+                                return Optional.of("anonymous");
+                            }
+                            
+                            // Returns username of authenticated user
+                            return Optional.of(authentication.getName());
+                        };
+                    }
+                }
+                """);
 
-        String pkg = meta.basePackage() + ".config";
+    private static final Template TEMPLATE = Template.compile("jpa-auditing-config", """
+                package {{package}};
+                
+                import org.springframework.context.annotation.Bean;
+                import org.springframework.context.annotation.Configuration;
+                import org.springframework.data.domain.AuditorAware;
+                import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+                
+                import java.util.Optional;
+                
+                /**
+                 * Configuration for JPA Auditing.
+                 * Enables automatic population of @CreatedDate, @LastModifiedDate, @CreatedBy, @LastModifiedBy.
+                 */
+                @Configuration
+                @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
+                public class JpaAuditingConfig {
+                    
+                    /**
+                     * Provides the current auditor (user who is creating/modifying the entity).
+                     * 
+                     * Default implementation returns "system".
+                     * 
+                     * To integrate with Spring Security, modify this to return the authenticated user:
+                     * 
+                     * <pre>
+                     * {@code
+                     * @Bean
+                     * public AuditorAware<String> auditorProvider() {
+                     *     return () -> {
+                     *         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                     *         if (authentication == null || !authentication.isAuthenticated()) {
+                     *             return Optional.of("system");
+                     *         }
+                     *         return Optional.of(authentication.getName());
+                     *     };
+                     * }
+                     * }
+                     * </pre>
+                     * 
+                     * @return AuditorAware bean
+                     */
+                    @Bean
+                    public AuditorAware<String> auditorProvider() {
+                        // Default implementation - returns "system"
+                        // TODO: Integrate with authentication to get actual user
+                        return () -> Optional.of("system");
+                    }
+                }
+                """);
 
-        // ✅ CHECK IF FILE ALREADY EXISTS
-        if (FileExistsUtil.fileExistsInPackage(root, pkg, "JpaAuditingConfig.java")) {
-            System.out.println("JpaAuditingConfig.java already exists, skipping generation.");
-            return;
+    public static GeneratedFile render(ClassMeta meta, boolean withSecurity) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
         }
 
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
+        String pkg = meta.basePackage() + ".config";
 
         String code;
 
         if (withSecurity) {
             // Version with Spring Security integration
-            code = String.format("""
-                    package %s;
-                    
-                    import org.springframework.context.annotation.Bean;
-                    import org.springframework.context.annotation.Configuration;
-                    import org.springframework.data.domain.AuditorAware;
-                    import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-                    import org.springframework.security.core.Authentication;
-                    import org.springframework.security.core.context.SecurityContextHolder;
-                    
-                    import java.util.Optional;
-                    
-                    /**
-                     * Configuration for JPA Auditing integrated with Spring Security.
-                     * Automatically tracks createdBy and updatedBy using authenticated username.
-                     */
-                    @Configuration
-                    @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
-                    public class JpaAuditingConfig {
-                        
-                        /**
-                         * Provides the current auditor from Spring Security context.
-                         * Returns authenticated username or "anonymous" if not authenticated.
-                         */
-                        @Bean
-                        public AuditorAware<String> auditorProvider() {
-                            return () -> {
-                                Authentication authentication = SecurityContextHolder
-                                        .getContext()
-                                        .getAuthentication();
-                                
-                                if (authentication == null || !authentication.isAuthenticated()) {
-                                    return Optional.of("anonymous");
-                                }
-                                
-                                // Returns username of authenticated user
-                                return Optional.of(authentication.getName());
-                            };
-                        }
-                    }
-                    """, pkg);
+            code = SECURED_TEMPLATE.render(TemplateContext.shared(meta).with("package", pkg));
         } else {
             // Version without Spring Security
-            code = String.format("""
-                    package %s;
-                    
-                    import org.springframework.context.annotation.Bean;
-                    import org.springframework.context.annotation.Configuration;
-                    import org.springframework.data.domain.AuditorAware;
-                    import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-                    
-                    import java.util.Optional;
-                    
-                    /**
-                     * Configuration for JPA Auditing.
-                     * Enables automatic population of @CreatedDate, @LastModifiedDate, @CreatedBy, @LastModifiedBy.
-                     */
-                    @Configuration
-                    @EnableJpaAuditing(auditorAwareRef = "auditorProvider")
-                    public class JpaAuditingConfig {
-                        
-                        /**
-                         * Provides the current auditor (user who is creating/modifying the entity).
-                         * 
-                         * Default implementation returns "system".
-                         * 
-                         * To integrate with Spring Security, modify this to return the authenticated user:
-                         * 
-                         * <pre>
-                         * {@code
-                         * @Bean
-                         * public AuditorAware<String> auditorProvider() {
-                         *     return () -> {
-                         *         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                         *         if (authentication == null || !authentication.isAuthenticated()) {
-                         *             return Optional.of("system");
-                         *         }
-                         *         return Optional.of(authentication.getName());
-                         *     };
-                         * }
-                         * }
-                         * </pre>
-                         * 
-                         * @return AuditorAware bean
-                         */
-                        @Bean
-                        public AuditorAware<String> auditorProvider() {
-                            // Default implementation - returns "system"
-                            // TODO: Integrate with authentication to get actual user
-                            return () -> Optional.of("system");
-                        }
-                    }
-                    """, pkg);
+            code = TEMPLATE.render(TemplateContext.shared(meta).with("package", pkg));
         }
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        "JpaAuditingConfig.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
-
-        dir.add(file);
+        return GeneratedFile.sharedJavaSource(pkg, "JpaAuditingConfig.java", code);
     }
 }
\ No newline at end of file
@@ -1,95 +1,168 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import com.karan.intellijplatformplugin.model.DtoStyle;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
 
 /**
- * Generates Mapper classes using Spring BeanUtils for reliable property copying.
+ * Generates Mapper classes: Spring BeanUtils property copying for class DTOs,
+ * direct accessor and setter calls for record DTOs.
  */
 public class MapperGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
-        }
+    private static final Template TEMPLATE = Template.compile("mapper", """
+            package {{package}};
+            
+            import {{entityPackage}}.{{entity}};
+            import {{basePackage}}.dto.{{entity}}Dto;
+            import org.springframework.beans.BeanUtils;
+            
+            /**
+             * Mapper for converting between {{entity}} entity and {{entity}}Dto.
+             */
+            public class {{entity}}Mapper {
+            
+                /**
+                 * Converts DTO to entity.
+                 * Copies all matching properties from DTO to entity.
+                 */
+                public static {{entity}} toEntity({{entity}}Dto dto) {
+                    if (dto == null) {
+                        return null;
+                    }
+                    
+                    {{entity}} entity = new {{entity}}();
+                    BeanUtils.copyProperties(dto, entity);
+                    return entity;
+                }
+            
+                /**
+                 * Converts entity to DTO.
+                 * Copies all properties except 'id' from entity to DTO.
+                 */
+                public static {{entity}}Dto toDto({{entity}} entity) {
+                    if (entity == null) {
+                        return null;
+                    }
+                    
+                    {{entity}}Dto dto = new {{entity}}Dto();
+                    BeanUtils.copyProperties(entity, dto, "id");
+                    return dto;
+                }
+            
+                /**
+                 * Updates entity from DTO (preserves ID).
+                 * Copies all properties except 'id' from DTO to entity.
+                 */
+                public static void updateEntity({{entity}} entity, {{entity}}Dto dto) {
+                    if (entity == null || dto == null) {
+                        return;
+                    }
+                    BeanUtils.copyProperties(dto, entity, "id");
+                }
+            }
+            """);
 
-        String pkg = meta.basePackage() + ".mapper";
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
+    private static final Template RECORD_ARGUMENT_TEMPLATE = Template.compile(
+            "mapper-record-argument", "\n                entity.{{getter}}()");
+
+    private static final Template RECORD_SETTER_TEMPLATE = Template.compile("mapper-record-setter", """
+                    entity.set{{capitalizedName}}(dto.{{fieldName}}());
+            """);
 
-        String code = String.format("""
-                package %s;
-                
-                import %s.%s;
-                import %s.dto.%sDto;
-                import org.springframework.beans.BeanUtils;
-                
+    private static final Template RECORD_TEMPLATE = Template.compile("mapper-record", """
+            package {{package}};
+            
+            import {{entityPackage}}.{{entity}};
+            import {{basePackage}}.dto.{{entity}}Dto;
+            
+            /**
+             * Mapper for converting between {{entity}} entity and the {{entity}}Dto record.
+             * Properties are copied by direct calls, without reflection.
+             */
+            public class {{entity}}Mapper {
+            
                 /**
-                 * Mapper for converting between %s entity and %sDto.
+                 * Converts DTO to entity.
                  */
-                public class %sMapper {
-                
-                    /**
-                     * Converts DTO to entity.
-                     * Copies all matching properties from DTO to entity.
-                     */
-                    public static %s toEntity(%sDto dto) {
-                        if (dto == null) {
-                            return null;
-                        }
-                        
-                        %s entity = new %s();
-                        BeanUtils.copyProperties(dto, entity);
-                        return entity;
+                public static {{entity}} toEntity({{entity}}Dto dto) {
+                    if (dto == null) {
+                        return null;
                     }
-                
-                    /**
-                     * Converts entity to DTO.
-                     * Copies all properties except 'id' from entity to DTO.
-                     */
-                    public static %sDto toDto(%s entity) {
-                        if (entity == null) {
-                            return null;
-                        }
-                        
-                        %sDto dto = new %sDto();
-                        BeanUtils.copyProperties(entity, dto, "id");
-                        return dto;
-                    }
-                
-                    /**
-                     * Updates entity from DTO (preserves ID).
-                     * Copies all properties except 'id' from DTO to entity.
-                     */
-                    public static void updateEntity(%s entity, %sDto dto) {
-                        if (entity == null || dto == null) {
-                            return;
-                        }
-                        BeanUtils.copyProperties(dto, entity, "id");
+                    
+                    {{entity}} entity = new {{entity}}();
+                    updateEntity(entity, dto);
+                    return entity;
+                }
+            
+                /**
+                 * Converts entity to DTO.
+                 * Copies all properties except 'id' from entity to DTO.
+                 */
+                public static {{entity}}Dto toDto({{entity}} entity) {
+                    if (entity == null) {
+                        return null;
                     }
+                    
+                    return new {{entity}}Dto({{arguments}});
                 }
-                """,
-                pkg,
-                meta.getPackageName(), meta.getClassName(),
-                meta.basePackage(), meta.getClassName(),
-                meta.getClassName(), meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(), meta.getClassName(),
-                meta.getClassName(), meta.getClassName(),
-                meta.getClassName(), meta.getClassName(),
-                meta.getClassName(), meta.getClassName(),
-                meta.getClassName(), meta.getClassName()
-        );
+            
+                /**
+                 * Updates entity from DTO (preserves ID).
+                 * Sets all properties except 'id' from DTO to entity.
+                 */
+                public static void updateEntity({{entity}} entity, {{entity}}Dto dto) {
+                    if (entity == null || dto == null) {
+                        return;
+                    }
+            {{setters}}    }
+            }
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        return render(meta, GenerationOptions.DEFAULT);
+    }
+
+    public static GeneratedFile render(ClassMeta meta, GenerationOptions options) {
+        if (meta == null || options == null) {
+            throw new IllegalArgumentException("Metadata and options cannot be null");
+        }
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        meta.getClassName() + "Mapper.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
+        String pkg = meta.basePackage() + ".mapper";
+
+        TemplateContext context = TemplateContext.of(meta).with("package", pkg);
+        String code = options.getDtoStyle() == DtoStyle.RECORD
+                ? renderRecordMapper(context, meta)
+                : TEMPLATE.render(context);
+
+        return GeneratedFile.javaSource(pkg, meta.getClassName() + "Mapper.java", code);
+    }
+
+    private static String renderRecordMapper(TemplateContext context, ClassMeta meta) {
+        StringBuilder arguments = new StringBuilder();
+        StringBuilder setters = new StringBuilder();
+        for (FieldMeta f : DtoGenerator.dtoFields(meta)) {
+            if (!arguments.isEmpty()) {
+                arguments.append(',');
+            }
+            context.with("fieldName", f.getName())
+                    .with("capitalizedName", f.getCapitalizedName())
+                    .with("getter", getterName(f));
+            RECORD_ARGUMENT_TEMPLATE.renderTo(context, arguments);
+            RECORD_SETTER_TEMPLATE.renderTo(context, setters);
+        }
+
+        return RECORD_TEMPLATE.render(context
+                .with("arguments", arguments.toString())
+                .with("setters", setters.toString()));
+    }
 
-        dir.add(file);
+    /**
+     * JavaBeans getter of the entity field: {@code isActive()} for primitive booleans, {@code getName()} otherwise.
+     */
+    private static String getterName(FieldMeta field) {
+        return ("boolean".equals(field.getType()) ? "is" : "get") + field.getCapitalizedName();
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.karan.intellijplatformplugin.generator;
+
+/**
+ * How generated files are created.
+ */
+public enum OutputMode {
+    /**
+     * Rendered text is saved straight to a new virtual file; PSI is only built when something needs it.
+     */
+    VFS,
+    /**
+     * Every file is parsed into a PSI tree and added to its directory.
+     */
+    PSI,
+    /**
+     * Files are written to a plain directory outside of any project (headless generation).
+     */
+    DIRECTORY
+}
@@ -1,196 +1,326 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
-import com.karan.intellijplatformplugin.util.FileExistsUtil;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Generates pagination and sorting support classes.
  */
 public class PaginationGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
+    private static final Template PAGE_RESPONSE_TEMPLATE = Template.compile("pagination-page-response", """
+            package {{package}};
+            
+            import io.swagger.v3.oas.annotations.media.Schema;
+            import java.util.List;
+            
+            /**
+             * Generic paginated response wrapper.
+             * @param <T> Type of content in the page
+             */
+            @Schema(description = "Paginated response wrapper")
+            public class PageResponse<T> {
+                
+                @Schema(description = "List of items in current page")
+                private List<T> content;
+                
+                @Schema(description = "Current page number (0-indexed)", example = "0")
+                private int pageNumber;
+                
+                @Schema(description = "Number of items per page", example = "10")
+                private int pageSize;
+                
+                @Schema(description = "Total number of items", example = "100")
+                private long totalElements;
+                
+                @Schema(description = "Total number of pages", example = "10")
+                private int totalPages;
+                
+                @Schema(description = "Whether this is the first page")
+                private boolean first;
+                
+                @Schema(description = "Whether this is the last page")
+                private boolean last;
+                
+                @Schema(description = "Whether there are more pages")
+                private boolean hasNext;
+                
+                @Schema(description = "Whether there are previous pages")
+                private boolean hasPrevious;
+                
+                public PageResponse() {}
+                
+                public PageResponse(List<T> content, int pageNumber, int pageSize, 
+                                   long totalElements, int totalPages) {
+                    this.content = content;
+                    this.pageNumber = pageNumber;
+                    this.pageSize = pageSize;
+                    this.totalElements = totalElements;
+                    this.totalPages = totalPages;
+                    this.first = pageNumber == 0;
+                    this.last = pageNumber == totalPages - 1;
+                    this.hasNext = pageNumber < totalPages - 1;
+                    this.hasPrevious = pageNumber > 0;
+                }
+                
+                public static <T> PageResponse<T> of(org.springframework.data.domain.Page<T> page) {
+                    return new PageResponse<>(
+                        page.getContent(),
+                        page.getNumber(),
+                        page.getSize(),
+                        page.getTotalElements(),
+                        page.getTotalPages()
+                    );
+                }
+                
+                public List<T> getContent() { return content; }
+                public void setContent(List<T> content) { this.content = content; }
+                
+                public int getPageNumber() { return pageNumber; }
+                public void setPageNumber(int pageNumber) { this.pageNumber = pageNumber; }
+                
+                public int getPageSize() { return pageSize; }
+                public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+                
+                public long getTotalElements() { return totalElements; }
+                public void setTotalElements(long totalElements) { this.totalElements = totalElements; }
+                
+                public int getTotalPages() { return totalPages; }
+                public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
+                
+                public boolean isFirst() { return first; }
+                public void setFirst(boolean first) { this.first = first; }
+                
+                public boolean isLast() { return last; }
+                public void setLast(boolean last) { this.last = last; }
+                
+                public boolean isHasNext() { return hasNext; }
+                public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+                
+                public boolean isHasPrevious() { return hasPrevious; }
+                public void setHasPrevious(boolean hasPrevious) { this.hasPrevious = hasPrevious; }
+                
+                @Override
+                public String toString() {
+                    return "PageResponse{" +
+                            "pageNumber=" + pageNumber +
+                            ", pageSize=" + pageSize +
+                            ", totalElements=" + totalElements +
+                            ", totalPages=" + totalPages +
+                            ", contentSize=" + (content != null ? content.size() : 0) +
+                            '}';
+                }
+            }
+            """);
+
+    private static final Template SLICE_RESPONSE_TEMPLATE = Template.compile("pagination-slice-response", """
+            package {{package}};
+            
+            import io.swagger.v3.oas.annotations.media.Schema;
+            import java.util.List;
+            
+            /**
+             * Paginated response wrapper without totals, which saves the count query a {@code PageResponse} needs.
+             * @param <T> Type of content in the page
+             */
+            @Schema(description = "Paginated response wrapper without totals")
+            public class SliceResponse<T> {
+                
+                @Schema(description = "List of items in current page")
+                private List<T> content;
+                
+                @Schema(description = "Current page number (0-indexed)", example = "0")
+                private int pageNumber;
+                
+                @Schema(description = "Number of items per page", example = "10")
+                private int pageSize;
+                
+                @Schema(description = "Whether there are more pages")
+                private boolean hasNext;
+                
+                public SliceResponse() {}
+                
+                public SliceResponse(List<T> content, int pageNumber, int pageSize, boolean hasNext) {
+                    this.content = content;
+                    this.pageNumber = pageNumber;
+                    this.pageSize = pageSize;
+                    this.hasNext = hasNext;
+                }
+                
+                public static <T> SliceResponse<T> of(org.springframework.data.domain.Slice<T> slice) {
+                    return new SliceResponse<>(
+                        slice.getContent(),
+                        slice.getNumber(),
+                        slice.getSize(),
+                        slice.hasNext()
+                    );
+                }
+                
+                public List<T> getContent() { return content; }
+                public void setContent(List<T> content) { this.content = content; }
+                
+                public int getPageNumber() { return pageNumber; }
+                public void setPageNumber(int pageNumber) { this.pageNumber = pageNumber; }
+                
+                public int getPageSize() { return pageSize; }
+                public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+                
+                public boolean isHasNext() { return hasNext; }
+                public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+                
+                @Override
+                public String toString() {
+                    return "SliceResponse{" +
+                            "pageNumber=" + pageNumber +
+                            ", pageSize=" + pageSize +
+                            ", hasNext=" + hasNext +
+                            ", contentSize=" + (content != null ? content.size() : 0) +
+                            '}';
+                }
+            }
+            """);
+
+    private static final Template CURSOR_PAGE_RESPONSE_TEMPLATE = Template.compile("pagination-cursor-response", """
+            package {{package}};
+            
+            import io.swagger.v3.oas.annotations.media.Schema;
+            import java.util.List;
+            
+            /**
+             * Keyset-paginated response wrapper. Carries no totals, as computing them would need a count query.
+             * @param <T> Type of content in the page
+             */
+            @Schema(description = "Keyset-paginated response wrapper")
+            public class CursorPageResponse<T> {
+                
+                @Schema(description = "List of items in current page")
+                private List<T> content;
+                
+                @Schema(description = "Number of items per page", example = "10")
+                private int pageSize;
+                
+                @Schema(description = "Opaque cursor of the next page, null on the last page", example = "MTA")
+                private String nextCursor;
+                
+                @Schema(description = "Whether there are more pages")
+                private boolean hasNext;
+                
+                public CursorPageResponse() {}
+                
+                public CursorPageResponse(List<T> content, int pageSize, String nextCursor) {
+                    this.content = content;
+                    this.pageSize = pageSize;
+                    this.nextCursor = nextCursor;
+                    this.hasNext = nextCursor != null;
+                }
+                
+                public List<T> getContent() { return content; }
+                public void setContent(List<T> content) { this.content = content; }
+                
+                public int getPageSize() { return pageSize; }
+                public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+                
+                public String getNextCursor() { return nextCursor; }
+                public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+                
+                public boolean isHasNext() { return hasNext; }
+                public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+                
+                @Override
+                public String toString() {
+                    return "CursorPageResponse{" +
+                            "pageSize=" + pageSize +
+                            ", nextCursor=" + nextCursor +
+                            ", contentSize=" + (content != null ? content.size() : 0) +
+                            '}';
+                }
+            }
+            """);
+
+    private static final Template SORT_DIRECTION_TEMPLATE = Template.compile("pagination-sort-direction", """
+            package {{package}};
+            
+            /**
+             * Enum for sort direction.
+             */
+            public enum SortDirection {
+                /**
+                 * Ascending order (A-Z, 0-9, oldest-newest)
+                 */
+                ASC,
+                
+                /**
+                 * Descending order (Z-A, 9-0, newest-oldest)
+                 */
+                DESC
+            }
+            """);
+
+    public static List<GeneratedFile> render(ClassMeta meta) {
+        return render(meta, GenerationOptions.DEFAULT);
+    }
+
+    public static List<GeneratedFile> render(ClassMeta meta, GenerationOptions options) {
+        if (meta == null || options == null) {
+            throw new IllegalArgumentException("Metadata and options cannot be null");
         }
 
-        generatePageResponseDto(project, root, meta);
-        generateSortDirection(project, root, meta);
+        List<GeneratedFile> files = new ArrayList<>();
+        files.add(renderPageResponseDto(meta));
+        // Slice pagination is chosen per entity, so the wrapper is always there for the entities that use it
+        files.add(renderSliceResponseDto(meta));
+        if (options.isCursorEndpoint()) {
+            files.add(renderCursorPageResponseDto(meta));
+        }
+        files.add(renderSortDirection(meta));
+        return files;
     }
 
     /**
      * Generates PageResponse DTO for paginated results
      */
-    private static void generatePageResponseDto(Project project, PsiDirectory root, ClassMeta meta) {
+    private static GeneratedFile renderPageResponseDto(ClassMeta meta) {
         String pkg = meta.basePackage() + ".dto";
 
-        // ✅ CHECK IF FILE ALREADY EXISTS
-        if (FileExistsUtil.fileExistsInPackage(root, pkg, "PageResponse.java")) {
-            System.out.println("PageResponse.java already exists, skipping generation.");
-            return;
-        }
+        String code = PAGE_RESPONSE_TEMPLATE.render(TemplateContext.shared(meta).with("package", pkg));
 
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
+        return GeneratedFile.sharedJavaSource(pkg, "PageResponse.java", code);
+    }
 
-        // ... rest of the code remains the same ...
-        String code = String.format("""
-                package %s;
-                
-                import io.swagger.v3.oas.annotations.media.Schema;
-                import java.util.List;
-                
-                /**
-                 * Generic paginated response wrapper.
-                 * @param <T> Type of content in the page
-                 */
-                @Schema(description = "Paginated response wrapper")
-                public class PageResponse<T> {
-                    
-                    @Schema(description = "List of items in current page")
-                    private List<T> content;
-                    
-                    @Schema(description = "Current page number (0-indexed)", example = "0")
-                    private int pageNumber;
-                    
-                    @Schema(description = "Number of items per page", example = "10")
-                    private int pageSize;
-                    
-                    @Schema(description = "Total number of items", example = "100")
-                    private long totalElements;
-                    
-                    @Schema(description = "Total number of pages", example = "10")
-                    private int totalPages;
-                    
-                    @Schema(description = "Whether this is the first page")
-                    private boolean first;
-                    
-                    @Schema(description = "Whether this is the last page")
-                    private boolean last;
-                    
-                    @Schema(description = "Whether there are more pages")
-                    private boolean hasNext;
-                    
-                    @Schema(description = "Whether there are previous pages")
-                    private boolean hasPrevious;
-                    
-                    public PageResponse() {}
-                    
-                    public PageResponse(List<T> content, int pageNumber, int pageSize, 
-                                       long totalElements, int totalPages) {
-                        this.content = content;
-                        this.pageNumber = pageNumber;
-                        this.pageSize = pageSize;
-                        this.totalElements = totalElements;
-                        this.totalPages = totalPages;
-                        this.first = pageNumber == 0;
-                        this.last = pageNumber == totalPages - 1;
-                        this.hasNext = pageNumber < totalPages - 1;
-                        this.hasPrevious = pageNumber > 0;
-                    }
-                    
-                    public static <T> PageResponse<T> of(org.springframework.data.domain.Page<T> page) {
-                        return new PageResponse<>(
-                            page.getContent(),
-                            page.getNumber(),
-                            page.getSize(),
-                            page.getTotalElements(),
-                            page.getTotalPages()
-                        );
-                    }
-                    
-                    public List<T> getContent() { return content; }
-                    public void setContent(List<T> content) { this.content = content; }
-                    
-                    public int getPageNumber() { return pageNumber; }
-                    public void setPageNumber(int pageNumber) { this.pageNumber = pageNumber; }
-                    
-                    public int getPageSize() { return pageSize; }
-                    public void setPageSize(int pageSize) { this.pageSize = pageSize; }
-                    
-                    public long getTotalElements() { return totalElements; }
-                    public void setTotalElements(long totalElements) { this.totalElements = totalElements; }
-                    
-                    public int getTotalPages() { return totalPages; }
-                    public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
-                    
-                    public boolean isFirst() { return first; }
-                    public void setFirst(boolean first) { this.first = first; }
-                    
-                    public boolean isLast() { return last; }
-                    public void setLast(boolean last) { this.last = last; }
-                    
-                    public boolean isHasNext() { return hasNext; }
-                    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
-                    
-                    public boolean isHasPrevious() { return hasPrevious; }
-                    public void setHasPrevious(boolean hasPrevious) { this.hasPrevious = hasPrevious; }
-                    
-                    @Override
-                    public String toString() {
-                        return "PageResponse{" +
-                                "pageNumber=" + pageNumber +
-                                ", pageSize=" + pageSize +
-                                ", totalElements=" + totalElements +
-                                ", totalPages=" + totalPages +
-                                ", contentSize=" + (content != null ? content.size() : 0) +
-                                '}';
-                    }
-                }
-                """, pkg);
+    /**
+     * Generates SliceResponse DTO for paginated results without totals
+     */
+    private static GeneratedFile renderSliceResponseDto(ClassMeta meta) {
+        String pkg = meta.basePackage() + ".dto";
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        "PageResponse.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
+        String code = SLICE_RESPONSE_TEMPLATE.render(TemplateContext.shared(meta).with("package", pkg));
 
-        dir.add(file);
+        return GeneratedFile.sharedJavaSource(pkg, "SliceResponse.java", code);
     }
 
     /**
-     * Generates SortDirection enum
+     * Generates CursorPageResponse DTO for keyset-paginated results
      */
-    private static void generateSortDirection(Project project, PsiDirectory root, ClassMeta meta) {
+    private static GeneratedFile renderCursorPageResponseDto(ClassMeta meta) {
         String pkg = meta.basePackage() + ".dto";
 
-        // ✅ CHECK IF FILE ALREADY EXISTS
-        if (FileExistsUtil.fileExistsInPackage(root, pkg, "SortDirection.java")) {
-            System.out.println("SortDirection.java already exists, skipping generation.");
-            return;
-        }
+        String code = CURSOR_PAGE_RESPONSE_TEMPLATE.render(TemplateContext.shared(meta).with("package", pkg));
 
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
+        return GeneratedFile.sharedJavaSource(pkg, "CursorPageResponse.java", code);
+    }
 
-        String code = String.format("""
-                package %s;
-                
-                /**
-                 * Enum for sort direction.
-                 */
-                public enum SortDirection {
-                    /**
-                     * Ascending order (A-Z, 0-9, oldest-newest)
-                     */
-                    ASC,
-                    
-                    /**
-                     * Descending order (Z-A, 9-0, newest-oldest)
-                     */
-                    DESC
-                }
-                """, pkg);
+    /**
+     * Generates SortDirection enum
+     */
+    private static GeneratedFile renderSortDirection(ClassMeta meta) {
+        String pkg = meta.basePackage() + ".dto";
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        "SortDirection.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
+        String code = SORT_DIRECTION_TEMPLATE.render(TemplateContext.shared(meta).with("package", pkg));
 
-        dir.add(file);
+        return GeneratedFile.sharedJavaSource(pkg, "SortDirection.java", code);
     }
 }
\ No newline at end of file
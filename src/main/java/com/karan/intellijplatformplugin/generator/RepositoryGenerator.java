@@ -1,52 +1,96 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
 
 /**
  * Generates Spring Data JPA Repository interfaces.
  */
 public class RepositoryGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
-        }
+    private static final Template STREAM_TEMPLATE = Template.compile("repository-stream", """
+
+                /**
+                 * Streams all entities, fetching {{fetchSize}} rows per round trip instead of loading the whole table.
+                 * Must be consumed inside a transaction and closed after use.
+                 */
+                @QueryHints({
+                        @QueryHint(name = "org.hibernate.fetchSize", value = "{{fetchSize}}"),
+                        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+                })
+                Stream<{{entity}}> streamAllBy();
+            """);
+
+    private static final Template SLICE_TEMPLATE = Template.compile("repository-slice", """
+
+                /**
+                 * Returns a page as a slice, which reads one extra row instead of running a count query.
+                 */
+                Slice<{{entity}}> findAllBy(Pageable pageable);
+            """);
+
+    private static final Template CURSOR_TEMPLATE = Template.compile("repository-cursor", """
 
-        String pkg = meta.basePackage() + ".repository";
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
-
-        String code = String.format("""
-                package %s;
-                
-                import %s.%s;
-                import org.springframework.data.jpa.repository.JpaRepository;
-                import org.springframework.stereotype.Repository;
-                
                 /**
-                 * Repository interface for %s entity.
+                 * Next keyset page in ascending ID order; seeks through the primary key index instead of an offset.
                  */
-                @Repository
-                public interface %sRepository extends JpaRepository<%s, %s> {
-                }
-                """,
-                pkg,
-                meta.getPackageName(), meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(), meta.getIdType()
-        );
-
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        meta.getClassName() + "Repository.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
-
-        dir.add(file);
+                Slice<{{entity}}> findByIdGreaterThan({{idType}} id, Pageable pageable);
+
+                /**
+                 * Next keyset page in descending ID order.
+                 */
+                Slice<{{entity}}> findByIdLessThan({{idType}} id, Pageable pageable);
+            """);
+
+    private static final Template TEMPLATE = Template.compile("repository", """
+            package {{package}};
+
+            {{imports}}/**
+             * Repository interface for {{entity}} entity.
+             */
+            @Repository
+            public interface {{entity}}Repository extends JpaRepository<{{entity}}, {{idType}}> {
+            {{members}}}
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        return render(meta, GenerationOptions.DEFAULT);
+    }
+
+    public static GeneratedFile render(ClassMeta meta, GenerationOptions options) {
+        if (meta == null || options == null) {
+            throw new IllegalArgumentException("Metadata and options cannot be null");
+        }
+
+        String pkg = meta.basePackage() + ".repository";
+
+        ClassParts parts = new ClassParts().imports(
+                meta.getPackageName() + "." + meta.getClassName(),
+                "org.springframework.data.jpa.repository.JpaRepository",
+                "org.springframework.stereotype.Repository");
+        TemplateContext context = TemplateContext.of(meta)
+                .with("package", pkg)
+                .with("fetchSize", String.valueOf(options.getProfile().getExportFetchSize()));
+
+        StringBuilder members = new StringBuilder();
+        if (options.isExportEndpoint()) {
+            parts.imports("jakarta.persistence.QueryHint",
+                    "org.springframework.data.jpa.repository.QueryHints",
+                    "java.util.stream.Stream");
+            members.append(STREAM_TEMPLATE.render(context));
+        }
+        // Slice pagination, the first keyset page and pages counted by the count cache share the count-free query
+        if (options.isSlicePagination(meta) || options.isCursorEndpoint() || options.isCountCache()) {
+            parts.imports("org.springframework.data.domain.Pageable", "org.springframework.data.domain.Slice");
+            members.append(SLICE_TEMPLATE.render(context));
+        }
+        if (options.isCursorEndpoint()) {
+            members.append(CURSOR_TEMPLATE.render(context));
+        }
+
+        String code = TEMPLATE.render(parts.applyTo(context).with("members", members.toString()));
+
+        return GeneratedFile.javaSource(pkg, meta.getClassName() + "Repository.java", code);
     }
-}
\ No newline at end of file
+}
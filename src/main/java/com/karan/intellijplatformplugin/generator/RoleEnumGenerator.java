@@ -1,61 +1,46 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
-import com.karan.intellijplatformplugin.util.FileExistsUtil;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
 
 /**
  * Generates Role enum for user roles.
  */
 public class RoleEnumGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
-        }
-
-        String pkg = meta.basePackage() + ".entity";
-        // CHECK IF FILE ALREADY EXISTS
-        if (FileExistsUtil.fileExistsInPackage(root, pkg, "Role.java")) {
-            System.out.println("Role.java already exists, skipping generation.");
-            return;
-        }
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
-
-        String code = String.format("""
-                package %s;
+    private static final Template TEMPLATE = Template.compile("role-enum", """
+            package {{package}};
+            
+            /**
+             * User roles for authorization.
+             */
+            public enum Role {
+                /**
+                 * Regular user with basic permissions
+                 */
+                USER,
                 
                 /**
-                 * User roles for authorization.
+                 * Administrator with full permissions
                  */
-                public enum Role {
-                    /**
-                     * Regular user with basic permissions
-                     */
-                    USER,
-                    
-                    /**
-                     * Administrator with full permissions
-                     */
-                    ADMIN,
-                    
-                    /**
-                     * Moderator with limited administrative permissions
-                     */
-                    MODERATOR
-                }
-                """, pkg);
+                ADMIN,
+                
+                /**
+                 * Moderator with limited administrative permissions
+                 */
+                MODERATOR
+            }
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
+        }
+
+        String pkg = meta.basePackage() + ".entity";
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        "Role.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
+        String code = TEMPLATE.render(TemplateContext.shared(meta).with("package", pkg));
 
-        dir.add(file);
+        return GeneratedFile.sharedJavaSource(pkg, "Role.java", code);
     }
 }
\ No newline at end of file
@@ -1,268 +1,459 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
 
 /**
  * Generates Service layer classes with CRUD operations, pagination, and sorting.
  */
 public class ServiceGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
-        }
+    private static final Template FIND_ALL_TEMPLATE = Template.compile("service-find-all", """
+            
+                /**
+                 * Retrieves all entities.
+                 */
+                public List<{{entity}}> findAll() {
+                    log.debug("Finding all {{entity}} entities");
+                    return repository.findAll();
+                }
+            """);
 
-        String pkg = meta.basePackage() + ".service";
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
+    private static final Template STREAM_ALL_TEMPLATE = Template.compile("service-stream-all", """
+            
+                /**
+                 * Streams all entities to the consumer inside a read-only transaction, {{fetchSize}} rows at a time.
+                 * Each entity is detached once consumed, so memory use does not grow with the table.
+                 *
+                 * @param consumer Receives each entity
+                 */
+                public void streamAll(Consumer<{{entity}}> consumer) {
+                    log.debug("Streaming all {{entity}} entities");
+                    try (Stream<{{entity}}> entities = repository.streamAllBy()) {
+                        entities.forEach(entity -> {
+                            consumer.accept(entity);
+                            entityManager.detach(entity);
+                        });
+                    }
+                }
+            """);
+
+    private static final Template PAGE_QUERY_TEMPLATE = Template.compile("service-page-query", """
+                    Page<{{entity}}> result = repository.findAll(pageable);
+            """);
 
-        String code = String.format("""
-                package %s;
-                
-                import %s.%s;
-                import %s.dto.%sDto;
-                import %s.mapper.%sMapper;
-                import %s.repository.%sRepository;
-                import %s.exception.ResourceNotFoundException;
-                import %s.exception.BadRequestException;
-                import org.slf4j.Logger;
-                import org.slf4j.LoggerFactory;
-                import org.springframework.data.domain.Page;
-                import org.springframework.data.domain.PageRequest;
-                import org.springframework.data.domain.Pageable;
-                import org.springframework.data.domain.Sort;
-                import org.springframework.stereotype.Service;
-                import org.springframework.transaction.annotation.Transactional;
-                
-                import java.util.List;
-                
+    private static final Template CACHED_PAGE_QUERY_TEMPLATE = Template.compile("service-page-query-cached", """
+                    // Only the rows are queried: the total comes from the count cache,
+                    // and on the last page it follows from the number of rows
+                    Slice<{{entity}}> rows = repository.findAllBy(pageable);
+                    Page<{{entity}}> result = PageableExecutionUtils.getPage(rows.getContent(), pageable, this::count);
+            """);
+
+    private static final Template FIND_PAGE_TEMPLATE = Template.compile("service-find-page", """
                 /**
-                 * Service class for %s entity operations with pagination and sorting support.
+                 * Retrieves paginated and sorted entities.
+                 * 
+                 * @param page Page number (0-indexed)
+                 * @param size Number of items per page
+                 * @param sortBy Field name to sort by
+                 * @param sortDirection Sort direction (ASC or DESC)
+                 * @return Paginated result
                  */
-                @Service
-                @Transactional(readOnly = true)
-                public class %sService {
-                
-                    private static final Logger log = LoggerFactory.getLogger(%sService.class);
-                    private final %sRepository repository;
-                
-                    public %sService(%sRepository repository) {
-                        this.repository = repository;
+                public Page<{{entity}}> findAllPaginated(int page, int size, String sortBy, String sortDirection) {
+                    log.debug("Finding paginated {{entity}} - page: {}, size: {}, sortBy: {}, direction: {}", 
+                              page, size, sortBy, sortDirection);
+                    
+                    if (page < 0) {
+                        throw new BadRequestException("Page number cannot be negative");
                     }
-                
-                    /**
-                     * Retrieves all entities.
-                     */
-                    public List<%s> findAll() {
-                        log.debug("Finding all %s entities");
-                        return repository.findAll();
+                    
+                    if (size <= 0) {
+                        throw new BadRequestException("Page size must be greater than 0");
                     }
-                
-                    /**
-                     * Retrieves paginated and sorted entities.
-                     * 
-                     * @param page Page number (0-indexed)
-                     * @param size Number of items per page
-                     * @param sortBy Field name to sort by
-                     * @param sortDirection Sort direction (ASC or DESC)
-                     * @return Paginated result
-                     */
-                    public Page<%s> findAllPaginated(int page, int size, String sortBy, String sortDirection) {
-                        log.debug("Finding paginated %s - page: {}, size: {}, sortBy: {}, direction: {}", 
-                                  page, size, sortBy, sortDirection);
-                        
-                        if (page < 0) {
-                            throw new BadRequestException("Page number cannot be negative");
-                        }
-                        
-                        if (size <= 0) {
-                            throw new BadRequestException("Page size must be greater than 0");
-                        }
-                        
-                        if (size > 100) {
-                            log.warn("Page size {} is too large, limiting to 100", size);
-                            size = 100;
-                        }
-                        
-                        Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC") 
-                                ? Sort.Direction.DESC 
-                                : Sort.Direction.ASC;
-                        
-                        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-                        
-                        Page<%s> result = repository.findAll(pageable);
-                        log.debug("Found {} entities in page {} of {}", 
-                                  result.getNumberOfElements(), page, result.getTotalPages());
-                        
-                        return result;
+                    
+                    if (size > {{maxPageSize}}) {
+                        log.warn("Page size {} is too large, limiting to {{maxPageSize}}", size);
+                        size = {{maxPageSize}};
                     }
-                
-                    /**
-                     * Retrieves an entity by ID.
-                     * 
-                     * @param id Entity ID
-                     * @return Entity
-                     * @throws ResourceNotFoundException if entity not found
-                     */
-                    public %s findById(%s id) {
-                        log.debug("Finding %s by id: {}", id);
-                        
-                        if (id == null) {
-                            throw new BadRequestException("ID cannot be null");
-                        }
-                        
-                        return repository.findById(id)
-                                .orElseThrow(() -> new ResourceNotFoundException(
-                                        "%s", "id", id
-                                ));
+                    
+                    Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC") 
+                            ? Sort.Direction.DESC 
+                            : Sort.Direction.ASC;
+                    
+                    Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+                    
+            {{pageQuery}}        log.debug("Found {} entities in page {} of {}", 
+                              result.getNumberOfElements(), page, result.getTotalPages());
+                    
+                    return result;
+                }
+            """);
+
+    private static final Template FIND_SLICE_TEMPLATE = Template.compile("service-find-slice", """
+                /**
+                 * Retrieves a sorted slice of entities.
+                 * Unlike a page, a slice carries no totals, so no count query runs.
+                 * 
+                 * @param page Page number (0-indexed)
+                 * @param size Number of items per page
+                 * @param sortBy Field name to sort by
+                 * @param sortDirection Sort direction (ASC or DESC)
+                 * @return Slice of entities, telling whether more follow
+                 */
+                public Slice<{{entity}}> findAllPaginated(int page, int size, String sortBy, String sortDirection) {
+                    log.debug("Finding paginated {{entity}} - page: {}, size: {}, sortBy: {}, direction: {}", 
+                              page, size, sortBy, sortDirection);
+                    
+                    if (page < 0) {
+                        throw new BadRequestException("Page number cannot be negative");
                     }
-                
-                    /**
-                     * Creates a new entity from DTO.
-                     * 
-                     * @param dto Entity DTO
-                     * @return Created entity
-                     * @throws BadRequestException if DTO is invalid
-                     */
-                    @Transactional
-                    public %s create(%sDto dto) {
-                        log.info("Creating new %s from DTO: {}", dto);
-                        
-                        if (dto == null) {
-                            throw new BadRequestException("DTO cannot be null");
-                        }
-                        
-                        %s entity = %sMapper.toEntity(dto);
-                        log.info("Mapped entity before save: {}", entity);
-                        
-                        %s saved = repository.save(entity);
-                        log.info("Saved entity: {}", saved);
-                        
-                        return saved;
+                    
+                    if (size <= 0) {
+                        throw new BadRequestException("Page size must be greater than 0");
                     }
-                
-                    /**
-                     * Updates an existing entity from DTO.
-                     * 
-                     * @param id Entity ID
-                     * @param dto Entity DTO
-                     * @return Updated entity
-                     * @throws ResourceNotFoundException if entity not found
-                     * @throws BadRequestException if DTO is invalid
-                     */
-                    @Transactional
-                    public %s update(%s id, %sDto dto) {
-                        log.info("Updating %s with id: {} from DTO: {}", id, dto);
-                        
-                        if (id == null) {
-                            throw new BadRequestException("ID cannot be null");
-                        }
-                        
-                        if (dto == null) {
-                            throw new BadRequestException("DTO cannot be null");
-                        }
-                        
-                        %s entity = findById(id);
-                        log.info("Entity before update: {}", entity);
-                        
-                        %sMapper.updateEntity(entity, dto);
-                        log.info("Entity after mapping: {}", entity);
-                        
-                        %s updated = repository.save(entity);
-                        log.info("Updated entity: {}", updated);
-                        
-                        return updated;
+                    
+                    if (size > {{maxPageSize}}) {
+                        log.warn("Page size {} is too large, limiting to {{maxPageSize}}", size);
+                        size = {{maxPageSize}};
                     }
-                
-                    /**
-                     * Deletes an entity by ID.
-                     * 
-                     * @param id Entity ID
-                     * @throws ResourceNotFoundException if entity not found
-                     * @throws BadRequestException if ID is invalid
-                     */
-                    @Transactional
-                    public void delete(%s id) {
-                        log.info("Deleting %s with id: {}", id);
-                        
-                        if (id == null) {
-                            throw new BadRequestException("ID cannot be null");
-                        }
-                        
-                        %s entity = findById(id);
-                        repository.delete(entity);
-                        
-                        log.info("Deleted %s with id: {}", id);
+                    
+                    Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC") 
+                            ? Sort.Direction.DESC 
+                            : Sort.Direction.ASC;
+                    
+                    Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+                    
+                    Slice<{{entity}}> result = repository.findAllBy(pageable);
+                    log.debug("Found {} entities in page {}, has next: {}", 
+                              result.getNumberOfElements(), page, result.hasNext());
+                    
+                    return result;
+                }
+            """);
+
+    private static final Template CURSOR_TEMPLATE = Template.compile("service-cursor", """
+            
+                /**
+                 * Retrieves the page after the cursor, ordered by ID. The query seeks past the cursor through the
+                 * primary key index and runs no count query, so a page deep into the table costs the same as the first.
+                 *
+                 * @param cursor Cursor returned with the previous page, or null for the first page
+                 * @param size Number of items per page
+                 * @param sortDirection ID order (ASC or DESC), kept the same while following cursors
+                 * @return Page of entities with the cursor of the next page
+                 */
+                public CursorPageResponse<{{entity}}> findAllByCursor(String cursor, int size, String sortDirection) {
+                    log.debug("Finding {{entity}} after cursor: {}, size: {}, direction: {}", 
+                              cursor, size, sortDirection);
+                    
+                    if (size <= 0) {
+                        throw new BadRequestException("Page size must be greater than 0");
+                    }
+                    
+                    if (size > {{maxPageSize}}) {
+                        log.warn("Page size {} is too large, limiting to {{maxPageSize}}", size);
+                        size = {{maxPageSize}};
                     }
-                
-                    /**
-                     * Checks if an entity exists by ID.
-                     * 
-                     * @param id Entity ID
-                     * @return true if exists, false otherwise
-                     */
-                    public boolean existsById(%s id) {
-                        if (id == null) {
-                            return false;
+                    
+                    Sort.Direction direction = sortDirection.equalsIgnoreCase("DESC") 
+                            ? Sort.Direction.DESC 
+                            : Sort.Direction.ASC;
+                    
+                    // Always the first page of the remaining rows: the cursor replaces the offset
+                    Pageable pageable = PageRequest.of(0, size, Sort.by(direction, "id"));
+                    
+                    Slice<{{entity}}> slice;
+                    if (cursor == null || cursor.isBlank()) {
+                        slice = repository.findAllBy(pageable);
+                    } else if (direction == Sort.Direction.ASC) {
+                        slice = repository.findByIdGreaterThan(decodeCursor(cursor), pageable);
+                    } else {
+                        slice = repository.findByIdLessThan(decodeCursor(cursor), pageable);
+                    }
+                    
+                    List<{{entity}}> content = slice.getContent();
+                    String nextCursor = slice.hasNext() ? encodeCursor(content.get(content.size() - 1).getId()) : null;
+                    log.debug("Found {} entities, has next: {}", content.size(), slice.hasNext());
+                    
+                    return new CursorPageResponse<>(content, size, nextCursor);
+                }
+            
+                private static String encodeCursor({{idType}} id) {
+                    return Base64.getUrlEncoder().withoutPadding()
+                            .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+                }
+            
+                private static {{idType}} decodeCursor(String cursor) {
+                    try {
+                        String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                        {{idType}} id = DefaultConversionService.getSharedInstance().convert(value, {{idType}}.class);
+                        if (id != null) {
+                            return id;
                         }
-                        return repository.existsById(id);
+                    } catch (IllegalArgumentException | ConversionException e) {
+                        log.debug("Cannot decode cursor {}", cursor, e);
                     }
-                
-                    /**
-                     * Counts all entities.
-                     * 
-                     * @return Total count
-                     */
-                    public long count() {
-                        return repository.count();
+                    throw new BadRequestException("Invalid cursor: " + cursor);
+                }
+            """);
+
+    private static final Template FIND_DTO_BY_ID_TEMPLATE = Template.compile("service-find-dto-by-id", """
+            
+                /**
+                 * Retrieves an entity by ID as a DTO, from the cache if present.
+                 * The DTO is cached rather than the entity: a cached entity would be detached, so its lazy
+                 * associations could not be loaded, and every caller would share and modify the same instance.
+                 * 
+                 * @param id Entity ID
+                 * @return DTO of the entity
+                 * @throws ResourceNotFoundException if entity not found
+                 */
+                @Cacheable(cacheNames = "{{cacheName}}", key = "#id")
+                public {{entity}}Dto findDtoById({{idType}} id) {
+                    return {{entity}}Mapper.toDto(findById(id));
+                }
+            """);
+
+    private static final Template TEMPLATE = Template.compile("service", """
+            package {{package}};
+            
+            {{imports}}/**
+             * Service class for {{entity}} entity operations with pagination and sorting support.
+             */
+            @Service
+            @Transactional(readOnly = true)
+            public class {{entity}}Service {
+            
+                private static final Logger log = LoggerFactory.getLogger({{entity}}Service.class);
+            {{fields}}
+                public {{entity}}Service({{constructorParameters}}) {
+            {{constructorAssignments}}    }
+            {{listMethods}}
+            {{findPaginated}}{{cursorMethods}}
+                /**
+                 * Retrieves an entity by ID.
+                 * 
+                 * @param id Entity ID
+                 * @return Entity
+                 * @throws ResourceNotFoundException if entity not found
+                 */
+                public {{entity}} findById({{idType}} id) {
+                    log.debug("Finding {{entity}} by id: {}", id);
+                    
+                    if (id == null) {
+                        throw new BadRequestException("ID cannot be null");
                     }
+                    
+                    return repository.findById(id)
+                            .orElseThrow(() -> new ResourceNotFoundException(
+                                    "{{entity}}", "id", id
+                            ));
                 }
-                """,
-                pkg,
-                meta.getPackageName(), meta.getClassName(),
-                meta.basePackage(), meta.getClassName(),
-                meta.basePackage(), meta.getClassName(),
-                meta.basePackage(), meta.getClassName(),
-                meta.basePackage(),
-                meta.basePackage(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(), meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(), meta.getIdType(), meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(), meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(), meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(), meta.getIdType(), meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getIdType(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getIdType()
-        );
+            {{findDtoById}}
+                /**
+                 * Creates a new entity from DTO.
+                 * 
+                 * @param dto Entity DTO
+                 * @return Created entity
+                 * @throws BadRequestException if DTO is invalid
+                 */
+                @Transactional
+                public {{entity}} create({{entity}}Dto dto) {
+                    log.info("Creating new {{entity}} from DTO: {}", dto);
+                    
+                    if (dto == null) {
+                        throw new BadRequestException("DTO cannot be null");
+                    }
+                    
+                    {{entity}} entity = {{entity}}Mapper.toEntity(dto);
+                    log.info("Mapped entity before save: {}", entity);
+                    
+                    {{entity}} saved = repository.save(entity);
+            {{countChanged}}        log.info("Saved entity: {}", saved);
+                    
+                    return saved;
+                }
+            
+                /**
+                 * Updates an existing entity from DTO.
+                 * 
+                 * @param id Entity ID
+                 * @param dto Entity DTO
+                 * @return Updated entity
+                 * @throws ResourceNotFoundException if entity not found
+                 * @throws BadRequestException if DTO is invalid
+                 */
+                @Transactional
+            {{updateCache}}    public {{entity}} update({{idType}} id, {{entity}}Dto dto) {
+                    log.info("Updating {{entity}} with id: {} from DTO: {}", id, dto);
+                    
+                    if (id == null) {
+                        throw new BadRequestException("ID cannot be null");
+                    }
+                    
+                    if (dto == null) {
+                        throw new BadRequestException("DTO cannot be null");
+                    }
+                    
+                    {{entity}} entity = findById(id);
+                    log.info("Entity before update: {}", entity);
+                    
+                    {{entity}}Mapper.updateEntity(entity, dto);
+                    log.info("Entity after mapping: {}", entity);
+                    
+                    {{entity}} updated = repository.save(entity);
+                    log.info("Updated entity: {}", updated);
+                    
+                    return updated;
+                }
+            
+                /**
+                 * Deletes an entity by ID.
+                 * 
+                 * @param id Entity ID
+                 * @throws ResourceNotFoundException if entity not found
+                 * @throws BadRequestException if ID is invalid
+                 */
+                @Transactional
+            {{deleteCache}}    public void delete({{idType}} id) {
+                    log.info("Deleting {{entity}} with id: {}", id);
+                    
+                    if (id == null) {
+                        throw new BadRequestException("ID cannot be null");
+                    }
+                    
+                    {{entity}} entity = findById(id);
+                    repository.delete(entity);
+            {{countChanged}}        
+                    log.info("Deleted {{entity}} with id: {}", id);
+                }
+            
+                /**
+                 * Checks if an entity exists by ID.
+                 * 
+                 * @param id Entity ID
+                 * @return true if exists, false otherwise
+                 */
+                public boolean existsById({{idType}} id) {
+                    if (id == null) {
+                        return false;
+                    }
+                    return repository.existsById(id);
+                }
+            
+                /**
+                 * Counts all entities.
+                 * 
+                 * @return Total count
+                 */
+                public long count() {
+                    return {{countQuery}};
+                }
+            }
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        return render(meta, GenerationOptions.DEFAULT);
+    }
+
+    public static GeneratedFile render(ClassMeta meta, GenerationOptions options) {
+        if (meta == null || options == null) {
+            throw new IllegalArgumentException("Metadata and options cannot be null");
+        }
+
+        String pkg = meta.basePackage() + ".service";
+        String entity = meta.getClassName();
+
+        ClassParts parts = new ClassParts()
+                .imports(meta.getPackageName() + "." + entity,
+                        meta.basePackage() + ".dto." + entity + "Dto",
+                        meta.basePackage() + ".mapper." + entity + "Mapper",
+                        meta.basePackage() + ".repository." + entity + "Repository",
+                        meta.basePackage() + ".exception.ResourceNotFoundException",
+                        meta.basePackage() + ".exception.BadRequestException",
+                        "org.slf4j.Logger",
+                        "org.slf4j.LoggerFactory",
+                        "org.springframework.data.domain.PageRequest",
+                        "org.springframework.data.domain.Pageable",
+                        "org.springframework.data.domain.Sort",
+                        "org.springframework.stereotype.Service",
+                        "org.springframework.transaction.annotation.Transactional")
+                .inject(entity + "Repository", "repository");
+        TemplateContext context = TemplateContext.of(meta)
+                .with("package", pkg)
+                .with("maxPageSize", String.valueOf(options.getProfile().getMaxPageSize()))
+                .with("fetchSize", String.valueOf(options.getProfile().getExportFetchSize()));
+
+        if (options.isCountCache()) {
+            parts.inject("EntityCountCache", "countCache");
+            context.with("countQuery", "countCache.get(\"" + entity + "\", repository::count)")
+                    .with("countChanged", "        countCache.invalidateAfterCommit(\"" + entity + "\");\n")
+                    .with("pageQuery", CACHED_PAGE_QUERY_TEMPLATE.render(context));
+        } else {
+            context.with("countQuery", "repository.count()")
+                    .with("countChanged", "")
+                    .with("pageQuery", PAGE_QUERY_TEMPLATE.render(context));
+        }
+
+        // Only DTOs are cached. findById keeps returning the managed entity that update and delete change,
+        // and those evict the cached DTO once their transaction commits.
+        if (options.isEntityCache()) {
+            String cacheName = meta.getClassName().toLowerCase();
+            parts.imports("org.springframework.cache.annotation.CacheEvict",
+                    "org.springframework.cache.annotation.Cacheable");
+            String evict = "    @CacheEvict(cacheNames = \"" + cacheName + "\", key = \"#id\")\n";
+            context.with("cacheName", cacheName)
+                    .with("findDtoById", FIND_DTO_BY_ID_TEMPLATE.render(context))
+                    .with("updateCache", evict)
+                    .with("deleteCache", evict);
+        } else {
+            context.with("findDtoById", "")
+                    .with("updateCache", "")
+                    .with("deleteCache", "");
+        }
+
+        String findPaginated;
+        if (options.isSlicePagination(meta)) {
+            parts.imports("org.springframework.data.domain.Slice");
+            findPaginated = FIND_SLICE_TEMPLATE.render(context);
+        } else {
+            parts.imports("org.springframework.data.domain.Page");
+            if (options.isCountCache()) {
+                parts.imports("org.springframework.data.domain.Slice",
+                        "org.springframework.data.support.PageableExecutionUtils");
+            }
+            findPaginated = FIND_PAGE_TEMPLATE.render(context);
+        }
+
+        StringBuilder listMethods = new StringBuilder();
+        if (options.isListEndpoint()) {
+            parts.imports("java.util.List");
+            listMethods.append(FIND_ALL_TEMPLATE.render(context));
+        }
+        if (options.isExportEndpoint()) {
+            parts.imports("jakarta.persistence.EntityManager", "java.util.function.Consumer", "java.util.stream.Stream")
+                    .inject("EntityManager", "entityManager");
+            listMethods.append(STREAM_ALL_TEMPLATE.render(context));
+        }
+
+        String cursorMethods = "";
+        if (options.isCursorEndpoint()) {
+            parts.imports(meta.basePackage() + ".dto.CursorPageResponse",
+                    "org.springframework.core.convert.ConversionException",
+                    "org.springframework.core.convert.support.DefaultConversionService",
+                    "org.springframework.data.domain.Slice",
+                    "java.nio.charset.StandardCharsets",
+                    "java.util.Base64",
+                    "java.util.List");
+            cursorMethods = CURSOR_TEMPLATE.render(context);
+        }
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        meta.getClassName() + "Service.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
+        String code = TEMPLATE.render(parts.applyTo(context)
+                .with("listMethods", listMethods.toString())
+                .with("findPaginated", findPaginated)
+                .with("cursorMethods", cursorMethods));
 
-        dir.add(file);
+        return GeneratedFile.javaSource(pkg, entity + "Service.java", code);
     }
-}
\ No newline at end of file
+}
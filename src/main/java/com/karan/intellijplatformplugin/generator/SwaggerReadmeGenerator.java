@@ -1,34 +1,17 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.PsiDirectory;
-import com.intellij.psi.PsiFile;
-import com.intellij.psi.PsiFileFactory;
 import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
 
 /**
  * Generates README with Springdoc OpenAPI setup instructions.
  */
 public class SwaggerReadmeGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            return;
-        }
-
-        PsiDirectory projectRoot = root;
-        while (projectRoot.getParentDirectory() != null &&
-                !projectRoot.getName().equals("src")) {
-            projectRoot = projectRoot.getParentDirectory();
-        }
-        if (projectRoot.getName().equals("src")) {
-            projectRoot = projectRoot.getParentDirectory();
-        }
-
-        String readme = String.format("""
+    private static final Template TEMPLATE = Template.compile("swagger-readme", """
                 # API Documentation with Springdoc OpenAPI 3.0
                 
-                ## Generated CRUD API for %s
+                ## Generated CRUD API for {{entity}}
                 
                 This project includes complete OpenAPI 3.0 documentation for all REST endpoints.
                 
@@ -130,17 +113,17 @@ public class SwaggerReadmeGenerator {
                 springdoc.swagger-ui.tags-sorter=alpha
 ```
                 
-                ## 🔗 API Endpoints for %s
+                ## 🔗 API Endpoints for {{entity}}
                 
                 | Method | Endpoint | Description |
                 |--------|----------|-------------|
-                | GET | `/api/%s` | Get all %s |
-                | GET | `/api/%s/{id}` | Get %s by ID |
-                | POST | `/api/%s` | Create new %s |
-                | PUT | `/api/%s/{id}` | Update %s by ID |
-                | DELETE | `/api/%s/{id}` | Delete %s by ID |
-                | HEAD | `/api/%s/{id}` | Check if %s exists |
-                | GET | `/api/%s/count` | Count all %s |
+                | GET | `/api/{{entityLower}}` | Get all {{entity}} |
+                | GET | `/api/{{entityLower}}/{id}` | Get {{entity}} by ID |
+                | POST | `/api/{{entityLower}}` | Create new {{entity}} |
+                | PUT | `/api/{{entityLower}}/{id}` | Update {{entity}} by ID |
+                | DELETE | `/api/{{entityLower}}/{id}` | Delete {{entity}} by ID |
+                | HEAD | `/api/{{entityLower}}/{id}` | Check if {{entity}} exists |
+                | GET | `/api/{{entityLower}}/count` | Count all {{entity}} |
                 
                 ## 🛡️ Exception Handling
                 
@@ -268,23 +251,15 @@ public class SwaggerReadmeGenerator {
                 **Generated by Spring Boot CRUD Generator Plugin v1.0.3**
                 
                 For issues or suggestions, please report on GitHub.
-                """,
-                meta.getClassName(),
-                meta.getClassName(),
-                meta.getClassName().toLowerCase(), meta.getClassName(),
-                meta.getClassName().toLowerCase(), meta.getClassName(),
-                meta.getClassName().toLowerCase(), meta.getClassName(),
-                meta.getClassName().toLowerCase(), meta.getClassName(),
-                meta.getClassName().toLowerCase(), meta.getClassName(),
-                meta.getClassName().toLowerCase(), meta.getClassName(),
-                meta.getClassName().toLowerCase(), meta.getClassName()
-        );
-
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText("API_DOCUMENTATION.md", readme);
+                """);
 
-        if (projectRoot != null && projectRoot.findFile("API_DOCUMENTATION.md") == null) {
-            projectRoot.add(file);
+    public static GeneratedFile render(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
         }
+
+        String readme = TEMPLATE.render(TemplateContext.of(meta));
+
+        return GeneratedFile.projectDocument("API_DOCUMENTATION.md", readme);
     }
 }
\ No newline at end of file
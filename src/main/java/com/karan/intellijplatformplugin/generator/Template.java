@@ -0,0 +1,144 @@
+package com.karan.intellijplatformplugin.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A code template compiled once into literal and placeholder segments.
+ * Placeholders use the {@code {{name}}} syntax and are resolved by name from a {@link TemplateContext}.
+ * Compiled templates are immutable and can be shared between threads.
+ */
+public final class Template {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+
+    // literals[i] precedes placeholders[i]; the last literal follows the last placeholder
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private Template(String name, String[] literals, String[] placeholders) {
+        this.name = name;
+        this.literals = literals;
+        this.placeholders = placeholders;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses the template source into segments.
+     * Text between braces that is not a valid placeholder name is kept as a literal.
+     */
+    public static Template compile(String source) {
+        return compile(null, source);
+    }
+
+    /**
+     * Compiles a template that projects can replace through {@link TemplateOverrides} under the given name.
+     */
+    public static Template compile(String name, String source) {
+        if (source == null) {
+            throw new IllegalArgumentException("Template source cannot be null");
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int pos = 0;
+        while (pos < source.length()) {
+            int open = source.indexOf(OPEN, pos);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+
+            String placeholder = source.substring(open + OPEN.length(), close);
+            if (isPlaceholderName(placeholder)) {
+                literal.append(source, pos, open);
+                literals.add(literal.toString());
+                placeholders.add(placeholder);
+                literal.setLength(0);
+            } else {
+                literal.append(source, pos, close + CLOSE.length());
+            }
+            pos = close + CLOSE.length();
+        }
+        literal.append(source, pos, source.length());
+        literals.add(literal.toString());
+
+        return new Template(name, literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the override name, or null if the template cannot be overridden.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Renders the template, or the project's override of it, into a buffer sized exactly for the result.
+     *
+     * @throws IllegalArgumentException if the context has no value for a placeholder
+     */
+    public String render(TemplateContext context) {
+        StringBuilder out = new StringBuilder(measure(context));
+        renderTo(context, out);
+        return out.toString();
+    }
+
+    /**
+     * Returns the exact length of the rendered template.
+     */
+    public int measure(TemplateContext context) {
+        if (context == null) {
+            throw new IllegalArgumentException("Template context cannot be null");
+        }
+
+        Template template = context.resolve(this);
+        int length = template.literalLength;
+        for (String placeholder : template.placeholders) {
+            length += context.lengthOf(placeholder);
+        }
+        return length;
+    }
+
+    /**
+     * Appends the rendered template to {@code out} without building intermediate strings.
+     */
+    public void renderTo(TemplateContext context, StringBuilder out) {
+        if (context == null || out == null) {
+            throw new IllegalArgumentException("Template context and output cannot be null");
+        }
+
+        Template template = context.resolve(this);
+        out.append(template.literals[0]);
+        for (int i = 0; i < template.placeholders.length; i++) {
+            context.appendTo(template.placeholders[i], out);
+            out.append(template.literals[i + 1]);
+        }
+    }
+
+    private static boolean isPlaceholderName(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Named values used to render a {@link Template}.
+ */
+public final class TemplateContext {
+
+    // String or TemplateFragment values
+    private final Map<String, Object> values = new HashMap<>();
+    private TemplateOverrides overrides = TemplateOverrides.current(null);
+
+    /**
+     * Creates a context with the values every entity template needs:
+     * entity, entityLower, entityPackage, basePackage and idType.
+     */
+    public static TemplateContext of(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
+        }
+
+        return shared(meta)
+                .with("entity", meta.getClassName())
+                .with("entityLower", meta.getClassName().toLowerCase())
+                .with("entityPackage", meta.getPackageName())
+                .with("idType", meta.getIdType());
+    }
+
+    /**
+     * Creates a context for artifacts shared by all entities of a base package, with only basePackage set.
+     * Like {@link #of}, it renders the template overrides of the entity's project.
+     */
+    public static TemplateContext shared(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
+        }
+
+        TemplateContext context = new TemplateContext().with("basePackage", meta.basePackage());
+        context.overrides = TemplateOverrides.current(meta.getTemplateDirectory());
+        return context;
+    }
+
+    /**
+     * Sets (or replaces) a value and returns this context.
+     */
+    public TemplateContext with(String name, String value) {
+        if (name == null || value == null) {
+            throw new IllegalArgumentException("Template value name and value cannot be null");
+        }
+        values.put(name, value);
+        return this;
+    }
+
+    /**
+     * Sets (or replaces) a value that is rendered in place, and returns this context.
+     */
+    public TemplateContext with(String name, TemplateFragment fragment) {
+        if (name == null || fragment == null) {
+            throw new IllegalArgumentException("Template value name and fragment cannot be null");
+        }
+        values.put(name, fragment);
+        return this;
+    }
+
+    Template resolve(Template template) {
+        return overrides.resolve(template);
+    }
+
+    int lengthOf(String name) {
+        Object value = value(name);
+        return value instanceof String text
+                ? text.length()
+                : ((TemplateFragment) value).length();
+    }
+
+    void appendTo(String name, StringBuilder out) {
+        Object value = value(name);
+        if (value instanceof String text) {
+            out.append(text);
+        } else {
+            ((TemplateFragment) value).appendTo(out);
+        }
+    }
+
+    private Object value(String name) {
+        Object value = values.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("No value for template placeholder: " + name);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,15 @@
+package com.karan.intellijplatformplugin.generator;
+
+/**
+ * A placeholder value that is written straight into the output of a {@link Template},
+ * so that large sections (such as the members of a wide entity) never exist as a separate string.
+ */
+public interface TemplateFragment {
+
+    /**
+     * Exact number of characters {@link #appendTo} appends.
+     */
+    int length();
+
+    void appendTo(StringBuilder out);
+}
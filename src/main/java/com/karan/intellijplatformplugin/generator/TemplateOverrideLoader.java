@@ -0,0 +1,69 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the template override directory of a project through the VFS.
+ * An override that is open in an editor is read from its document, so unsaved edits are rendered too;
+ * its freshness is keyed on the document's modification stamp, otherwise on the file's.
+ */
+public final class TemplateOverrideLoader {
+
+    private TemplateOverrideLoader() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Refreshes the overrides of the directory; see {@link TemplateOverrides#refresh}.
+     *
+     * @param directory the override directory, or null if the project has none
+     */
+    public static TemplateOverrides load(String directory) {
+        if (directory == null) {
+            return TemplateOverrides.current(null);
+        }
+
+        return ReadAction.compute(() -> load(directory, LocalFileSystem.getInstance().findFileByPath(directory)));
+    }
+
+    /**
+     * Refreshes the overrides registered under the directory path from the given directory.
+     * Must be called inside a read action.
+     */
+    static TemplateOverrides load(String directory, VirtualFile dir) {
+        List<TemplateOverrides.Source> sources = new ArrayList<>();
+        if (dir != null && dir.isDirectory()) {
+            FileDocumentManager documents = FileDocumentManager.getInstance();
+            for (VirtualFile file : dir.getChildren()) {
+                String fileName = file.getName();
+                if (file.isDirectory() || !fileName.endsWith(TemplateOverrides.EXTENSION)) {
+                    continue;
+                }
+
+                String name = fileName.substring(0, fileName.length() - TemplateOverrides.EXTENSION.length());
+                Document document = documents.getCachedDocument(file);
+                sources.add(document != null
+                        ? new TemplateOverrides.Source(name, document.getModificationStamp(), document::getText)
+                        : new TemplateOverrides.Source(name, file.getModificationStamp(), () -> loadText(file)));
+            }
+        }
+        return TemplateOverrides.refresh(directory, sources);
+    }
+
+    private static String loadText(VirtualFile file) {
+        try {
+            return VfsUtilCore.loadText(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read template override " + file.getPath(), e);
+        }
+    }
+}
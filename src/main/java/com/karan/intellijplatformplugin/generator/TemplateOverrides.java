@@ -0,0 +1,105 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.util.HashUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Project-specific replacements for built-in templates, one {@code <template name>.tpl} file per template
+ * in {@code .idea/crud-templates} (e.g. {@code controller.tpl}, {@code dto-field.tpl}).
+ * <p>
+ * The directory is read once per generation run by {@link TemplateOverrideLoader}; sources are compiled when
+ * they are first seen and only compiled again after their modification stamp changed. Rendering reads the
+ * compiled templates without any file access. Built-in templates are used for every template without an override.
+ */
+public final class TemplateOverrides {
+
+    public static final String DIRECTORY = ".idea/crud-templates";
+    public static final String EXTENSION = ".tpl";
+
+    private static final TemplateOverrides NONE = new TemplateOverrides(Map.of(), "");
+    private static final Map<String, TemplateOverrides> BY_DIRECTORY = new ConcurrentHashMap<>();
+
+    /**
+     * An override source found in the directory. The text is only read if the stamp differs from the one
+     * the template was last compiled from.
+     */
+    public record Source(String name, long modificationStamp, Supplier<String> text) {
+    }
+
+    private record Compiled(long modificationStamp, Template template, String sourceHash) {
+    }
+
+    private final Map<String, Compiled> templates;
+    private final String fingerprint;
+
+    private TemplateOverrides(Map<String, Compiled> templates, String fingerprint) {
+        this.templates = templates;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Replaces the overrides of the directory, reusing the compiled templates of unchanged sources.
+     * Called at the start of a generation run, before any template of the directory is rendered.
+     *
+     * @param directory the override directory, or null if the project has none
+     * @param sources   the sources currently in the directory; empty if it does not exist
+     */
+    public static synchronized TemplateOverrides refresh(String directory, List<Source> sources) {
+        if (directory == null) {
+            return NONE;
+        }
+        if (sources.isEmpty()) {
+            BY_DIRECTORY.remove(directory);
+            return NONE;
+        }
+
+        TemplateOverrides previous = current(directory);
+        Map<String, Compiled> templates = new TreeMap<>();
+        for (Source source : sources) {
+            Compiled compiled = previous.templates.get(source.name());
+            if (compiled == null || compiled.modificationStamp() != source.modificationStamp()) {
+                String text = source.text().get();
+                compiled = new Compiled(source.modificationStamp(), Template.compile(source.name(), text),
+                        HashUtil.sha256(text));
+            }
+            templates.put(source.name(), compiled);
+        }
+
+        StringBuilder hashes = new StringBuilder();
+        templates.forEach((name, compiled) -> hashes.append(name).append('=').append(compiled.sourceHash()));
+        TemplateOverrides overrides = new TemplateOverrides(templates, HashUtil.sha256(hashes.toString()));
+        BY_DIRECTORY.put(directory, overrides);
+        return overrides;
+    }
+
+    /**
+     * Returns the overrides read by the last {@link #refresh} of the directory.
+     */
+    public static TemplateOverrides current(String directory) {
+        return directory == null
+                ? NONE
+                : BY_DIRECTORY.getOrDefault(directory, NONE);
+    }
+
+    /**
+     * Hash of all override sources, empty if there are none. Part of the generation fingerprint,
+     * so editing an override regenerates the files rendered from it.
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    Template resolve(Template builtIn) {
+        if (templates.isEmpty() || builtIn.getName() == null) {
+            return builtIn;
+        }
+
+        Compiled override = templates.get(builtIn.getName());
+        return override != null ? override.template() : builtIn;
+    }
+}
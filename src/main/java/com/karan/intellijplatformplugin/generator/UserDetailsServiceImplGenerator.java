@@ -1,68 +1,53 @@
 package com.karan.intellijplatformplugin.generator;
 
-import com.intellij.ide.highlighter.JavaFileType;
-import com.intellij.openapi.project.Project;
-import com.intellij.psi.*;
 import com.karan.intellijplatformplugin.model.ClassMeta;
-import com.karan.intellijplatformplugin.util.FileExistsUtil;
-import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
 
 /**
  * Generates UserDetailsService implementation.
  */
 public class UserDetailsServiceImplGenerator {
 
-    public static void generate(Project project, PsiDirectory root, ClassMeta meta) {
-        if (project == null || root == null || meta == null) {
-            throw new IllegalArgumentException("Project, root directory, and metadata cannot be null");
-        }
-
-        String pkg = meta.basePackage() + ".security";
-        // CHECK IF FILE ALREADY EXISTS
-        if (FileExistsUtil.fileExistsInPackage(root, pkg, "UserDetailsServiceImpl.java")) {
-            System.out.println("UserDetailsServiceImpl.java already exists, skipping generation.");
-            return;
-        }
-        PsiDirectory dir = PsiDirectoryUtil.createPackageDirs(root, pkg);
-
-        String code = String.format("""
-                package %s;
+    private static final Template TEMPLATE = Template.compile("user-details-service-impl", """
+            package {{package}};
+            
+            import {{basePackage}}.repository.AppUserRepository;
+            import org.springframework.security.core.userdetails.UserDetails;
+            import org.springframework.security.core.userdetails.UserDetailsService;
+            import org.springframework.security.core.userdetails.UsernameNotFoundException;
+            import org.springframework.stereotype.Service;
+            
+            /**
+             * UserDetailsService implementation for loading user data.
+             */
+            @Service
+            public class UserDetailsServiceImpl implements UserDetailsService {
                 
-                import %s.repository.AppUserRepository;
-                import org.springframework.security.core.userdetails.UserDetails;
-                import org.springframework.security.core.userdetails.UserDetailsService;
-                import org.springframework.security.core.userdetails.UsernameNotFoundException;
-                import org.springframework.stereotype.Service;
+                private final AppUserRepository repository;
                 
-                /**
-                 * UserDetailsService implementation for loading user data.
-                 */
-                @Service
-                public class UserDetailsServiceImpl implements UserDetailsService {
-                    
-                    private final AppUserRepository repository;
-                    
-                    public UserDetailsServiceImpl(AppUserRepository repository) {
-                        this.repository = repository;
-                    }
-                    
-                    @Override
-                    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-                        return repository.findByUsername(username)
-                                .orElseThrow(() -> new UsernameNotFoundException(
-                                        "User not found with username: " + username
-                                ));
-                    }
+                public UserDetailsServiceImpl(AppUserRepository repository) {
+                    this.repository = repository;
                 }
-                """, pkg, meta.basePackage());
+                
+                @Override
+                public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+                    return repository.findByUsername(username)
+                            .orElseThrow(() -> new UsernameNotFoundException(
+                                    "User not found with username: " + username
+                            ));
+                }
+            }
+            """);
+
+    public static GeneratedFile render(ClassMeta meta) {
+        if (meta == null) {
+            throw new IllegalArgumentException("Metadata cannot be null");
+        }
+
+        String pkg = meta.basePackage() + ".security";
 
-        PsiFile file = PsiFileFactory.getInstance(project)
-                .createFileFromText(
-                        "UserDetailsServiceImpl.java",
-                        JavaFileType.INSTANCE,
-                        code
-                );
+        String code = TEMPLATE.render(TemplateContext.of(meta).with("package", pkg));
 
-        dir.add(file);
+        return GeneratedFile.sharedJavaSource(pkg, "UserDetailsServiceImpl.java", code);
     }
 }
\ No newline at end of file
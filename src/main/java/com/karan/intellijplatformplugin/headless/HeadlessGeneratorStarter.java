@@ -0,0 +1,192 @@
+package com.karan.intellijplatformplugin.headless;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarter;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.project.ProjectManager;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.karan.intellijplatformplugin.generator.CrudGenerator;
+import com.karan.intellijplatformplugin.generator.DirectoryFileWriter;
+import com.karan.intellijplatformplugin.generator.GenerationReport;
+import com.karan.intellijplatformplugin.generator.OutputMode;
+import com.karan.intellijplatformplugin.generator.TemplateOverrideLoader;
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.model.GenerationProfile;
+import com.karan.intellijplatformplugin.service.GenerationReportWriter;
+import com.karan.intellijplatformplugin.service.GeneratorSettings;
+import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Command line entry point for CI and bulk generation, started through the IDE launcher:
+ * <pre>
+ * idea.sh springboot-crud [--security] [--profile=NAME] [--entities=path,...] &lt;projectDir&gt; &lt;outputDir&gt;
+ * </pre>
+ * The project is opened headless to extract entity metadata, the generators run in parallel across all cores
+ * and the files are written below the output directory, laid out like a module ({@code src/main/java}, ...).
+ * The generation options configured for the project are used; {@code --profile} overrides their profile
+ * and the cursor endpoint and caches it turns on or off.
+ */
+public final class HeadlessGeneratorStarter implements ApplicationStarter {
+
+    private static final String USAGE =
+            "Usage: springboot-crud [--security] [--profile=NAME] [--entities=path,...] <projectDir> <outputDir>";
+
+    @Override
+    public int getRequiredModality() {
+        return NOT_IN_EDT;
+    }
+
+    @Override
+    public void main(@NotNull List<String> args) {
+        int exitCode;
+        try {
+            // The first argument is the command name
+            exitCode = run(args.subList(1, args.size()));
+        } catch (Exception e) {
+            System.err.println("Failed to generate CRUD code: " + e.getMessage());
+            e.printStackTrace();
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(List<String> args) throws Exception {
+        boolean includeSecurity = false;
+        GenerationProfile profile = null;
+        List<String> entityPaths = new ArrayList<>();
+        List<String> positional = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("--security")) {
+                includeSecurity = true;
+            } else if (arg.startsWith("--profile=")) {
+                try {
+                    profile = GenerationProfile.valueOf(arg.substring("--profile=".length()));
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Unknown profile: " + arg + ", expected one of "
+                            + Arrays.stream(GenerationProfile.values()).map(Enum::name).toList());
+                    return 2;
+                }
+            } else if (arg.startsWith("--entities=")) {
+                entityPaths.addAll(List.of(arg.substring("--entities=".length()).split(",")));
+            } else if (arg.startsWith("--")) {
+                System.err.println("Unknown option: " + arg);
+                System.err.println(USAGE);
+                return 2;
+            } else {
+                positional.add(arg);
+            }
+        }
+        if (positional.size() != 2) {
+            System.err.println(USAGE);
+            return 2;
+        }
+
+        Path projectDir = Path.of(positional.get(0)).toAbsolutePath().normalize();
+        Path outputDir = Path.of(positional.get(1)).toAbsolutePath().normalize();
+        if (!Files.isDirectory(projectDir)) {
+            System.err.println("Project directory does not exist: " + projectDir);
+            return 2;
+        }
+
+        long startTime = System.nanoTime();
+        Project project = ProjectUtil.openOrImport(projectDir.toString(), null, false);
+        if (project == null) {
+            System.err.println("Cannot open project: " + projectDir);
+            return 1;
+        }
+
+        try {
+            DumbService.getInstance(project).waitForSmartMode();
+            GenerationOptions options = GeneratorSettings.getInstance(project).getOptions();
+            if (profile != null) {
+                options = options.withProfileDefaults(profile);
+            }
+            return generate(project, projectDir, entityPaths, outputDir, includeSecurity, options, startTime);
+        } finally {
+            ApplicationManager.getApplication().invokeAndWait(() ->
+                    ProjectManager.getInstance().closeAndDispose(project));
+        }
+    }
+
+    private static int generate(Project project, Path projectDir, List<String> entityPaths, Path outputDir,
+                                boolean includeSecurity, GenerationOptions options, long startTime)
+            throws Exception {
+        GenerationReport report = new GenerationReport(OutputMode.DIRECTORY);
+
+        VirtualFile[] roots = resolveRoots(projectDir, entityPaths);
+        List<ClassMeta> entities = ReadAction.compute(() -> PsiDirectoryUtil.collectEntityClasses(project, roots)
+                .stream()
+                .map(PsiDirectoryUtil::toClassMeta)
+                .toList());
+        if (entities.isEmpty()) {
+            System.err.println("No @Entity classes found in " + projectDir);
+            return 1;
+        }
+        report.setEntities(entities.size());
+        long analyzedTime = System.nanoTime();
+        report.setAnalyzeMillis((analyzedTime - startTime) / 1_000_000);
+
+        entities.stream()
+                .map(ClassMeta::getTemplateDirectory)
+                .distinct()
+                .forEach(TemplateOverrideLoader::load);
+
+        // Shared artifacts once per base package, entity layers once per entity, all in parallel
+        Map<String, ClassMeta> sharedByBasePackage = new LinkedHashMap<>();
+        for (ClassMeta meta : entities) {
+            sharedByBasePackage.putIfAbsent(meta.basePackage(), meta);
+        }
+        boolean withSecurity = includeSecurity;
+        List<GeneratedFile> files = Stream.concat(
+                        sharedByBasePackage.values().parallelStream()
+                                .map(meta -> CrudGenerator.renderShared(meta, withSecurity, options, report)),
+                        entities.parallelStream()
+                                .map(meta -> CrudGenerator.renderEntity(meta, options, report)))
+                .flatMap(List::stream)
+                .toList();
+        long renderedTime = System.nanoTime();
+        report.setRenderMillis((renderedTime - analyzedTime) / 1_000_000);
+
+        Files.createDirectories(outputDir);
+        new DirectoryFileWriter(outputDir, report).write(files);
+        long endTime = System.nanoTime();
+        report.setWriteMillis((endTime - renderedTime) / 1_000_000);
+        report.setTotalMillis((endTime - startTime) / 1_000_000);
+
+        GenerationReportWriter.writeJson(outputDir.resolve(GenerationReportWriter.REPORT_FILE_NAME), report);
+        report.summaryLines(Integer.MAX_VALUE).forEach(System.out::println);
+        return 0;
+    }
+
+    private static VirtualFile[] resolveRoots(Path projectDir, List<String> entityPaths) {
+        List<Path> paths = entityPaths.isEmpty()
+                ? List.of(projectDir)
+                : entityPaths.stream().map(projectDir::resolve).toList();
+
+        List<VirtualFile> roots = new ArrayList<>();
+        for (Path path : paths) {
+            VirtualFile root = LocalFileSystem.getInstance().refreshAndFindFileByNioFile(path);
+            if (root == null) {
+                throw new IllegalArgumentException("Entity path does not exist: " + path);
+            }
+            roots.add(root);
+        }
+        return roots.toArray(VirtualFile[]::new);
+    }
+}
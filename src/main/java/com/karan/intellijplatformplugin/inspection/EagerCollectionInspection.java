@@ -0,0 +1,58 @@
+package com.karan.intellijplatformplugin.inspection;
+
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.karan.intellijplatformplugin.util.JpaAnnotations;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports collection mappings fetched with {@code FetchType.EAGER}: every query for the entity,
+ * including the generated list endpoints, then also loads the whole collection.
+ */
+public final class EagerCollectionInspection extends EntityInspection {
+
+    private static final String[] COLLECTION_MAPPINGS = {"OneToMany", "ManyToMany", "ElementCollection"};
+
+    @Override
+    protected void checkEntity(PsiClass entity, ProblemsHolder holder) {
+        for (PsiField field : entity.getFields()) {
+            for (String mapping : COLLECTION_MAPPINGS) {
+                PsiAnnotation annotation = JpaAnnotations.find(field, mapping);
+                if (annotation == null) {
+                    continue;
+                }
+
+                PsiAnnotationMemberValue fetch = annotation.findDeclaredAttributeValue("fetch");
+                if (JpaAnnotations.isEnumConstant(fetch, "EAGER")) {
+                    holder.registerProblem(fetch,
+                            "Collection '" + field.getName() + "' is loaded with every " + entity.getName(),
+                            new MakeLazyFix());
+                }
+            }
+        }
+    }
+
+    private static final class MakeLazyFix implements LocalQuickFix {
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Fetch lazily (remove 'fetch = EAGER')";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            // Collection mappings are lazy by default
+            PsiAnnotation annotation = PsiTreeUtil.getParentOfType(descriptor.getPsiElement(), PsiAnnotation.class);
+            if (annotation != null) {
+                annotation.setDeclaredAttributeValue("fetch", null);
+            }
+        }
+    }
+}
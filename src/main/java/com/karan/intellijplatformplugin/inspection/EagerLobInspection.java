@@ -0,0 +1,98 @@
+package com.karan.intellijplatformplugin.inspection;
+
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.karan.intellijplatformplugin.util.JpaAnnotations;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports {@code @Lob} fields that are loaded eagerly. Every generated entity gets list endpoints,
+ * so an unbounded text or binary column is read and copied into the DTO for every row of every page.
+ */
+public final class EagerLobInspection extends EntityInspection {
+
+    private static final int BOUNDED_LENGTH = 4000;
+
+    @Override
+    protected void checkEntity(PsiClass entity, ProblemsHolder holder) {
+        for (PsiField field : entity.getFields()) {
+            if (!JpaAnnotations.has(field, "Lob")) {
+                continue;
+            }
+
+            PsiAnnotation basic = JpaAnnotations.find(field, "Basic");
+            if (basic != null && JpaAnnotations.isEnumConstant(basic.findDeclaredAttributeValue("fetch"), "LAZY")) {
+                continue;
+            }
+
+            String message = "@Lob field '" + field.getName() + "' is loaded with every " + entity.getName()
+                    + " in list results";
+            if (field.getType().equalsToText(CommonClassNames.JAVA_LANG_STRING)) {
+                holder.registerProblem(field.getNameIdentifier(), message, new LoadLazilyFix(), new BoundLengthFix());
+            } else {
+                holder.registerProblem(field.getNameIdentifier(), message, new LoadLazilyFix());
+            }
+        }
+    }
+
+    private static final class LoadLazilyFix implements LocalQuickFix {
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Load lazily with @Basic(fetch = LAZY)";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiField field = PsiTreeUtil.getParentOfType(descriptor.getPsiElement(), PsiField.class);
+            if (field == null) {
+                return;
+            }
+
+            String persistencePackage = JpaAnnotations.packageOf(field.getContainingClass());
+            String lazy = persistencePackage + ".FetchType.LAZY";
+            PsiAnnotation basic = JpaAnnotations.find(field, "Basic");
+            if (basic == null) {
+                JpaAnnotations.addAnnotation(field, persistencePackage + ".Basic", "(fetch = " + lazy + ")");
+                return;
+            }
+
+            PsiAnnotationMemberValue added =
+                    basic.setDeclaredAttributeValue("fetch", JpaAnnotations.createValue(lazy, basic));
+            JavaCodeStyleManager.getInstance(project).shortenClassReferences(added);
+        }
+    }
+
+    private static final class BoundLengthFix implements LocalQuickFix {
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Replace @Lob with @Column(length = " + BOUNDED_LENGTH + ")";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiField field = PsiTreeUtil.getParentOfType(descriptor.getPsiElement(), PsiField.class);
+            PsiAnnotation lob = field != null ? JpaAnnotations.find(field, "Lob") : null;
+            if (lob == null) {
+                return;
+            }
+
+            lob.delete();
+            PsiAnnotation column = JpaAnnotations.find(field, "Column");
+            if (column == null) {
+                String persistencePackage = JpaAnnotations.packageOf(field.getContainingClass());
+                JpaAnnotations.addAnnotation(field, persistencePackage + ".Column",
+                        "(length = " + BOUNDED_LENGTH + ")");
+            } else {
+                column.setDeclaredAttributeValue("length",
+                        JpaAnnotations.createValue(String.valueOf(BOUNDED_LENGTH), column));
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.karan.intellijplatformplugin.inspection;
+
+import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.psi.JavaElementVisitor;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElementVisitor;
+import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Base class for inspections of JPA entities, the classes CRUD code is generated from.
+ * Other classes are skipped by the same cached check the generate action uses.
+ */
+abstract class EntityInspection extends AbstractBaseJavaLocalInspectionTool {
+
+    @Override
+    public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        return new JavaElementVisitor() {
+            @Override
+            public void visitClass(@NotNull PsiClass aClass) {
+                if (PsiDirectoryUtil.isEntity(aClass)) {
+                    checkEntity(aClass, holder);
+                }
+            }
+        };
+    }
+
+    protected abstract void checkEntity(PsiClass entity, ProblemsHolder holder);
+}
@@ -0,0 +1,62 @@
+package com.karan.intellijplatformplugin.inspection;
+
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.karan.intellijplatformplugin.util.JpaAnnotations;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports ids generated with {@code GenerationType.IDENTITY}. Hibernate has to execute each insert
+ * immediately to learn the id, so inserts of the entity are never sent as JDBC batches.
+ */
+public final class IdentityGenerationInspection extends EntityInspection {
+
+    @Override
+    protected void checkEntity(PsiClass entity, ProblemsHolder holder) {
+        for (PsiField field : entity.getFields()) {
+            PsiAnnotation generatedValue = JpaAnnotations.find(field, "GeneratedValue");
+            if (generatedValue == null) {
+                continue;
+            }
+
+            PsiAnnotationMemberValue strategy = generatedValue.findDeclaredAttributeValue("strategy");
+            if (JpaAnnotations.isEnumConstant(strategy, "IDENTITY")) {
+                holder.registerProblem(strategy,
+                        "IDENTITY ids disable JDBC batching of " + entity.getName() + " inserts",
+                        new UseSequenceFix());
+            }
+        }
+    }
+
+    private static final class UseSequenceFix implements LocalQuickFix {
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Use GenerationType.SEQUENCE";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiElement strategy = descriptor.getPsiElement();
+            PsiAnnotation annotation = PsiTreeUtil.getParentOfType(strategy, PsiAnnotation.class);
+            if (annotation == null) {
+                return;
+            }
+
+            String persistencePackage = JpaAnnotations.packageOf(PsiTreeUtil.getParentOfType(strategy, PsiClass.class));
+            PsiAnnotationMemberValue sequence =
+                    JpaAnnotations.createValue(persistencePackage + ".GenerationType.SEQUENCE", annotation);
+            PsiAnnotationMemberValue added = annotation.setDeclaredAttributeValue("strategy", sequence);
+            JavaCodeStyleManager.getInstance(project).shortenClassReferences(added);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.karan.intellijplatformplugin.inspection;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.karan.intellijplatformplugin.util.JpaAnnotations;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Reports foreign key columns of {@code @ManyToOne} and owning {@code @OneToOne} associations that are not
+ * the leading column of an index in {@code @Table}. Most databases do not index foreign keys on their own,
+ * so loading children by parent and deleting a parent scan the whole table.
+ */
+public final class MissingForeignKeyIndexInspection extends EntityInspection {
+
+    @Override
+    protected void checkEntity(PsiClass entity, ProblemsHolder holder) {
+        Set<String> indexedColumns = null;
+        for (PsiField field : entity.getFields()) {
+            if (!isForeignKey(field)) {
+                continue;
+            }
+
+            if (indexedColumns == null) {
+                indexedColumns = leadingIndexColumns(entity);
+            }
+            String column = joinColumnName(field);
+            if (!indexedColumns.contains(normalize(column))) {
+                holder.registerProblem(field.getNameIdentifier(),
+                        "Foreign key column '" + column + "' of " + entity.getName() + " has no index",
+                        new AddIndexFix(column));
+            }
+        }
+    }
+
+    private static boolean isForeignKey(PsiField field) {
+        if (JpaAnnotations.has(field, "MapsId")) {
+            return false;
+        }
+        if (JpaAnnotations.has(field, "ManyToOne")) {
+            return true;
+        }
+        PsiAnnotation oneToOne = JpaAnnotations.find(field, "OneToOne");
+        return oneToOne != null && oneToOne.findDeclaredAttributeValue("mappedBy") == null;
+    }
+
+    private static String joinColumnName(PsiField field) {
+        PsiAnnotation joinColumn = JpaAnnotations.find(field, "JoinColumn");
+        String name = joinColumn != null ? AnnotationUtil.getStringAttributeValue(joinColumn, "name") : null;
+        return name != null && !name.isEmpty() ? name : field.getName() + "_id";
+    }
+
+    /**
+     * Columns that lead an index or unique constraint of the entity's table; only those speed up FK lookups.
+     */
+    private static Set<String> leadingIndexColumns(PsiClass entity) {
+        Set<String> columns = new HashSet<>();
+        PsiAnnotation table = JpaAnnotations.find(entity, "Table");
+        if (table == null) {
+            return columns;
+        }
+
+        for (PsiAnnotation index : annotations(table.findDeclaredAttributeValue("indexes"))) {
+            String columnList = AnnotationUtil.getStringAttributeValue(index, "columnList");
+            if (columnList != null && !columnList.isBlank()) {
+                // "customer_id DESC, created_at" -> "customer_id"
+                columns.add(normalize(columnList.split(",")[0].trim().split("\\s+")[0]));
+            }
+        }
+        for (PsiAnnotation constraint : annotations(table.findDeclaredAttributeValue("uniqueConstraints"))) {
+            String first = JpaAnnotations.firstString(constraint.findDeclaredAttributeValue("columnNames"));
+            if (first != null) {
+                columns.add(normalize(first));
+            }
+        }
+        return columns;
+    }
+
+    private static PsiAnnotation[] annotations(PsiAnnotationMemberValue value) {
+        if (value instanceof PsiAnnotation annotation) {
+            return new PsiAnnotation[]{annotation};
+        }
+        if (value instanceof PsiArrayInitializerMemberValue array) {
+            return Arrays.stream(array.getInitializers())
+                    .filter(PsiAnnotation.class::isInstance)
+                    .map(PsiAnnotation.class::cast)
+                    .toArray(PsiAnnotation[]::new);
+        }
+        return PsiAnnotation.EMPTY_ARRAY;
+    }
+
+    /**
+     * Column names are compared like the default naming strategy maps them: "customerId" matches "customer_id".
+     */
+    private static String normalize(String column) {
+        return column.replace("_", "").replace("`", "").replace("\"", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class AddIndexFix implements LocalQuickFix {
+
+        private final String column;
+
+        AddIndexFix(String column) {
+            this.column = column;
+        }
+
+        @Override
+        public @NotNull String getName() {
+            return "Add @Index on '" + column + "' to @Table";
+        }
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Add foreign key index";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiClass entity = PsiTreeUtil.getParentOfType(descriptor.getPsiElement(), PsiClass.class);
+            if (entity == null) {
+                return;
+            }
+
+            String persistencePackage = JpaAnnotations.packageOf(entity);
+            String index = "@" + persistencePackage + ".Index(columnList = \"" + column + "\")";
+            PsiAnnotation table = JpaAnnotations.find(entity, "Table");
+            if (table == null) {
+                JpaAnnotations.addAnnotation(entity, persistencePackage + ".Table", "(indexes = " + index + ")");
+                return;
+            }
+
+            StringBuilder indexes = new StringBuilder("{");
+            for (PsiAnnotation existing : annotations(table.findDeclaredAttributeValue("indexes"))) {
+                indexes.append(existing.getText()).append(", ");
+            }
+            indexes.append(index).append('}');
+
+            PsiAnnotationMemberValue added =
+                    table.setDeclaredAttributeValue("indexes", JpaAnnotations.createValue(indexes.toString(), table));
+            JavaCodeStyleManager.getInstance(project).shortenClassReferences(added);
+        }
+    }
+}
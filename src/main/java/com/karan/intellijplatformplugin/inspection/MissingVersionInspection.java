@@ -0,0 +1,68 @@
+package com.karan.intellijplatformplugin.inspection;
+
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.*;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.karan.intellijplatformplugin.util.JpaAnnotations;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reports entities without a {@code @Version} field (declared or inherited). Without one, concurrent updates
+ * through the generated PUT endpoint silently overwrite each other, and Spring Data cannot tell new entities
+ * with assigned ids from existing ones, so every {@code save} of a new entity selects it first.
+ * Entities marked {@code @Immutable} are skipped.
+ */
+public final class MissingVersionInspection extends EntityInspection {
+
+    @Override
+    protected void checkEntity(PsiClass entity, ProblemsHolder holder) {
+        if (entity.hasAnnotation("org.hibernate.annotations.Immutable") || entity.getNameIdentifier() == null) {
+            return;
+        }
+
+        for (PsiField field : entity.getAllFields()) {
+            if (JpaAnnotations.has(field, "Version")) {
+                return;
+            }
+        }
+
+        holder.registerProblem(entity.getNameIdentifier(),
+                "Entity '" + entity.getName() + "' has no @Version field for optimistic locking",
+                new AddVersionFieldFix());
+    }
+
+    private static final class AddVersionFieldFix implements LocalQuickFix {
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Add @Version field";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiClass entity = PsiTreeUtil.getParentOfType(descriptor.getPsiElement(), PsiClass.class);
+            if (entity == null) {
+                return;
+            }
+
+            String version = JpaAnnotations.packageOf(entity) + ".Version";
+            PsiField existing = entity.findFieldByName("version", false);
+            if (existing != null) {
+                JpaAnnotations.addAnnotation(existing, version, "");
+                return;
+            }
+
+            PsiField field = JavaPsiFacade.getElementFactory(project)
+                    .createFieldFromText("@" + version + "\nprivate Long version;", entity);
+            PsiField[] fields = entity.getFields();
+            PsiElement added = fields.length > 0
+                    ? entity.addAfter(field, fields[fields.length - 1])
+                    : entity.add(field);
+            JavaCodeStyleManager.getInstance(project).shortenClassReferences(added);
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package com.karan.intellijplatformplugin.inspection;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.codeInsight.intention.preview.IntentionPreviewInfo;
+import com.intellij.codeInspection.AbstractBaseJavaLocalInspectionTool;
+import com.intellij.codeInspection.LocalQuickFix;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.*;
+import com.intellij.psi.codeStyle.CodeStyleManager;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PropertyUtilBase;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.psi.util.PsiUtil;
+import com.karan.intellijplatformplugin.service.GeneratorSettings;
+import com.karan.intellijplatformplugin.util.JpaAnnotations;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports Spring Data {@code findAll} calls without a {@code Pageable}, which load the whole table,
+ * like the list method of the generated service. Besides loading only the first page, calls followed by
+ * {@code .stream()} can be turned into a streaming repository method, a query for the single property
+ * they map to, or a count query. Streaming is only offered inside {@code @Transactional} methods, as Spring Data
+ * rejects streaming queries outside a transaction, and wraps the stream in try-with-resources like
+ * the generated service does.
+ */
+public final class UnboundedFindAllInspection extends AbstractBaseJavaLocalInspectionTool {
+
+    private static final String REPOSITORY = "org.springframework.data.repository.Repository";
+    private static final String PAGEABLE = "org.springframework.data.domain.Pageable";
+    private static final String SORT = "org.springframework.data.domain.Sort";
+    private static final String PAGE_REQUEST = "org.springframework.data.domain.PageRequest";
+    private static final String QUERY = "org.springframework.data.jpa.repository.Query";
+    private static final String STREAM = "java.util.stream.Stream";
+    private static final String BASE_STREAM = "java.util.stream.BaseStream";
+    private static final String ITERATOR = "java.util.Iterator";
+    private static final String STREAM_METHOD = "streamAllBy";
+    private static final String[] TRANSACTIONAL = {
+            "org.springframework.transaction.annotation.Transactional",
+            "jakarta.transaction.Transactional",
+            "javax.transaction.Transactional"
+    };
+
+    private record Property(String name, PsiType type) {
+    }
+
+    @Override
+    public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        return new JavaElementVisitor() {
+            @Override
+            public void visitMethodCallExpression(@NotNull PsiMethodCallExpression call) {
+                super.visitMethodCallExpression(call);
+                if (isUnboundedFindAll(call)) {
+                    check(call, holder);
+                }
+            }
+        };
+    }
+
+    private static boolean isUnboundedFindAll(PsiMethodCallExpression call) {
+        if (!"findAll".equals(call.getMethodExpression().getReferenceName())) {
+            return false;
+        }
+
+        PsiMethod method = call.resolveMethod();
+        if (method == null || !InheritanceUtil.isInheritor(method.getContainingClass(), REPOSITORY)) {
+            return false;
+        }
+        for (PsiParameter parameter : method.getParameterList().getParameters()) {
+            if (InheritanceUtil.isInheritor(parameter.getType(), PAGEABLE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void check(PsiMethodCallExpression call, ProblemsHolder holder) {
+        PsiElement name = call.getMethodExpression().getReferenceNameElement();
+        if (name == null) {
+            return;
+        }
+
+        PsiMethodCallExpression stream = nextCall(call, "stream");
+        PsiMethodCallExpression afterStream = stream != null ? nextCall(stream, null) : null;
+        PsiClass repository = repositoryOf(call);
+
+        List<LocalQuickFix> fixes = new ArrayList<>();
+        if (hasPagedOverload(call, repository)) {
+            int pageSize = GeneratorSettings.getInstance(holder.getProject()).getProfile().getMaxPageSize();
+            fixes.add(new FirstPageFix(pageSize));
+        }
+        if (repository != null && call.getArgumentList().isEmpty()) {
+            boolean source = !(repository instanceof PsiCompiledElement);
+            if (stream != null && (source || streamMethod(repository) != null) && streamScope(stream) != null) {
+                fixes.add(new StreamFix());
+            }
+            if (source && isCall(afterStream, "map") && mappedProperty(afterStream) != null
+                    && JavaPsiFacade.getInstance(call.getProject()).findClass(QUERY, call.getResolveScope()) != null) {
+                fixes.add(new ProjectionFix());
+            }
+            if ((nextCall(call, "size") != null || isCall(afterStream, "count")) && hasCount(repository)) {
+                fixes.add(new CountFix());
+            }
+        }
+
+        String message = isCall(afterStream, "filter")
+                ? "findAll() loads the whole table to filter it in memory"
+                : "findAll() without a Pageable loads the whole table";
+        holder.registerProblem(name, message, fixes.toArray(LocalQuickFix.EMPTY_ARRAY));
+    }
+
+    /**
+     * Returns the call made on the result of the expression, e.g. {@code stream()} for {@code findAll().stream()}.
+     */
+    private static PsiMethodCallExpression nextCall(PsiExpression qualifier, String name) {
+        PsiElement parent = PsiUtil.skipParenthesizedExprUp(qualifier.getParent());
+        if (parent instanceof PsiReferenceExpression reference
+                && reference.getParent() instanceof PsiMethodCallExpression next
+                && (name == null || name.equals(reference.getReferenceName()))) {
+            return next;
+        }
+        return null;
+    }
+
+    private static boolean isCall(PsiMethodCallExpression call, String name) {
+        return call != null && name.equals(call.getMethodExpression().getReferenceName());
+    }
+
+    private static PsiClass repositoryOf(PsiMethodCallExpression call) {
+        PsiExpression qualifier = call.getMethodExpression().getQualifierExpression();
+        return qualifier != null ? PsiUtil.resolveClassInClassTypeOnly(qualifier.getType()) : null;
+    }
+
+    private static boolean isSort(PsiExpression argument) {
+        return InheritanceUtil.isInheritor(argument.getType(), SORT);
+    }
+
+    /**
+     * Checks for the {@code findAll} overload with the same arguments (a Sort folded into the page) plus a Pageable.
+     */
+    private static boolean hasPagedOverload(PsiMethodCallExpression call, PsiClass repository) {
+        PsiClass owner = repository;
+        if (owner == null) {
+            PsiMethod method = call.resolveMethod();
+            owner = method != null ? method.getContainingClass() : null;
+        }
+        if (owner == null) {
+            return false;
+        }
+
+        int expected = 1;
+        for (PsiExpression argument : call.getArgumentList().getExpressions()) {
+            if (!isSort(argument)) {
+                expected++;
+            }
+        }
+        for (PsiMethod candidate : owner.findMethodsByName("findAll", true)) {
+            PsiParameter[] parameters = candidate.getParameterList().getParameters();
+            if (parameters.length == expected
+                    && InheritanceUtil.isInheritor(parameters[expected - 1].getType(), PAGEABLE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String streamMethod(PsiClass repository) {
+        for (PsiMethod method : repository.getAllMethods()) {
+            PsiClass returned = PsiUtil.resolveClassInClassTypeOnly(method.getReturnType());
+            if (!method.hasParameters() && returned != null && STREAM.equals(returned.getQualifiedName())) {
+                return method.getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the statement consuming the {@code findAll().stream()} chain, which the streaming fix wraps in
+     * try-with-resources. Null if the chain does not end in that statement, returns the still open stream
+     * or is not run by a {@code @Transactional} method.
+     */
+    private static PsiStatement streamScope(PsiMethodCallExpression stream) {
+        PsiExpression end = stream;
+        for (PsiMethodCallExpression next = nextCall(stream, null); next != null; next = nextCall(next, null)) {
+            end = next;
+        }
+        if (InheritanceUtil.isInheritor(end.getType(), BASE_STREAM)
+                || InheritanceUtil.isInheritor(end.getType(), ITERATOR)) {
+            return null;
+        }
+
+        PsiElement parent = PsiUtil.skipParenthesizedExprUp(end.getParent());
+        PsiStatement statement;
+        if (parent instanceof PsiReturnStatement || parent instanceof PsiExpressionStatement) {
+            statement = (PsiStatement) parent;
+        } else if (parent instanceof PsiLocalVariable
+                && parent.getParent() instanceof PsiDeclarationStatement declaration
+                && declaration.getDeclaredElements().length == 1) {
+            statement = declaration;
+        } else {
+            return null;
+        }
+
+        // Lambdas and local classes may run after the transaction has ended
+        PsiMethod method = PsiTreeUtil.getParentOfType(statement, PsiMethod.class, true,
+                PsiLambdaExpression.class, PsiClass.class);
+        return method != null && isTransactional(method) ? statement : null;
+    }
+
+    private static boolean isTransactional(PsiMethod method) {
+        // Spring only starts the transaction for calls through the proxy, which skips private and static methods
+        if (method.hasModifierProperty(PsiModifier.PRIVATE) || method.hasModifierProperty(PsiModifier.STATIC)) {
+            return false;
+        }
+
+        PsiClass owner = method.getContainingClass();
+        for (String annotation : TRANSACTIONAL) {
+            if (method.hasAnnotation(annotation) || owner != null && owner.hasAnnotation(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasCount(PsiClass repository) {
+        for (PsiMethod method : repository.findMethodsByName("count", true)) {
+            if (!method.hasParameters()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the property a {@code map} call extracts, for {@code Customer::getEmail} or {@code c -> c.getEmail()}.
+     */
+    private static Property mappedProperty(PsiMethodCallExpression map) {
+        PsiExpression[] arguments = map.getArgumentList().getExpressions();
+        if (arguments.length != 1) {
+            return null;
+        }
+
+        PsiMethod getter = null;
+        if (arguments[0] instanceof PsiMethodReferenceExpression reference) {
+            getter = reference.resolve() instanceof PsiMethod method ? method : null;
+        } else if (arguments[0] instanceof PsiLambdaExpression lambda
+                && lambda.getParameterList().getParametersCount() == 1
+                && lambda.getBody() instanceof PsiMethodCallExpression body
+                && body.getArgumentList().isEmpty()
+                && body.getMethodExpression().getQualifierExpression() instanceof PsiReferenceExpression target
+                && target.isReferenceTo(lambda.getParameterList().getParameters()[0])) {
+            getter = body.resolveMethod();
+        }
+
+        if (getter == null || getter.hasModifierProperty(PsiModifier.STATIC)
+                || !PropertyUtilBase.isSimplePropertyGetter(getter)) {
+            return null;
+        }
+        return new Property(PropertyUtilBase.getPropertyNameByGetter(getter), getter.getReturnType());
+    }
+
+    private static PsiMethodCallExpression findAllCall(ProblemDescriptor descriptor) {
+        return PsiTreeUtil.getParentOfType(descriptor.getPsiElement(), PsiMethodCallExpression.class);
+    }
+
+    private static void replace(PsiExpression expression, String text) {
+        Project project = expression.getProject();
+        PsiExpression replacement = JavaPsiFacade.getElementFactory(project).createExpressionFromText(text, expression);
+        JavaCodeStyleManager.getInstance(project).shortenClassReferences(expression.replace(replacement));
+    }
+
+    private static void addStatementBefore(PsiStatement anchor, String text) {
+        Project project = anchor.getProject();
+        PsiStatement statement = JavaPsiFacade.getElementFactory(project).createStatementFromText(text, anchor);
+        PsiElement added = anchor.getParent().addBefore(statement, anchor);
+        JavaCodeStyleManager.getInstance(project).shortenClassReferences(added);
+    }
+
+    private static void replaceStatement(PsiStatement statement, String text) {
+        Project project = statement.getProject();
+        PsiStatement replacement = JavaPsiFacade.getElementFactory(project).createStatementFromText(text, statement);
+        PsiElement replaced = statement.replace(replacement);
+        CodeStyleManager.getInstance(project).reformat(JavaCodeStyleManager.getInstance(project)
+                .shortenClassReferences(replaced));
+    }
+
+    private static void addMethod(PsiClass repository, String text) {
+        Project project = repository.getProject();
+        PsiMethod method = JavaPsiFacade.getElementFactory(project).createMethodFromText(text, repository);
+        JavaCodeStyleManager.getInstance(project).shortenClassReferences(repository.add(method));
+    }
+
+    private static final class FirstPageFix implements LocalQuickFix {
+
+        private final int pageSize;
+
+        FirstPageFix(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public @NotNull String getName() {
+            return "Load only the first page (PageRequest.of(0, " + pageSize + "))";
+        }
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Load only the first page";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiMethodCallExpression call = findAllCall(descriptor);
+            if (call == null) {
+                return;
+            }
+
+            StringBuilder text = new StringBuilder();
+            PsiExpression qualifier = call.getMethodExpression().getQualifierExpression();
+            if (qualifier != null) {
+                text.append(qualifier.getText()).append('.');
+            }
+            text.append("findAll(");
+            String sort = null;
+            for (PsiExpression argument : call.getArgumentList().getExpressions()) {
+                if (isSort(argument)) {
+                    sort = argument.getText();
+                } else {
+                    text.append(argument.getText()).append(", ");
+                }
+            }
+            text.append(PAGE_REQUEST).append(".of(0, ").append(pageSize);
+            if (sort != null) {
+                text.append(", ").append(sort);
+            }
+            text.append(")).getContent()");
+            replace(call, text.toString());
+        }
+    }
+
+    private static final class StreamFix implements LocalQuickFix {
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Stream rows from the repository instead of loading a list";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiMethodCallExpression call = findAllCall(descriptor);
+            PsiMethodCallExpression stream = call != null ? nextCall(call, "stream") : null;
+            PsiStatement statement = stream != null ? streamScope(stream) : null;
+            PsiClass repository = call != null ? repositoryOf(call) : null;
+            PsiType entityType = call != null ? PsiUtil.extractIterableTypeParameter(call.getType(), false) : null;
+            if (statement == null || repository == null || entityType == null) {
+                return;
+            }
+
+            String method = streamMethod(repository);
+            if (method == null) {
+                method = STREAM_METHOD;
+                addMethod(repository, STREAM + "<" + entityType.getCanonicalText() + "> " + method + "();");
+            }
+
+            // try (Stream<E> entities = repository.streamAllBy()) { <statement using entities> }
+            String variable =
+                    JavaCodeStyleManager.getInstance(project).suggestUniqueVariableName("entities", statement, true);
+            String resource = STREAM + "<" + entityType.getCanonicalText() + "> " + variable + " = "
+                    + call.getMethodExpression().getQualifierExpression().getText() + "." + method + "()";
+            replace(stream, variable);
+
+            String body = statement.getText();
+            if (statement instanceof PsiDeclarationStatement declaration) {
+                // Declared before the block, so that the variable stays visible after it
+                PsiLocalVariable local = (PsiLocalVariable) declaration.getDeclaredElements()[0];
+                String modifiers = local.getModifierList() != null ? local.getModifierList().getText() : "";
+                String declared = (modifiers.isEmpty() ? "" : modifiers + " ")
+                        + local.getType().getCanonicalText() + " " + local.getName() + ";";
+                addStatementBefore(statement, declared);
+                body = local.getName() + " = " + local.getInitializer().getText() + ";";
+            }
+            replaceStatement(statement, "try (" + resource + ") {\n" + body + "\n}");
+        }
+
+        @Override
+        public @NotNull IntentionPreviewInfo generatePreview(@NotNull Project project,
+                                                             @NotNull ProblemDescriptor previewDescriptor) {
+            // May add a method to the repository, which is in another file
+            return IntentionPreviewInfo.EMPTY;
+        }
+    }
+
+    private static final class ProjectionFix implements LocalQuickFix {
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Query only the mapped property";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiMethodCallExpression call = findAllCall(descriptor);
+            PsiMethodCallExpression stream = call != null ? nextCall(call, "stream") : null;
+            PsiMethodCallExpression map = stream != null ? nextCall(stream, "map") : null;
+            Property property = map != null ? mappedProperty(map) : null;
+            if (property == null) {
+                return;
+            }
+
+            PsiClass repository = repositoryOf(call);
+            PsiClass entity =
+                    PsiUtil.resolveClassInClassTypeOnly(PsiUtil.extractIterableTypeParameter(call.getType(), false));
+            if (repository == null || entity == null) {
+                return;
+            }
+
+            String method = "find" + StringUtil.capitalize(property.name()) + "Values";
+            if (repository.findMethodsByName(method, true).length == 0) {
+                PsiType type = property.type() instanceof PsiPrimitiveType primitive
+                        ? primitive.getBoxedType(call)
+                        : property.type();
+                String query = "select e." + property.name() + " from " + entityName(entity) + " e";
+                addMethod(repository, "@" + QUERY + "(\"" + query + "\")\n"
+                        + "java.util.List<" + type.getCanonicalText() + "> " + method + "();");
+            }
+            replace(map, call.getMethodExpression().getQualifierExpression().getText() + "." + method + "().stream()");
+        }
+
+        @Override
+        public @NotNull IntentionPreviewInfo generatePreview(@NotNull Project project,
+                                                             @NotNull ProblemDescriptor previewDescriptor) {
+            // Adds a query method to the repository, which is in another file
+            return IntentionPreviewInfo.EMPTY;
+        }
+
+        private static String entityName(PsiClass entity) {
+            PsiAnnotation annotation = JpaAnnotations.find(entity, "Entity");
+            String name = annotation != null ? AnnotationUtil.getStringAttributeValue(annotation, "name") : null;
+            return name != null && !name.isEmpty() ? name : entity.getName();
+        }
+    }
+
+    private static final class CountFix implements LocalQuickFix {
+
+        @Override
+        public @NotNull String getFamilyName() {
+            return "Replace with count()";
+        }
+
+        @Override
+        public void applyFix(@NotNull Project project, @NotNull ProblemDescriptor descriptor) {
+            PsiMethodCallExpression call = findAllCall(descriptor);
+            PsiExpression qualifier = call != null ? call.getMethodExpression().getQualifierExpression() : null;
+            if (qualifier == null) {
+                return;
+            }
+
+            String count = qualifier.getText() + ".count()";
+            PsiMethodCallExpression size = nextCall(call, "size");
+            PsiMethodCallExpression stream = nextCall(call, "stream");
+            PsiMethodCallExpression streamCount = stream != null ? nextCall(stream, "count") : null;
+            if (size != null) {
+                replace(size, "java.lang.Math.toIntExact(" + count + ")");
+            } else if (streamCount != null) {
+                replace(streamCount, count);
+            }
+        }
+    }
+}
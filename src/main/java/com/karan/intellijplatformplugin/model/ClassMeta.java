@@ -14,8 +14,17 @@ public class ClassMeta {
     private final String packageName;
     private final String idType;
     private final List<FieldMeta> fields;
+    private final String templateDirectory;
 
     public ClassMeta(String className, String packageName, String idType, List<FieldMeta> fields) {
+        this(className, packageName, idType, fields, null);
+    }
+
+    /**
+     * @param templateDirectory directory with template overrides of the entity's project, or null
+     */
+    public ClassMeta(String className, String packageName, String idType, List<FieldMeta> fields,
+                     String templateDirectory) {
         if (className == null || className.trim().isEmpty()) {
             throw new IllegalArgumentException("Class name cannot be null or empty");
         }
@@ -30,6 +39,7 @@ public class ClassMeta {
         this.packageName = packageName;
         this.idType = idType;
         this.fields = fields != null ? new ArrayList<>(fields) : new ArrayList<>();
+        this.templateDirectory = templateDirectory;
     }
 
     public String getClassName() {
@@ -48,6 +58,17 @@ public class ClassMeta {
         return Collections.unmodifiableList(fields);
     }
 
+    public String getTemplateDirectory() {
+        return templateDirectory;
+    }
+
+    /**
+     * Returns the fully qualified class name.
+     */
+    public String qualifiedName() {
+        return packageName + "." + className;
+    }
+
     /**
      * Returns the base package by removing the last segment if it's "model" or "entity".
      */
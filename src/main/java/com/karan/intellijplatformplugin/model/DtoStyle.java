@@ -0,0 +1,44 @@
+package com.karan.intellijplatformplugin.model;
+
+/**
+ * Shape of the generated entity DTOs and of the mappers that convert them.
+ */
+public enum DtoStyle {
+
+    /**
+     * Mutable class with getters and setters; the mapper copies properties with Spring's BeanUtils.
+     */
+    CLASS("Class with getters and setters (BeanUtils mapper)"),
+
+    /**
+     * Immutable record; the mapper calls the accessors and setters directly, without reflection.
+     */
+    RECORD("Record (mapper without reflection)");
+
+    private final String displayName;
+
+    DtoStyle(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Returns the style with the given enum name, or {@link #CLASS} for unknown names.
+     */
+    public static DtoStyle fromName(String name) {
+        for (DtoStyle style : values()) {
+            if (style.name().equals(name)) {
+                return style;
+            }
+        }
+        return CLASS;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
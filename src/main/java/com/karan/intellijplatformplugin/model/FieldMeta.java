@@ -9,6 +9,7 @@ public class FieldMeta {
 
     private final String name;
     private final String type;
+    private final String capitalizedName;
 
     public FieldMeta(String name, String type) {
         if (name == null || name.trim().isEmpty()) {
@@ -19,6 +20,7 @@ public class FieldMeta {
         }
         this.name = name;
         this.type = type;
+        this.capitalizedName = name.substring(0, 1).toUpperCase() + name.substring(1);
     }
 
     public String getName() {
@@ -30,7 +32,7 @@ public class FieldMeta {
     }
 
     public String getCapitalizedName() {
-        return name.substring(0, 1).toUpperCase() + name.substring(1);
+        return capitalizedName;
     }
 
     @Override
@@ -0,0 +1,130 @@
+package com.karan.intellijplatformplugin.model;
+
+import java.util.Objects;
+
+/**
+ * Represents a rendered file together with where and how it should be written.
+ * Rendering produces these without touching PSI, writing happens later under the write lock.
+ */
+public class GeneratedFile {
+
+    /**
+     * Where the file is written, relative to the source root of the entity.
+     */
+    public enum Location {
+        SOURCE_ROOT,
+        RESOURCES,
+        PROJECT_ROOT
+    }
+
+    /**
+     * How an already existing file is treated that was not generated by the plugin.
+     * Files the plugin generated are replaced when their inputs change, unless the user edited them.
+     */
+    public enum WriteMode {
+        CREATE,
+        SKIP_IF_EXISTS,
+        APPEND_IF_MISSING
+    }
+
+    private final Location location;
+    private final String packageName;
+    private final String fileName;
+    private final String content;
+    private final WriteMode writeMode;
+    private final String marker;
+
+    private GeneratedFile(Location location, String packageName, String fileName, String content,
+                          WriteMode writeMode, String marker) {
+        if (fileName == null || fileName.trim().isEmpty()) {
+            throw new IllegalArgumentException("File name cannot be null or empty");
+        }
+        if (content == null) {
+            throw new IllegalArgumentException("Content cannot be null");
+        }
+
+        this.location = location;
+        this.packageName = packageName;
+        this.fileName = fileName;
+        this.content = content;
+        this.writeMode = writeMode;
+        this.marker = marker;
+    }
+
+    /**
+     * Entity-specific Java source in the given package; an existing file means the class was written by hand.
+     */
+    public static GeneratedFile javaSource(String packageName, String fileName, String content) {
+        return new GeneratedFile(Location.SOURCE_ROOT, packageName, fileName, content, WriteMode.CREATE, null);
+    }
+
+    /**
+     * Java source shared by all entities of a base package; skipped if it already exists.
+     */
+    public static GeneratedFile sharedJavaSource(String packageName, String fileName, String content) {
+        return new GeneratedFile(Location.SOURCE_ROOT, packageName, fileName, content, WriteMode.SKIP_IF_EXISTS, null);
+    }
+
+    /**
+     * Documentation file in the project root; skipped if it already exists.
+     */
+    public static GeneratedFile projectDocument(String fileName, String content) {
+        return new GeneratedFile(Location.PROJECT_ROOT, null, fileName, content, WriteMode.SKIP_IF_EXISTS, null);
+    }
+
+    /**
+     * Section appended to a resource file unless the file already contains the marker.
+     */
+    public static GeneratedFile resourceSection(String fileName, String marker, String content) {
+        if (marker == null || marker.isEmpty()) {
+            throw new IllegalArgumentException("Marker cannot be null or empty");
+        }
+        return new GeneratedFile(Location.RESOURCES, null, fileName, content, WriteMode.APPEND_IF_MISSING, marker);
+    }
+
+    public Location getLocation() {
+        return location;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public WriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    public String getMarker() {
+        return marker;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GeneratedFile that = (GeneratedFile) o;
+        return location == that.location &&
+                Objects.equals(packageName, that.packageName) &&
+                Objects.equals(fileName, that.fileName) &&
+                Objects.equals(marker, that.marker);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(location, packageName, fileName, marker);
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedFile{location=" + location + ", packageName='" + packageName +
+                "', fileName='" + fileName + "', writeMode=" + writeMode + ", length=" + content.length() + "}";
+    }
+}
@@ -0,0 +1,221 @@
+package com.karan.intellijplatformplugin.model;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Options for the entity-specific code: the performance profile plus switches for optional endpoints.
+ * Most options apply to every entity; the pagination mode is chosen per entity.
+ * Instances are immutable; {@code with...} methods return a changed copy.
+ */
+public final class GenerationOptions {
+
+    /**
+     * Default profile, streaming export instead of the unbounded list endpoint, no cursor endpoint,
+     * {@code Page} pagination for every entity, no count or entity cache, class DTOs.
+     */
+    public static final GenerationOptions DEFAULT =
+            new GenerationOptions(GenerationProfile.DEFAULT, false, true, false, Set.of(), Set.of(), false, false,
+                    DtoStyle.CLASS);
+
+    private final GenerationProfile profile;
+    private final boolean listEndpoint;
+    private final boolean exportEndpoint;
+    private final boolean cursorEndpoint;
+    private final Set<String> sliceEntities;
+    private final Set<String> pageEntities;
+    private final boolean countCache;
+    private final boolean entityCache;
+    private final DtoStyle dtoStyle;
+
+    private GenerationOptions(GenerationProfile profile, boolean listEndpoint, boolean exportEndpoint,
+                              boolean cursorEndpoint, Set<String> sliceEntities, Set<String> pageEntities,
+                              boolean countCache, boolean entityCache, DtoStyle dtoStyle) {
+        if (profile == null || sliceEntities == null || pageEntities == null || dtoStyle == null) {
+            throw new IllegalArgumentException("Profile, pagination entities and DTO style cannot be null");
+        }
+        this.profile = profile;
+        this.listEndpoint = listEndpoint;
+        this.exportEndpoint = exportEndpoint;
+        this.cursorEndpoint = cursorEndpoint;
+        this.sliceEntities = Set.copyOf(sliceEntities);
+        this.pageEntities = Set.copyOf(pageEntities);
+        this.countCache = countCache;
+        this.entityCache = entityCache;
+        this.dtoStyle = dtoStyle;
+    }
+
+    public GenerationProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * Whether {@code GET /api/{entity}} returns all entities as one list. Opt-in, as it loads the whole table.
+     */
+    public boolean isListEndpoint() {
+        return listEndpoint;
+    }
+
+    /**
+     * Whether {@code GET /api/{entity}/export} streams all entities as NDJSON or a JSON array with constant memory.
+     */
+    public boolean isExportEndpoint() {
+        return exportEndpoint;
+    }
+
+    /**
+     * Whether {@code GET /api/{entity}/cursor} pages by keyset: it seeks past the last ID of the previous page
+     * instead of skipping rows with an offset, so every page costs the same as the first.
+     */
+    public boolean isCursorEndpoint() {
+        return cursorEndpoint;
+    }
+
+    /**
+     * Whether {@code GET /api/{entity}/paginated} of the entity returns a {@code Slice} without totals
+     * instead of a {@code Page}, which saves the count query of every request.
+     * Entities without a chosen mode use {@code Page}.
+     */
+    public boolean isSlicePagination(ClassMeta meta) {
+        return sliceEntities.contains(meta.qualifiedName());
+    }
+
+    /**
+     * Returns the qualified names of the entities using {@code Slice} pagination, sorted.
+     */
+    public Set<String> getSliceEntities() {
+        return new TreeSet<>(sliceEntities);
+    }
+
+    /**
+     * Returns the qualified names of the entities for which {@code Page} pagination was chosen, sorted.
+     */
+    public Set<String> getPageEntities() {
+        return new TreeSet<>(pageEntities);
+    }
+
+    /**
+     * Whether a pagination mode was chosen for the entity, given by its qualified name.
+     */
+    public boolean hasPaginationMode(String qualifiedName) {
+        return sliceEntities.contains(qualifiedName) || pageEntities.contains(qualifiedName);
+    }
+
+    /**
+     * Whether services read entity counts through a shared cache that creates and deletes invalidate,
+     * instead of running a COUNT query for every /count and paginated request.
+     */
+    public boolean isCountCache() {
+        return countCache;
+    }
+
+    /**
+     * Whether {@code findById} reads through a Caffeine cache per entity that {@code update} refreshes and
+     * {@code delete} evicts.
+     */
+    public boolean isEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Whether entity DTOs are classes copied by BeanUtils or records mapped without reflection.
+     */
+    public DtoStyle getDtoStyle() {
+        return dtoStyle;
+    }
+
+    public GenerationOptions withProfile(GenerationProfile profile) {
+        return new GenerationOptions(profile, listEndpoint, exportEndpoint, cursorEndpoint, sliceEntities, pageEntities,
+                countCache, entityCache, dtoStyle);
+    }
+
+    /**
+     * Switches to the profile along with the cursor endpoint, caches and DTO style it selects.
+     */
+    public GenerationOptions withProfileDefaults(GenerationProfile profile) {
+        return withProfile(profile)
+                .withCursorEndpoint(profile.isCursorEndpoint())
+                .withCountCache(profile.isCountCache())
+                .withEntityCache(profile.isEntityCache())
+                .withDtoStyle(profile.getDtoStyle());
+    }
+
+    public GenerationOptions withListEndpoint(boolean listEndpoint) {
+        return new GenerationOptions(profile, listEndpoint, exportEndpoint, cursorEndpoint, sliceEntities, pageEntities,
+                countCache, entityCache, dtoStyle);
+    }
+
+    public GenerationOptions withExportEndpoint(boolean exportEndpoint) {
+        return new GenerationOptions(profile, listEndpoint, exportEndpoint, cursorEndpoint, sliceEntities, pageEntities,
+                countCache, entityCache, dtoStyle);
+    }
+
+    public GenerationOptions withCursorEndpoint(boolean cursorEndpoint) {
+        return new GenerationOptions(profile, listEndpoint, exportEndpoint, cursorEndpoint, sliceEntities, pageEntities,
+                countCache, entityCache, dtoStyle);
+    }
+
+    public GenerationOptions withSliceEntities(Set<String> sliceEntities) {
+        return new GenerationOptions(profile, listEndpoint, exportEndpoint, cursorEndpoint, sliceEntities, pageEntities,
+                countCache, entityCache, dtoStyle);
+    }
+
+    public GenerationOptions withPageEntities(Set<String> pageEntities) {
+        return new GenerationOptions(profile, listEndpoint, exportEndpoint, cursorEndpoint, sliceEntities, pageEntities,
+                countCache, entityCache, dtoStyle);
+    }
+
+    public GenerationOptions withCountCache(boolean countCache) {
+        return new GenerationOptions(profile, listEndpoint, exportEndpoint, cursorEndpoint, sliceEntities, pageEntities,
+                countCache, entityCache, dtoStyle);
+    }
+
+    public GenerationOptions withEntityCache(boolean entityCache) {
+        return new GenerationOptions(profile, listEndpoint, exportEndpoint, cursorEndpoint, sliceEntities, pageEntities,
+                countCache, entityCache, dtoStyle);
+    }
+
+    public GenerationOptions withDtoStyle(DtoStyle dtoStyle) {
+        return new GenerationOptions(profile, listEndpoint, exportEndpoint, cursorEndpoint, sliceEntities, pageEntities,
+                countCache, entityCache, dtoStyle);
+    }
+
+    /**
+     * Switches a single entity, given by its qualified name, between {@code Slice} and {@code Page} pagination.
+     */
+    public GenerationOptions withSlicePagination(String qualifiedName, boolean slicePagination) {
+        Set<String> slice = new TreeSet<>(sliceEntities);
+        Set<String> page = new TreeSet<>(pageEntities);
+        if (slicePagination) {
+            slice.add(qualifiedName);
+            page.remove(qualifiedName);
+        } else {
+            page.add(qualifiedName);
+            slice.remove(qualifiedName);
+        }
+        return withSliceEntities(slice).withPageEntities(page);
+    }
+
+    /**
+     * Forgets the pagination modes chosen per entity, so the next generation of each entity asks again.
+     */
+    public GenerationOptions withoutPaginationModes() {
+        return withSliceEntities(Set.of()).withPageEntities(Set.of());
+    }
+
+    /**
+     * Part of the generation fingerprint, so changing an option regenerates the affected files.
+     * Covers the options shared by all entities; see {@link #fingerprint(ClassMeta)} for entity-specific code.
+     */
+    public String fingerprint() {
+        return profile.name() + "|list=" + listEndpoint + "|export=" + exportEndpoint + "|cursor=" + cursorEndpoint
+                + "|countCache=" + countCache + "|entityCache=" + entityCache + "|dto=" + dtoStyle;
+    }
+
+    /**
+     * Fingerprint of the options that apply to the entity, so switching its pagination mode only regenerates it.
+     */
+    public String fingerprint(ClassMeta meta) {
+        return fingerprint() + "|slice=" + isSlicePagination(meta);
+    }
+}
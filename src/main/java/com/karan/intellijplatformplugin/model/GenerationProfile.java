@@ -0,0 +1,151 @@
+package com.karan.intellijplatformplugin.model;
+
+/**
+ * Named presets for the performance-related choices in the generated code: tuning properties, plus the
+ * pagination style, caches and DTO style that choosing the profile selects (they can still be changed one by one).
+ * A zero size or a null log level keeps the Spring Boot default and generates no property for it.
+ */
+public enum GenerationProfile {
+
+    DEFAULT("Default",
+            "Spring Boot defaults, pages of up to 100 items, no caches",
+            100, 500, 0, 0, 0, null,
+            false, false, false, false, DtoStyle.CLASS),
+    HIGH_THROUGHPUT_READ("High-throughput read",
+            "Larger connection pool, pages of up to 500 items, Slice and keyset pagination, count and findById caches, "
+                    + "record DTOs, application logging at WARN",
+            500, 1000, 0, 20, 20, "WARN",
+            true, true, true, true, DtoStyle.RECORD),
+    BULK_WRITE("Bulk write",
+            "JDBC batches of 100 with ordered inserts and updates, no caches, record DTOs, application logging at WARN",
+            100, 500, 100, 10, 10, "WARN",
+            false, false, false, false, DtoStyle.RECORD),
+    LOW_MEMORY("Low-memory",
+            "Small connection pool, pages of up to 50 items, JDBC batches of 20, exports fetch 100 rows at a time, "
+                    + "counts cached but no findById cache",
+            50, 100, 20, 4, 1, "WARN",
+            false, false, true, false, DtoStyle.CLASS);
+
+    private final String displayName;
+    private final String description;
+    private final int maxPageSize;
+    private final int exportFetchSize;
+    private final int jdbcBatchSize;
+    private final int maxPoolSize;
+    private final int minIdle;
+    private final String logLevel;
+    private final boolean slicePagination;
+    private final boolean cursorEndpoint;
+    private final boolean countCache;
+    private final boolean entityCache;
+    private final DtoStyle dtoStyle;
+
+    GenerationProfile(String displayName, String description, int maxPageSize, int exportFetchSize,
+                      int jdbcBatchSize, int maxPoolSize, int minIdle, String logLevel,
+                      boolean slicePagination, boolean cursorEndpoint, boolean countCache, boolean entityCache,
+                      DtoStyle dtoStyle) {
+        this.displayName = displayName;
+        this.description = description;
+        this.maxPageSize = maxPageSize;
+        this.exportFetchSize = exportFetchSize;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.maxPoolSize = maxPoolSize;
+        this.minIdle = minIdle;
+        this.logLevel = logLevel;
+        this.slicePagination = slicePagination;
+        this.cursorEndpoint = cursorEndpoint;
+        this.countCache = countCache;
+        this.entityCache = entityCache;
+        this.dtoStyle = dtoStyle;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Largest page size the generated service accepts; larger requests are capped.
+     */
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    /**
+     * Rows fetched per database round trip while streaming the export endpoint.
+     */
+    public int getExportFetchSize() {
+        return exportFetchSize;
+    }
+
+    public int getJdbcBatchSize() {
+        return jdbcBatchSize;
+    }
+
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public String getLogLevel() {
+        return logLevel;
+    }
+
+    /**
+     * Whether the pagination dialog preselects {@code Slice} instead of {@code Page} for the selected entities.
+     */
+    public boolean isSlicePagination() {
+        return slicePagination;
+    }
+
+    /**
+     * Default of {@link GenerationOptions#isCursorEndpoint()} when the profile is chosen.
+     */
+    public boolean isCursorEndpoint() {
+        return cursorEndpoint;
+    }
+
+    /**
+     * Default of {@link GenerationOptions#isCountCache()} when the profile is chosen.
+     */
+    public boolean isCountCache() {
+        return countCache;
+    }
+
+    /**
+     * Default of {@link GenerationOptions#isEntityCache()} when the profile is chosen.
+     */
+    public boolean isEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Default of {@link GenerationOptions#getDtoStyle()} when the profile is chosen.
+     */
+    public DtoStyle getDtoStyle() {
+        return dtoStyle;
+    }
+
+    /**
+     * Returns the profile with the given enum name, or {@link #DEFAULT} for unknown names.
+     */
+    public static GenerationProfile fromName(String name) {
+        for (GenerationProfile profile : values()) {
+            if (profile.name().equals(name)) {
+                return profile;
+            }
+        }
+        return DEFAULT;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,201 @@
+package com.karan.intellijplatformplugin.service;
+
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.*;
+import com.intellij.util.Alarm;
+import com.intellij.util.concurrency.AppExecutorUtil;
+import com.karan.intellijplatformplugin.generator.CrudGenerator;
+import com.karan.intellijplatformplugin.generator.GenerationManifest;
+import com.karan.intellijplatformplugin.generator.GenerationReport;
+import com.karan.intellijplatformplugin.generator.OutputMode;
+import com.karan.intellijplatformplugin.util.ExistingFileIndex;
+import com.karan.intellijplatformplugin.util.GeneratorOptions;
+import com.karan.intellijplatformplugin.util.PsiDirectoryUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps generated CRUD code in sync with its entities while live sync is enabled (opt-in, per project).
+ * PSI changes only record the edited file and restart a timer, so typing is not slowed down.
+ * Once edits pause, changed entities that were generated before are analyzed again in the background
+ * and only their outdated layers (usually the DTO) are regenerated; edited files are still left alone.
+ */
+@Service(Service.Level.PROJECT)
+public final class EntitySyncService implements Disposable {
+
+    private static final String ENABLED_PROPERTY = "springboot.crud.generator.liveSync";
+    private static final int DEBOUNCE_MILLIS = 1500;
+
+    private static final Logger LOG = Logger.getInstance(EntitySyncService.class);
+
+    private final Project project;
+    private final Set<VirtualFile> changedFiles = ConcurrentHashMap.newKeySet();
+    private final Alarm alarm;
+    private Disposable listenerDisposable;
+
+    public EntitySyncService(Project project) {
+        this.project = project;
+        this.alarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+    }
+
+    public static EntitySyncService getInstance(Project project) {
+        return project.getService(EntitySyncService.class);
+    }
+
+    public boolean isEnabled() {
+        return PropertiesComponent.getInstance(project).getBoolean(ENABLED_PROPERTY);
+    }
+
+    public void setEnabled(boolean enabled) {
+        PropertiesComponent.getInstance(project).setValue(ENABLED_PROPERTY, enabled);
+        if (enabled) {
+            start();
+        } else {
+            stop();
+        }
+    }
+
+    /**
+     * Starts watching entities if live sync is enabled for the project.
+     */
+    public synchronized void start() {
+        if (!isEnabled() || listenerDisposable != null) {
+            return;
+        }
+
+        listenerDisposable = Disposer.newDisposable("Spring Boot CRUD live sync");
+        Disposer.register(this, listenerDisposable);
+        PsiManager.getInstance(project).addPsiTreeChangeListener(new EntityChangeListener(), listenerDisposable);
+    }
+
+    private synchronized void stop() {
+        if (listenerDisposable != null) {
+            Disposer.dispose(listenerDisposable);
+            listenerDisposable = null;
+        }
+        alarm.cancelAllRequests();
+        changedFiles.clear();
+    }
+
+    /**
+     * Called on the EDT for every PSI change, so it does nothing but record the file.
+     */
+    private void changed(PsiTreeChangeEvent event) {
+        if (event.getFile() instanceof PsiJavaFile file && file.getVirtualFile() != null) {
+            changedFiles.add(file.getVirtualFile());
+            alarm.cancelAndRequest(this::sync, DEBOUNCE_MILLIS);
+        }
+    }
+
+    private void sync() {
+        List<VirtualFile> files = new ArrayList<>(changedFiles);
+        changedFiles.removeAll(files);
+        if (files.isEmpty()) {
+            return;
+        }
+
+        GenerationManifest manifest = GenerationManifestService.getManifest(project);
+        ReadAction.nonBlocking(() -> generatedEntities(files, manifest))
+                .inSmartMode(project)
+                .expireWith(this)
+                .submit(AppExecutorUtil.getAppExecutorService())
+                .onSuccess(targets -> regenerate(targets, manifest));
+    }
+
+    private List<CrudGenerator.Target> generatedEntities(List<VirtualFile> files, GenerationManifest manifest) {
+        List<CrudGenerator.Target> targets = new ArrayList<>();
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (VirtualFile file : files) {
+            if (!file.isValid() || !(psiManager.findFile(file) instanceof PsiJavaFile javaFile)) {
+                continue;
+            }
+
+            PsiDirectory sourceRoot = PsiDirectoryUtil.getSourceRoot(javaFile);
+            if (sourceRoot == null) {
+                continue;
+            }
+
+            for (PsiClass psiClass : javaFile.getClasses()) {
+                if (!PsiDirectoryUtil.isEntity(psiClass)) {
+                    continue;
+                }
+                CrudGenerator.Target target =
+                        new CrudGenerator.Target(sourceRoot, PsiDirectoryUtil.toClassMeta(psiClass));
+                if (CrudGenerator.isGenerated(target, manifest)) {
+                    targets.add(target);
+                }
+            }
+        }
+        return targets;
+    }
+
+    private void regenerate(List<CrudGenerator.Target> targets, GenerationManifest manifest) {
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        OutputMode outputMode = GeneratorOptions.outputMode();
+        boolean reformat = GeneratorOptions.reformat();
+        GenerationReport report = new GenerationReport(outputMode);
+        ExistingFileIndex existingFiles = ReadAction.compute(() -> CrudGenerator.indexExistingFiles(targets));
+        Map<PsiDirectory, List<CrudGenerator.Step>> steps = CrudGenerator.renderEntityLayers(
+                targets, GeneratorSettings.getInstance(project).getOptions(), manifest, existingFiles, report,
+                new EmptyProgressIndicator());
+        if (steps.isEmpty()) {
+            return;
+        }
+
+        ApplicationManager.getApplication().invokeLater(() -> {
+            WriteCommandAction.runWriteCommandAction(project, "Sync Generated CRUD Code", null, () ->
+                    CrudGenerator.write(project, steps, outputMode, reformat, manifest, existingFiles, report));
+            LOG.debug("Live sync: " + String.join("; ", report.summaryLines(0)));
+        }, project.getDisposed());
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    private final class EntityChangeListener extends PsiTreeChangeAdapter {
+
+        @Override
+        public void childAdded(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        @Override
+        public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        @Override
+        public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        @Override
+        public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+
+        @Override
+        public void childMoved(@NotNull PsiTreeChangeEvent event) {
+            changed(event);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.karan.intellijplatformplugin.service;
+
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.StartupActivity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Resumes live sync in projects that had it enabled.
+ */
+public final class EntitySyncStartupActivity implements StartupActivity, DumbAware {
+
+    @Override
+    public void runActivity(@NotNull Project project) {
+        EntitySyncService service = EntitySyncService.getInstance(project);
+        if (service.isEnabled()) {
+            service.start();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.karan.intellijplatformplugin.service;
+
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.components.StoragePathMacros;
+import com.intellij.openapi.project.Project;
+import com.karan.intellijplatformplugin.generator.GenerationManifest;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Persists the {@link GenerationManifest} of a project.
+ * It holds absolute file paths, so it is stored in the workspace file and not shared through VCS.
+ */
+@Service(Service.Level.PROJECT)
+@State(name = "SpringBootCrudGeneratorManifest", storages = @Storage(StoragePathMacros.WORKSPACE_FILE))
+public final class GenerationManifestService implements PersistentStateComponent<GenerationManifest> {
+
+    private GenerationManifest manifest = new GenerationManifest();
+
+    public static GenerationManifest getManifest(Project project) {
+        return project.getService(GenerationManifestService.class).manifest;
+    }
+
+    @Override
+    public @NotNull GenerationManifest getState() {
+        return manifest;
+    }
+
+    @Override
+    public void loadState(@NotNull GenerationManifest state) {
+        manifest = state;
+    }
+}
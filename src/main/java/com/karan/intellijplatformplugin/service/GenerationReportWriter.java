@@ -0,0 +1,70 @@
+package com.karan.intellijplatformplugin.service;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.project.Project;
+import com.karan.intellijplatformplugin.generator.GenerationReport;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Publishes a {@link GenerationReport}: a summary notification in the IDE and a JSON file under {@code .idea}.
+ */
+public final class GenerationReportWriter {
+
+    public static final String NOTIFICATION_GROUP = "Spring Boot CRUD Generator";
+    public static final String REPORT_FILE_NAME = "springboot-crud-generator-report.json";
+
+    private static final Logger LOG = Logger.getInstance(GenerationReportWriter.class);
+    private static final int SLOWEST_GENERATORS = 5;
+
+    private GenerationReportWriter() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Shows the summary as a warning only when generated files were kept because the user modified them;
+     * files skipped because they already existed are expected and reported as information.
+     */
+    public static void notify(Project project, GenerationReport report) {
+        String content = String.join("<br>", report.summaryLines(SLOWEST_GENERATORS));
+        NotificationGroupManager.getInstance()
+                .getNotificationGroup(NOTIFICATION_GROUP)
+                .createNotification("CRUD generation report", content,
+                        report.getFilesModifiedByUser() > 0 ? NotificationType.WARNING : NotificationType.INFORMATION)
+                .notify(project);
+    }
+
+    /**
+     * Writes the report of the last run to {@code .idea/springboot-crud-generator-report.json}.
+     * Failing to write the report never fails the generation.
+     */
+    public static void writeJson(Project project, GenerationReport report) {
+        String basePath = project.getBasePath();
+        if (basePath == null) {
+            return;
+        }
+
+        Path ideaDir = Path.of(basePath, ".idea");
+        if (!Files.isDirectory(ideaDir)) {
+            return;
+        }
+
+        try {
+            writeJson(ideaDir.resolve(REPORT_FILE_NAME), report);
+        } catch (IOException e) {
+            LOG.warn("Failed to write generation report", e);
+        }
+    }
+
+    public static void writeJson(Path file, GenerationReport report) throws IOException {
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        Files.writeString(file, gson.toJson(report), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package com.karan.intellijplatformplugin.service;
+
+import com.intellij.openapi.components.PersistentStateComponent;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.components.State;
+import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.project.Project;
+import com.karan.intellijplatformplugin.model.DtoStyle;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.model.GenerationProfile;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Project settings of the generator. They are stored in {@code .idea/springboot-crud-generator.xml},
+ * which can be shared through VCS so that a whole team generates code with the same profile and options.
+ */
+@Service(Service.Level.PROJECT)
+@State(name = "SpringBootCrudGeneratorSettings", storages = @Storage("springboot-crud-generator.xml"))
+public final class GeneratorSettings implements PersistentStateComponent<GeneratorSettings.State> {
+
+    /**
+     * The persisted state; the profile and DTO style are stored by their enum names, entities by their
+     * qualified names.
+     */
+    public static class State {
+        public String profile = GenerationProfile.DEFAULT.name();
+        public boolean listEndpoint = GenerationOptions.DEFAULT.isListEndpoint();
+        public boolean exportEndpoint = GenerationOptions.DEFAULT.isExportEndpoint();
+        public boolean cursorEndpoint = GenerationOptions.DEFAULT.isCursorEndpoint();
+        public List<String> sliceEntities = new ArrayList<>();
+        public List<String> pageEntities = new ArrayList<>();
+        public boolean countCache = GenerationOptions.DEFAULT.isCountCache();
+        public boolean entityCache = GenerationOptions.DEFAULT.isEntityCache();
+        public String dtoStyle = GenerationOptions.DEFAULT.getDtoStyle().name();
+    }
+
+    private State state = new State();
+
+    public static GeneratorSettings getInstance(Project project) {
+        return project.getService(GeneratorSettings.class);
+    }
+
+    public GenerationProfile getProfile() {
+        return GenerationProfile.fromName(state.profile);
+    }
+
+    public void setProfile(GenerationProfile profile) {
+        state.profile = profile.name();
+    }
+
+    /**
+     * Returns the options entity-specific code is generated with.
+     */
+    public GenerationOptions getOptions() {
+        return GenerationOptions.DEFAULT
+                .withProfile(getProfile())
+                .withListEndpoint(state.listEndpoint)
+                .withExportEndpoint(state.exportEndpoint)
+                .withCursorEndpoint(state.cursorEndpoint)
+                .withSliceEntities(Set.copyOf(state.sliceEntities))
+                .withPageEntities(Set.copyOf(state.pageEntities))
+                .withCountCache(state.countCache)
+                .withEntityCache(state.entityCache)
+                .withDtoStyle(DtoStyle.fromName(state.dtoStyle));
+    }
+
+    public void setOptions(GenerationOptions options) {
+        setProfile(options.getProfile());
+        state.listEndpoint = options.isListEndpoint();
+        state.exportEndpoint = options.isExportEndpoint();
+        state.cursorEndpoint = options.isCursorEndpoint();
+        state.sliceEntities = new ArrayList<>(options.getSliceEntities());
+        state.pageEntities = new ArrayList<>(options.getPageEntities());
+        state.countCache = options.isCountCache();
+        state.entityCache = options.isEntityCache();
+        state.dtoStyle = options.getDtoStyle().name();
+    }
+
+    @Override
+    public @NotNull State getState() {
+        return state;
+    }
+
+    @Override
+    public void loadState(@NotNull State state) {
+        this.state = state;
+    }
+}
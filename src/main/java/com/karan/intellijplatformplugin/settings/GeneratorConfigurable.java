@@ -0,0 +1,155 @@
+package com.karan.intellijplatformplugin.settings;
+
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.ComboBox;
+import com.intellij.ui.components.JBCheckBox;
+import com.intellij.ui.components.JBLabel;
+import com.intellij.util.ui.FormBuilder;
+import com.intellij.util.ui.UIUtil;
+import com.karan.intellijplatformplugin.model.DtoStyle;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.model.GenerationProfile;
+import com.karan.intellijplatformplugin.service.GeneratorSettings;
+import org.jetbrains.annotations.Nls;
+
+import javax.swing.*;
+
+/**
+ * Settings page under Tools for choosing the generation profile and optional endpoints of the project.
+ */
+public class GeneratorConfigurable implements Configurable {
+
+    private final Project project;
+    private ComboBox<GenerationProfile> profileBox;
+    private JBLabel descriptionLabel;
+    private JBCheckBox exportBox;
+    private JBCheckBox listBox;
+    private JBCheckBox cursorBox;
+    private JBCheckBox countCacheBox;
+    private JBCheckBox entityCacheBox;
+    private ComboBox<DtoStyle> dtoStyleBox;
+    private JBCheckBox forgetPaginationBox;
+
+    public GeneratorConfigurable(Project project) {
+        this.project = project;
+    }
+
+    @Override
+    public @Nls String getDisplayName() {
+        return "Spring Boot CRUD Generator";
+    }
+
+    @Override
+    public JComponent createComponent() {
+        profileBox = new ComboBox<>(GenerationProfile.values());
+        descriptionLabel = new JBLabel();
+        descriptionLabel.setComponentStyle(UIUtil.ComponentStyle.SMALL);
+        descriptionLabel.setFontColor(UIUtil.FontColor.BRIGHTER);
+        exportBox = new JBCheckBox("Streaming export endpoint (GET /api/{entity}/export, NDJSON or JSON array)");
+        listBox = new JBCheckBox("Unbounded list endpoint (GET /api/{entity}, loads the whole table)");
+        cursorBox = new JBCheckBox("Keyset pagination endpoint (GET /api/{entity}/cursor, constant cost per page)");
+        countCacheBox = new JBCheckBox("Cache entity counts (refreshed on create/delete, hit ratio via Actuator)");
+        entityCacheBox = new JBCheckBox("Cache findById results (Caffeine, refreshed on update, evicted on delete)");
+        dtoStyleBox = new ComboBox<>(DtoStyle.values());
+        forgetPaginationBox = new JBCheckBox();
+        profileBox.addActionListener(e -> applyProfileDefaults());
+
+        return FormBuilder.createFormBuilder()
+                .addLabeledComponent("Generation profile:", profileBox)
+                .addComponentToRightColumn(descriptionLabel)
+                .addSeparator()
+                .addComponent(exportBox)
+                .addComponent(listBox)
+                .addComponent(cursorBox)
+                .addComponent(countCacheBox)
+                .addComponent(entityCacheBox)
+                .addLabeledComponent("DTO style:", dtoStyleBox)
+                .addSeparator()
+                .addComponent(forgetPaginationBox)
+                .addComponentFillVertically(new JPanel(), 0)
+                .getPanel();
+    }
+
+    @Override
+    public boolean isModified() {
+        GenerationOptions saved = GeneratorSettings.getInstance(project).getOptions();
+        return forgetPaginationBox.isSelected() || !selectedOptions().fingerprint().equals(saved.fingerprint());
+    }
+
+    @Override
+    public void apply() {
+        GeneratorSettings.getInstance(project).setOptions(selectedOptions());
+        // Shows the new count of remembered pagination modes and clears the forget box
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        GenerationOptions options = GeneratorSettings.getInstance(project).getOptions();
+        profileBox.setSelectedItem(options.getProfile());
+        exportBox.setSelected(options.isExportEndpoint());
+        listBox.setSelected(options.isListEndpoint());
+        cursorBox.setSelected(options.isCursorEndpoint());
+        countCacheBox.setSelected(options.isCountCache());
+        entityCacheBox.setSelected(options.isEntityCache());
+        dtoStyleBox.setSelectedItem(options.getDtoStyle());
+        int remembered = options.getSliceEntities().size() + options.getPageEntities().size();
+        forgetPaginationBox.setText("Ask for the pagination mode of each entity again (" + remembered + " remembered)");
+        forgetPaginationBox.setEnabled(remembered > 0);
+        forgetPaginationBox.setSelected(false);
+        updateDescription();
+    }
+
+    @Override
+    public void disposeUIResources() {
+        profileBox = null;
+        descriptionLabel = null;
+        exportBox = null;
+        listBox = null;
+        cursorBox = null;
+        countCacheBox = null;
+        entityCacheBox = null;
+        dtoStyleBox = null;
+        forgetPaginationBox = null;
+    }
+
+    /**
+     * The saved options with the choices on this page; the per-entity pagination modes are kept unless forgotten.
+     */
+    private GenerationOptions selectedOptions() {
+        GenerationOptions saved = GeneratorSettings.getInstance(project).getOptions();
+        return (forgetPaginationBox.isSelected() ? saved.withoutPaginationModes() : saved)
+                .withProfile(selectedProfile())
+                .withExportEndpoint(exportBox.isSelected())
+                .withListEndpoint(listBox.isSelected())
+                .withCursorEndpoint(cursorBox.isSelected())
+                .withCountCache(countCacheBox.isSelected())
+                .withEntityCache(entityCacheBox.isSelected())
+                .withDtoStyle((DtoStyle) dtoStyleBox.getSelectedItem());
+    }
+
+    private GenerationProfile selectedProfile() {
+        return (GenerationProfile) profileBox.getSelectedItem();
+    }
+
+    /**
+     * Selects the options the chosen profile turns on or off. reset() selects the saved profile first and
+     * then restores the saved options.
+     */
+    private void applyProfileDefaults() {
+        GenerationProfile profile = selectedProfile();
+        if (profile != null) {
+            cursorBox.setSelected(profile.isCursorEndpoint());
+            countCacheBox.setSelected(profile.isCountCache());
+            entityCacheBox.setSelected(profile.isEntityCache());
+            dtoStyleBox.setSelectedItem(profile.getDtoStyle());
+        }
+        updateDescription();
+    }
+
+    private void updateDescription() {
+        GenerationProfile profile = selectedProfile();
+        descriptionLabel.setText(profile != null ? profile.getDescription() : "");
+    }
+}
@@ -0,0 +1,64 @@
+package com.karan.intellijplatformplugin.util;
+
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Paths of the files that exist below the scanned directories, collected in a single VFS traversal
+ * at the start of a generation run. Files created during the run are added as they are written.
+ * Paths outside the scanned directories fall back to a direct VFS lookup.
+ */
+public final class ExistingFileIndex {
+
+    private final Set<String> files = ConcurrentHashMap.newKeySet();
+    private final List<String> scannedDirectories = new ArrayList<>();
+
+    /**
+     * Indexes all files below the directory. Must be called inside a read action, before the index is shared.
+     */
+    public void scan(VirtualFile directory) {
+        if (directory == null || !directory.isDirectory()) {
+            return;
+        }
+        String prefix = directory.getPath() + "/";
+        for (String scanned : scannedDirectories) {
+            if (prefix.startsWith(scanned)) {
+                return;
+            }
+        }
+
+        scannedDirectories.add(prefix);
+        VfsUtilCore.iterateChildrenRecursively(directory, null, file -> {
+            if (!file.isDirectory()) {
+                files.add(file.getPath());
+            }
+            return true;
+        });
+    }
+
+    public boolean exists(String path) {
+        for (String scanned : scannedDirectories) {
+            if (path.startsWith(scanned)) {
+                return files.contains(path);
+            }
+        }
+        return LocalFileSystem.getInstance().findFileByPath(path) != null;
+    }
+
+    /**
+     * Records a file created during the run.
+     */
+    public void add(String path) {
+        files.add(path);
+    }
+
+    public int size() {
+        return files.size();
+    }
+}
@@ -0,0 +1,27 @@
+package com.karan.intellijplatformplugin.util;
+
+import com.intellij.openapi.util.registry.Registry;
+import com.karan.intellijplatformplugin.generator.OutputMode;
+
+/**
+ * Generator options backed by the registry keys declared in plugin.xml.
+ */
+public final class GeneratorOptions {
+
+    private static final String PSI_OUTPUT_REGISTRY_KEY = "springboot.crud.generator.psi.output";
+    private static final String REFORMAT_REGISTRY_KEY = "springboot.crud.generator.reformat";
+
+    private GeneratorOptions() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    public static OutputMode outputMode() {
+        return Registry.is(PSI_OUTPUT_REGISTRY_KEY)
+                ? OutputMode.PSI
+                : OutputMode.VFS;
+    }
+
+    public static boolean reformat() {
+        return Registry.is(REFORMAT_REGISTRY_KEY);
+    }
+}
@@ -0,0 +1,35 @@
+package com.karan.intellijplatformplugin.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Utility for content fingerprints.
+ */
+public class HashUtil {
+
+    /**
+     * Returns the hex encoded SHA-256 hash of the text.
+     */
+    public static String sha256(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the SHA-256 hash of the given parts, one per line.
+     */
+    public static String sha256(String... parts) {
+        return sha256(String.join("\n", parts));
+    }
+}
@@ -0,0 +1,96 @@
+package com.karan.intellijplatformplugin.util;
+
+import com.intellij.psi.*;
+import com.intellij.psi.codeStyle.JavaCodeStyleManager;
+
+/**
+ * Utility class for reading and adding JPA annotations (supports both javax and jakarta).
+ */
+public final class JpaAnnotations {
+
+    public static final String JAKARTA = "jakarta.persistence";
+    public static final String JAVAX = "javax.persistence";
+
+    private JpaAnnotations() {
+        throw new AssertionError("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Finds a JPA annotation by its simple name, e.g. {@code "ManyToOne"}.
+     */
+    public static PsiAnnotation find(PsiModifierListOwner owner, String simpleName) {
+        PsiAnnotation annotation = owner.getAnnotation(JAKARTA + "." + simpleName);
+        return annotation != null ? annotation : owner.getAnnotation(JAVAX + "." + simpleName);
+    }
+
+    public static boolean has(PsiModifierListOwner owner, String simpleName) {
+        return find(owner, simpleName) != null;
+    }
+
+    /**
+     * Returns the persistence package the entity is annotated from, so added annotations use the same one.
+     */
+    public static String packageOf(PsiClass entity) {
+        return entity != null && entity.hasAnnotation(JAVAX + ".Entity") ? JAVAX : JAKARTA;
+    }
+
+    /**
+     * Checks if an annotation attribute refers to the given enum constant, e.g. {@code FetchType.EAGER}.
+     * Falls back to the reference name when JPA is not on the module's classpath.
+     */
+    public static boolean isEnumConstant(PsiAnnotationMemberValue value, String constant) {
+        if (!(value instanceof PsiReferenceExpression reference)) {
+            return false;
+        }
+
+        PsiElement resolved = reference.resolve();
+        if (resolved instanceof PsiEnumConstant enumConstant) {
+            return constant.equals(enumConstant.getName());
+        }
+        return resolved == null && constant.equals(reference.getReferenceName());
+    }
+
+    /**
+     * Returns the first string of an attribute that holds a string or an array of strings, or null.
+     */
+    public static String firstString(PsiAnnotationMemberValue value) {
+        if (value instanceof PsiArrayInitializerMemberValue array) {
+            PsiAnnotationMemberValue[] initializers = array.getInitializers();
+            return initializers.length > 0 ? firstString(initializers[0]) : null;
+        }
+        if (value instanceof PsiExpression expression) {
+            Object constant = JavaPsiFacade.getInstance(expression.getProject())
+                    .getConstantEvaluationHelper()
+                    .computeConstantExpression(expression);
+            return constant instanceof String text ? text : null;
+        }
+        return null;
+    }
+
+    /**
+     * Creates an annotation value from text such as {@code "jakarta.persistence.FetchType.LAZY"}.
+     */
+    public static PsiAnnotationMemberValue createValue(String text, PsiElement context) {
+        PsiAnnotation holder = JavaPsiFacade.getElementFactory(context.getProject())
+                .createAnnotationFromText("@A(" + text + ")", context);
+        return holder.findDeclaredAttributeValue("value");
+    }
+
+    /**
+     * Adds an annotation with optional arguments (e.g. {@code "(fetch = ...)"}) and imports its types.
+     */
+    public static PsiAnnotation addAnnotation(PsiModifierListOwner owner, String qualifiedName, String arguments) {
+        PsiModifierList modifierList = owner.getModifierList();
+        if (modifierList == null) {
+            throw new IllegalStateException("Element cannot be annotated: " + owner);
+        }
+
+        PsiAnnotation annotation = modifierList.addAnnotation(qualifiedName);
+        if (!arguments.isEmpty()) {
+            PsiAnnotation withArguments = JavaPsiFacade.getElementFactory(owner.getProject())
+                    .createAnnotationFromText("@" + qualifiedName + arguments, owner);
+            annotation = (PsiAnnotation) annotation.replace(withArguments);
+        }
+        return (PsiAnnotation) JavaCodeStyleManager.getInstance(owner.getProject()).shortenClassReferences(annotation);
+    }
+}
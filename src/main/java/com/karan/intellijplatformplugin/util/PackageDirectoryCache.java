@@ -0,0 +1,70 @@
+package com.karan.intellijplatformplugin.util;
+
+import com.intellij.openapi.vfs.VirtualFile;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves package directories below a source root once per generation run.
+ * Parent packages are shared, so {@code com.example.dto} and {@code com.example.service}
+ * only walk {@code com.example} once. Must be used inside the write action that creates the files.
+ */
+public final class PackageDirectoryCache {
+
+    private final VirtualFile root;
+    private final Map<String, VirtualFile> directories = new HashMap<>();
+    private int hits;
+    private int misses;
+
+    public PackageDirectoryCache(VirtualFile root) {
+        if (root == null) {
+            throw new IllegalArgumentException("Root directory cannot be null");
+        }
+        this.root = root;
+    }
+
+    /**
+     * Returns the directory of the package, creating missing directories.
+     */
+    public VirtualFile getOrCreate(String packageName) throws IOException {
+        if (packageName == null || packageName.trim().isEmpty()) {
+            return root;
+        }
+
+        VirtualFile cached = directories.get(packageName);
+        if (cached != null && cached.isValid()) {
+            hits++;
+            return cached;
+        }
+        misses++;
+        return resolve(packageName);
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    private VirtualFile resolve(String packageName) throws IOException {
+        VirtualFile cached = directories.get(packageName);
+        if (cached != null && cached.isValid()) {
+            return cached;
+        }
+
+        int lastDot = packageName.lastIndexOf('.');
+        VirtualFile parent = lastDot < 0 ? root : resolve(packageName.substring(0, lastDot));
+        String name = packageName.substring(lastDot + 1);
+
+        VirtualFile dir = parent.findChild(name);
+        if (dir == null) {
+            dir = parent.createChildDirectory(PackageDirectoryCache.class, name);
+        }
+        directories.put(packageName, dir);
+        return dir;
+    }
+}
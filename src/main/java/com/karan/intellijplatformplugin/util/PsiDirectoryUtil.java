@@ -1,10 +1,21 @@
 package com.karan.intellijplatformplugin.util;
 
+import com.intellij.lang.java.JavaLanguage;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.*;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.karan.intellijplatformplugin.generator.TemplateOverrides;
 import com.karan.intellijplatformplugin.model.*;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Utility class for working with PSI directories and extracting class metadata.
@@ -35,37 +46,54 @@ public final class PsiDirectoryUtil {
     }
 
     /**
-     * Creates package directories if they don't exist.
+     * Finds the project (module) root directory containing the 'src' folder of a source root.
      */
-    public static PsiDirectory createPackageDirs(PsiDirectory root, String pkg) {
-        if (root == null) {
-            throw new IllegalArgumentException("Root directory cannot be null");
+    public static PsiDirectory getProjectRoot(PsiDirectory sourceRoot) {
+        PsiDirectory projectRoot = sourceRoot;
+        while (projectRoot.getParentDirectory() != null &&
+                !projectRoot.getName().equals("src")) {
+            projectRoot = projectRoot.getParentDirectory();
         }
-        if (pkg == null || pkg.trim().isEmpty()) {
-            return root;
+        if (projectRoot.getName().equals("src")) {
+            projectRoot = projectRoot.getParentDirectory();
         }
+        return projectRoot;
+    }
 
-        PsiDirectory current = root;
-        for (String part : pkg.split("\\.")) {
-            if (part.isEmpty()) continue;
-
-            PsiDirectory next = current.findSubdirectory(part);
-            if (next == null) {
-                next = current.createSubdirectory(part);
+    /**
+     * Finds (or creates) the 'resources' directory next to a source root.
+     */
+    public static PsiDirectory findResourcesDirectory(PsiDirectory sourceRoot) {
+        PsiDirectory main = sourceRoot.getParentDirectory();
+        if (main == null) return null;
+
+        PsiDirectory resources = main.findSubdirectory("resources");
+        if (resources == null) {
+            try {
+                resources = main.createSubdirectory("resources");
+            } catch (Exception e) {
+                return null;
             }
-            current = next;
         }
-        return current;
+
+        return resources;
     }
 
     /**
-     * Extracts class metadata from a PSI class.
+     * Extracts class metadata from a PSI class. Must be called inside a read action.
+     * The result is cached on the class and recomputed after any change to a Java file.
      */
     public static ClassMeta toClassMeta(PsiClass psiClass) {
         if (psiClass == null) {
             throw new IllegalArgumentException("PSI class cannot be null");
         }
 
+        // Field types and @Id resolve against other Java files; edits to XML, properties etc. keep the cached value
+        return CachedValuesManager.getCachedValue(psiClass, () -> CachedValueProvider.Result.create(
+                extractClassMeta(psiClass), javaModificationTracker(psiClass)));
+    }
+
+    private static ClassMeta extractClassMeta(PsiClass psiClass) {
         String className = psiClass.getName();
         if (className == null) {
             throw new IllegalStateException("Class name is null");
@@ -103,7 +131,56 @@ public final class PsiDirectoryUtil {
             }
         }
 
-        return new ClassMeta(className, packageName, idType, fields);
+        String basePath = psiClass.getProject().getBasePath();
+        String templateDirectory = basePath != null ? basePath + "/" + TemplateOverrides.DIRECTORY : null;
+
+        return new ClassMeta(className, packageName, idType, fields, templateDirectory);
+    }
+
+    /**
+     * Collects all @Entity classes from the selected files and directories (recursively).
+     */
+    public static List<PsiClass> collectEntityClasses(Project project, VirtualFile[] selection) {
+        Set<PsiClass> entities = new LinkedHashSet<>();
+        if (project == null || selection == null) {
+            return new ArrayList<>(entities);
+        }
+
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (VirtualFile selected : selection) {
+            VfsUtilCore.iterateChildrenRecursively(selected, null, vf -> {
+                if (!vf.isDirectory() && "java".equals(vf.getExtension())) {
+                    PsiFile psiFile = psiManager.findFile(vf);
+                    if (psiFile instanceof PsiJavaFile) {
+                        for (PsiClass psiClass : ((PsiJavaFile) psiFile).getClasses()) {
+                            if (isEntity(psiClass)) {
+                                entities.add(psiClass);
+                            }
+                        }
+                    }
+                }
+                return true;
+            });
+        }
+        return new ArrayList<>(entities);
+    }
+
+    /**
+     * Checks if a class has @Entity annotation (supports both javax and jakarta).
+     * Resolving the annotation depends on imports and other classes, so the cached result is dropped on any Java change.
+     */
+    public static boolean isEntity(PsiClass psiClass) {
+        return CachedValuesManager.getCachedValue(psiClass, () -> CachedValueProvider.Result.create(
+                hasEntityAnnotation(psiClass), javaModificationTracker(psiClass)));
+    }
+
+    private static ModificationTracker javaModificationTracker(PsiClass psiClass) {
+        return PsiModificationTracker.getInstance(psiClass.getProject()).forLanguage(JavaLanguage.INSTANCE);
+    }
+
+    private static boolean hasEntityAnnotation(PsiClass psiClass) {
+        return psiClass.hasAnnotation("jakarta.persistence.Entity") ||
+                psiClass.hasAnnotation("javax.persistence.Entity");
     }
 
     /**
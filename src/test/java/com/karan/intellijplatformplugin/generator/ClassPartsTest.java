@@ -0,0 +1,58 @@
+package com.karan.intellijplatformplugin.generator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ClassPartsTest {
+
+    private static final Template TEMPLATE = Template.compile("""
+            {{imports}}class Service {
+            {{fields}}
+                Service({{constructorParameters}}) {
+            {{constructorAssignments}}    }
+            }
+            """);
+
+    @Test
+    void importsAreGroupedSortedAndDeduplicated() {
+        ClassParts parts = new ClassParts()
+                .imports("java.util.stream.Stream", "org.springframework.data.domain.Pageable")
+                .imports("java.util.List", "java.util.stream.Stream", "java.util.stream.Stream")
+                .imports("org.springframework.data.domain.Pageable", "com.acme.Product");
+
+        assertEquals("""
+                import com.acme.Product;
+                import org.springframework.data.domain.Pageable;
+
+                import java.util.List;
+                import java.util.stream.Stream;
+
+                class Service {
+
+                    Service() {
+                    }
+                }
+                """, TEMPLATE.render(parts.applyTo(new TemplateContext())));
+    }
+
+    @Test
+    void dependenciesAreInjectedInOrder() {
+        ClassParts parts = new ClassParts()
+                .inject("ProductRepository", "repository")
+                .inject("EntityCountCache", "countCache");
+
+        assertEquals("""
+
+                class Service {
+                    private final ProductRepository repository;
+                    private final EntityCountCache countCache;
+
+                    Service(ProductRepository repository, EntityCountCache countCache) {
+                        this.repository = repository;
+                        this.countCache = countCache;
+                    }
+                }
+                """, TEMPLATE.render(parts.applyTo(new TemplateContext())));
+    }
+}
@@ -0,0 +1,67 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountCacheTest {
+
+    private static final ClassMeta PRODUCT = new ClassMeta("Product", "com.acme.shop.entity", "Long",
+            List.of(new FieldMeta("id", "Long"), new FieldMeta("name", "String")));
+
+    private static final GenerationOptions COUNT_CACHE = GenerationOptions.DEFAULT.withCountCache(true);
+
+    @Test
+    void serviceCountsThroughTheCache() {
+        String service = ServiceGenerator.render(PRODUCT, COUNT_CACHE).getContent();
+
+        assertTrue(service.contains("return countCache.get(\"Product\", repository::count);"));
+        assertTrue(service.contains("private final EntityCountCache countCache;"));
+    }
+
+    @Test
+    void writesInvalidateTheCountAfterCommit() {
+        String service = ServiceGenerator.render(PRODUCT, COUNT_CACHE).getContent();
+
+        // create and delete
+        assertEquals(2, service.split("countCache.invalidateAfterCommit\\(\"Product\"\\);", -1).length - 1);
+    }
+
+    @Test
+    void pagesTakeTheirTotalFromTheCache() {
+        String service = ServiceGenerator.render(PRODUCT, COUNT_CACHE).getContent();
+
+        assertTrue(service.contains("Slice<Product> rows = repository.findAllBy(pageable);"));
+        assertTrue(service.contains("PageableExecutionUtils.getPage(rows.getContent(), pageable, this::count)"));
+        assertTrue(RepositoryGenerator.render(PRODUCT, COUNT_CACHE).getContent()
+                .contains("Slice<Product> findAllBy(Pageable pageable);"));
+    }
+
+    @Test
+    void cacheIsASharedServiceBean() {
+        GeneratedFile cache = CountCacheGenerator.render(PRODUCT);
+
+        assertEquals("com.acme.shop.service", cache.getPackageName());
+        assertEquals("EntityCountCache.java", cache.getFileName());
+        assertTrue(cache.getContent().contains("Gauge.builder(\"entity.count.cache.hit.ratio\""));
+        assertTrue(ApplicationPropertiesGenerator.render(PRODUCT, false, COUNT_CACHE).stream()
+                .anyMatch(section -> section.getContent().contains("app.count-cache.ttl=")));
+    }
+
+    @Test
+    void countsAreQueriedDirectlyByDefault() {
+        String service = ServiceGenerator.render(PRODUCT).getContent();
+
+        assertTrue(service.contains("return repository.count();"));
+        assertTrue(service.contains("Page<Product> result = repository.findAll(pageable);"));
+        assertFalse(service.contains("countCache"));
+    }
+}
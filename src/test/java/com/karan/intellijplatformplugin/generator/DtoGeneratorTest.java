@@ -0,0 +1,81 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.DtoStyle;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DtoGeneratorTest {
+
+    private static final ClassMeta PRODUCT = new ClassMeta("Product", "com.acme.shop.entity", "Long",
+            List.of(new FieldMeta("id", "Long"), new FieldMeta("name", "String"), new FieldMeta("price", "BigDecimal")));
+
+    @Test
+    void rendersFieldsAccessorsAndToString() {
+        GeneratedFile dto = DtoGenerator.render(PRODUCT);
+        String code = dto.getContent();
+
+        assertEquals("ProductDto.java", dto.getFileName());
+        assertTrue(code.startsWith("package com.acme.shop.dto;"));
+        assertTrue(code.contains("private String name;"));
+        assertTrue(code.contains("public BigDecimal getPrice() {"));
+        assertTrue(code.contains("public void setPrice(BigDecimal price) {"));
+        assertTrue(code.contains("\"name='\" + name + \"', price='\" + price + \"'\" +"));
+        assertFalse(code.contains("private Long id;"));
+    }
+
+    @Test
+    void entityWithoutFieldsHasAnEmptyToString() {
+        ClassMeta tag = new ClassMeta("Tag", "com.acme.shop.entity", "Long", List.of(new FieldMeta("id", "Long")));
+
+        assertTrue(DtoGenerator.render(tag).getContent().contains("return \"TagDto{}\";"));
+    }
+
+    @Test
+    void membersAreWrittenInPlaceForWideEntities() {
+        List<FieldMeta> fields = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            fields.add(new FieldMeta("field" + i, "String"));
+        }
+        ClassMeta wide = new ClassMeta("Wide", "com.acme.shop.entity", "Long", fields);
+
+        String members = DtoGenerator.renderMembers(wide);
+
+        assertTrue(DtoGenerator.render(wide).getContent().contains(members));
+        assertTrue(members.contains("public void setField499(String field499) {"));
+    }
+
+    @Test
+    void recordStyleRendersComponentsWithoutAccessors() {
+        GenerationOptions options = GenerationOptions.DEFAULT.withDtoStyle(DtoStyle.RECORD);
+        String code = DtoGenerator.render(PRODUCT, options).getContent();
+
+        assertTrue(code.contains("public record ProductDto("));
+        assertTrue(code.contains("        String name,\n"));
+        assertTrue(code.contains("        BigDecimal price\n) {\n}"));
+        assertFalse(code.contains("Long id"));
+        assertFalse(code.contains("public BigDecimal getPrice()"));
+    }
+
+    @Test
+    void recordMapperCopiesWithoutReflection() {
+        GenerationOptions options = GenerationOptions.DEFAULT.withDtoStyle(DtoStyle.RECORD);
+        String code = MapperGenerator.render(PRODUCT, options).getContent();
+
+        assertTrue(code.contains("return new ProductDto(\n                entity.getName(),\n"
+                + "                entity.getPrice());"));
+        assertTrue(code.contains("entity.setPrice(dto.price());"));
+        assertFalse(code.contains("BeanUtils"));
+        String classMapper = MapperGenerator.render(PRODUCT).getContent();
+        assertTrue(classMapper.contains("BeanUtils.copyProperties(entity, dto, \"id\");"));
+    }
+}
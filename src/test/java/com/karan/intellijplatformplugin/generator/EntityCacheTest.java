@@ -0,0 +1,87 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityCacheTest {
+
+    private static final ClassMeta PRODUCT = new ClassMeta("Product", "com.acme.shop.entity", "Long",
+            List.of(new FieldMeta("id", "Long"), new FieldMeta("name", "String")));
+
+    private static final GenerationOptions ENTITY_CACHE = GenerationOptions.DEFAULT.withEntityCache(true);
+
+    @Test
+    void serviceCachesDtosInACachePerEntity() {
+        String service = ServiceGenerator.render(PRODUCT, ENTITY_CACHE).getContent();
+
+        assertTrue(service.contains("""
+                    @Cacheable(cacheNames = "product", key = "#id")
+                    public ProductDto findDtoById(Long id) {
+                        return ProductMapper.toDto(findById(id));
+                    }
+                """));
+        assertTrue(service.contains("    public Product findById(Long id) {"));
+        assertFalse(service.contains("@CachePut"));
+    }
+
+    @Test
+    void writesEvictTheCachedDto() {
+        String service = ServiceGenerator.render(PRODUCT, ENTITY_CACHE).getContent();
+
+        assertTrue(service.contains("""
+                    @CacheEvict(cacheNames = "product", key = "#id")
+                    public Product update(Long id, ProductDto dto) {
+                """));
+        assertTrue(service.contains("""
+                    @CacheEvict(cacheNames = "product", key = "#id")
+                    public void delete(Long id) {
+                """));
+    }
+
+    @Test
+    void controllerReturnsTheCachedDto() {
+        String controller = ControllerGenerator.render(PRODUCT, ENTITY_CACHE).getContent();
+
+        assertTrue(controller.contains("public ResponseEntity<ProductDto> getById("));
+        assertTrue(controller.contains("ProductDto dto = service.findDtoById(id);"));
+        assertTrue(ControllerGenerator.render(PRODUCT).getContent().contains("Product entity = service.findById(id);"));
+    }
+
+    @Test
+    void cacheChangesApplyAfterCommit() {
+        GeneratedFile config = CacheConfigGenerator.render(PRODUCT);
+
+        assertEquals("CacheConfig.java", config.getFileName());
+        assertTrue(config.getContent().contains("@EnableCaching"));
+        assertTrue(config.getContent().contains("return new TransactionAwareCacheManagerProxy(cacheManager);"));
+    }
+
+    @Test
+    void propertiesShareTheActuatorSectionWithTheCountCache() {
+        GenerationOptions both = ENTITY_CACHE.withCountCache(true);
+        List<String> markers = ApplicationPropertiesGenerator.render(PRODUCT, false, both).stream()
+                .map(GeneratedFile::getMarker)
+                .toList();
+
+        assertTrue(markers.contains("Entity Cache"));
+        assertTrue(markers.contains("Entity Count Cache"));
+        assertEquals(1, markers.stream().filter("Actuator Endpoints"::equals).count());
+    }
+
+    @Test
+    void nothingIsCachedByDefault() {
+        String service = ServiceGenerator.render(PRODUCT).getContent();
+
+        assertFalse(service.contains("@Cacheable"));
+        assertFalse(service.contains("findDtoById"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.model.GenerationProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExportEndpointTest {
+
+    private static final ClassMeta PRODUCT = new ClassMeta("Product", "com.acme.shop.entity", "Long",
+            List.of(new FieldMeta("id", "Long"), new FieldMeta("name", "String")));
+
+    @Test
+    void unpaginatedListIsOptIn() {
+        assertFalse(ControllerGenerator.render(PRODUCT).getContent().contains("service.findAll()"));
+        assertFalse(ServiceGenerator.render(PRODUCT).getContent().contains("public List<Product> findAll()"));
+
+        GenerationOptions list = GenerationOptions.DEFAULT.withListEndpoint(true);
+        assertTrue(ControllerGenerator.render(PRODUCT, list).getContent().contains("service.findAll()"));
+        assertTrue(ServiceGenerator.render(PRODUCT, list).getContent().contains("public List<Product> findAll()"));
+    }
+
+    @Test
+    void exportStreamsAndDetachesEachEntity() {
+        String service = ServiceGenerator.render(PRODUCT).getContent();
+        assertTrue(service.contains("try (Stream<Product> entities = repository.streamAllBy()) {"));
+        assertTrue(service.contains("entityManager.detach(entity);"));
+
+        String controller = ControllerGenerator.render(PRODUCT).getContent();
+        assertTrue(controller.contains("public ResponseEntity<StreamingResponseBody> export("));
+
+        List<GeneratedFile> properties = ApplicationPropertiesGenerator.render(PRODUCT, false);
+        assertTrue(properties.stream().anyMatch(section -> "Streaming Export".equals(section.getMarker())));
+    }
+
+    @Test
+    void repositoryFetchesRowsInBatchesOfTheProfile() {
+        GenerationOptions options = GenerationOptions.DEFAULT.withProfile(GenerationProfile.LOW_MEMORY);
+        String repository = RepositoryGenerator.render(PRODUCT, options).getContent();
+
+        assertTrue(repository.contains("Stream<Product> streamAllBy();"));
+        assertTrue(repository.contains("value = \"" + GenerationProfile.LOW_MEMORY.getExportFetchSize() + "\""));
+    }
+
+    @Test
+    void exportCanBeTurnedOff() {
+        GenerationOptions options = GenerationOptions.DEFAULT.withExportEndpoint(false);
+
+        assertFalse(ControllerGenerator.render(PRODUCT, options).getContent().contains("/export"));
+        assertFalse(ServiceGenerator.render(PRODUCT, options).getContent().contains("streamAll"));
+        assertFalse(RepositoryGenerator.render(PRODUCT, options).getContent().contains("streamAllBy"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.karan.intellijplatformplugin.util.ExistingFileIndex;
+
+import java.io.IOException;
+import java.util.List;
+
+public class GenerationManifestTest extends BasePlatformTestCase {
+
+    private final GenerationManifest manifest = new GenerationManifest();
+    private final ExistingFileIndex existingFiles = new ExistingFileIndex();
+
+    private String repositoryPath;
+    private String servicePath;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        repositoryPath = createFile("shop/repository/ProductRepository.java");
+        servicePath = createFile("shop/service/ProductService.java");
+        existingFiles.scan(myFixture.getTempDirFixture().findOrCreateDir("shop"));
+    }
+
+    public void testStepWithSameInputsAndFilesIsUpToDate() {
+        manifest.recordStep("product|repository", "hash", List.of(repositoryPath, servicePath));
+
+        assertTrue(manifest.hasStep("product|repository"));
+        assertTrue(manifest.isUpToDate("product|repository", "hash", existingFiles));
+    }
+
+    public void testStepWithChangedInputsIsOutdated() {
+        manifest.recordStep("product|repository", "hash", List.of(repositoryPath));
+
+        assertFalse(manifest.isUpToDate("product|repository", "changed", existingFiles));
+    }
+
+    public void testStepWithMissingFileIsOutdated() {
+        String controllerPath = repositoryPath.replace("repository/ProductRepository", "controller/ProductController");
+        manifest.recordStep("product|controller", "hash", List.of(repositoryPath, controllerPath));
+
+        assertFalse(manifest.isUpToDate("product|controller", "hash", existingFiles));
+
+        existingFiles.add(controllerPath);
+        assertTrue(manifest.isUpToDate("product|controller", "hash", existingFiles));
+    }
+
+    public void testUnknownStepIsOutdated() {
+        assertFalse(manifest.hasStep("product|dto"));
+        assertFalse(manifest.isUpToDate("product|dto", "hash", existingFiles));
+    }
+
+    public void testStepWithoutFilesIsOutdated() {
+        manifest.recordStep("product|dto", "hash", List.of());
+
+        assertTrue(manifest.hasStep("product|dto"));
+        assertFalse(manifest.isUpToDate("product|dto", "hash", existingFiles));
+    }
+
+    public void testRecordingAStepAgainReplacesItsInputsAndFiles() {
+        manifest.recordStep("product|service", "first", List.of(repositoryPath));
+        manifest.recordStep("product|service", "second", List.of(servicePath));
+
+        assertFalse(manifest.isUpToDate("product|service", "first", existingFiles));
+        assertTrue(manifest.isUpToDate("product|service", "second", existingFiles));
+        assertEquals(servicePath, manifest.stepFiles.get("product|service"));
+    }
+
+    public void testContentHashIsOnlyKnownForGeneratedFiles() {
+        manifest.recordContent(repositoryPath, "content");
+
+        assertEquals("content", manifest.getContentHash(repositoryPath));
+        assertNull(manifest.getContentHash(servicePath));
+    }
+
+    private String createFile(String relativePath) throws IOException {
+        VirtualFile file = myFixture.getTempDirFixture().createFile(relativePath, "");
+        return file.getPath();
+    }
+}
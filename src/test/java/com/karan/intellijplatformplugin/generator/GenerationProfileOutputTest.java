@@ -0,0 +1,61 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.model.GenerationProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenerationProfileOutputTest {
+
+    private static final ClassMeta PRODUCT = new ClassMeta("Product", "com.acme.shop.entity", "Long",
+            List.of(new FieldMeta("id", "Long"), new FieldMeta("name", "String")));
+
+    @Test
+    void defaultProfileKeepsTheSpringBootDefaults() {
+        GenerationOptions options = options(GenerationProfile.DEFAULT);
+        List<GeneratedFile> sections = ApplicationPropertiesGenerator.render(PRODUCT, false, options);
+
+        assertFalse(sections.stream().anyMatch(section -> "Performance Tuning".equals(section.getMarker())));
+        assertTrue(ServiceGenerator.render(PRODUCT, options).getContent().contains("size = 100;"));
+    }
+
+    @Test
+    void bulkWriteBatchesStatements() {
+        String tuning = tuning(GenerationProfile.BULK_WRITE);
+
+        assertTrue(tuning.contains("# Performance Tuning (profile: Bulk write)"));
+        assertTrue(tuning.contains("spring.jpa.properties.hibernate.jdbc.batch_size=100\n"));
+        assertTrue(tuning.contains("spring.jpa.properties.hibernate.order_inserts=true\n"));
+        assertTrue(tuning.contains("logging.level.com.acme.shop=WARN\n"));
+    }
+
+    @Test
+    void lowMemoryShrinksThePoolAndThePages() {
+        String tuning = tuning(GenerationProfile.LOW_MEMORY);
+
+        assertTrue(tuning.contains("spring.datasource.hikari.maximum-pool-size=4\n"));
+        assertTrue(tuning.contains("spring.datasource.hikari.minimum-idle=1\n"));
+        GenerationOptions options = options(GenerationProfile.LOW_MEMORY);
+        assertTrue(ServiceGenerator.render(PRODUCT, options).getContent().contains("size = 50;"));
+        assertTrue(ControllerGenerator.render(PRODUCT, options).getContent().contains("Page size (max 50)"));
+    }
+
+    private static GenerationOptions options(GenerationProfile profile) {
+        return GenerationOptions.DEFAULT.withProfile(profile);
+    }
+
+    private static String tuning(GenerationProfile profile) {
+        return ApplicationPropertiesGenerator.render(PRODUCT, false, options(profile)).stream()
+                .filter(section -> "Performance Tuning".equals(section.getMarker()))
+                .findFirst()
+                .orElseThrow()
+                .getContent();
+    }
+}
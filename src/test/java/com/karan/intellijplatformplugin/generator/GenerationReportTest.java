@@ -0,0 +1,34 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenerationReportTest {
+
+    @Test
+    void expectedSkipsAreNotCountedAsModified() {
+        GenerationReport report = new GenerationReport(OutputMode.DIRECTORY);
+        report.fileSkipped(GeneratedFile.sharedJavaSource("com.acme", "PageResponse.java", ""), 0, "already exists");
+        report.fileSkipped(GeneratedFile.javaSource("com.acme", "ProductService.java", ""), 0, "written by hand");
+
+        assertEquals(2, report.getFilesSkipped());
+        assertEquals(0, report.getFilesModifiedByUser());
+    }
+
+    @Test
+    void filesModifiedByUserAreSkippedAndReported() {
+        GenerationReport report = new GenerationReport(OutputMode.DIRECTORY);
+        GeneratedFile service = GeneratedFile.javaSource("com.acme", "ProductService.java", "");
+        report.fileModifiedByUser(service, 0);
+
+        assertEquals(1, report.getFilesSkipped());
+        assertEquals(1, report.getFilesModifiedByUser());
+        assertEquals(List.of("ProductService.java: modified by the user"), report.getSkippedFiles());
+        assertTrue(report.summaryLines(5).contains("1 files kept because they were modified since generation"));
+    }
+}
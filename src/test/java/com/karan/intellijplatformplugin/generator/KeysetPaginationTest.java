@@ -0,0 +1,71 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeysetPaginationTest {
+
+    private static final ClassMeta PRODUCT = new ClassMeta("Product", "com.acme.shop.entity", "Long",
+            List.of(new FieldMeta("id", "Long"), new FieldMeta("name", "String")));
+
+    private static final GenerationOptions CURSOR = GenerationOptions.DEFAULT.withCursorEndpoint(true);
+
+    @Test
+    void repositorySeeksPastTheCursorInBothDirections() {
+        String repository = RepositoryGenerator.render(PRODUCT, CURSOR).getContent();
+
+        assertTrue(repository.contains("Slice<Product> findAllBy(Pageable pageable);"));
+        assertTrue(repository.contains("Slice<Product> findByIdGreaterThan(Long id, Pageable pageable);"));
+        assertTrue(repository.contains("Slice<Product> findByIdLessThan(Long id, Pageable pageable);"));
+    }
+
+    @Test
+    void serviceReadsTheFirstPageOfTheRemainingRows() {
+        String service = ServiceGenerator.render(PRODUCT, CURSOR).getContent();
+
+        assertTrue(service.contains(
+                "public CursorPageResponse<Product> findAllByCursor(String cursor, int size, String sortDirection)"));
+        assertTrue(service.contains("PageRequest.of(0, size, Sort.by(direction, \"id\"))"));
+        assertTrue(service.contains("repository.findByIdGreaterThan(decodeCursor(cursor), pageable)"));
+        assertTrue(service.contains("repository.findByIdLessThan(decodeCursor(cursor), pageable)"));
+        assertTrue(service.contains("import com.acme.shop.dto.CursorPageResponse;"));
+    }
+
+    @Test
+    void controllerExposesTheCursorEndpoint() {
+        String controller = ControllerGenerator.render(PRODUCT, CURSOR).getContent();
+
+        assertTrue(controller.contains("@GetMapping(\"/cursor\")"));
+        assertTrue(controller.contains("service.findAllByCursor(cursor, size, sortDirection)"));
+    }
+
+    @Test
+    void cursorResponseIsOnlyGeneratedWhenEnabled() {
+        assertEquals(List.of("PageResponse.java", "SliceResponse.java", "CursorPageResponse.java",
+                "SortDirection.java"), fileNames(PaginationGenerator.render(PRODUCT, CURSOR)));
+        assertFalse(fileNames(PaginationGenerator.render(PRODUCT, GenerationOptions.DEFAULT))
+                .contains("CursorPageResponse.java"));
+    }
+
+    @Test
+    void nothingIsGeneratedForCursorsByDefault() {
+        GenerationOptions options = GenerationOptions.DEFAULT;
+
+        assertFalse(RepositoryGenerator.render(PRODUCT, options).getContent().contains("findByIdGreaterThan"));
+        assertFalse(ServiceGenerator.render(PRODUCT, options).getContent().contains("findAllByCursor"));
+        assertFalse(ControllerGenerator.render(PRODUCT, options).getContent().contains("/cursor"));
+    }
+
+    private static List<String> fileNames(List<GeneratedFile> files) {
+        return files.stream().map(GeneratedFile::getFileName).toList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDirectory;
+import com.intellij.psi.PsiManager;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import com.karan.intellijplatformplugin.util.ExistingFileIndex;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Before/after measurement of the write phase: the same 50-entity batch is written through the PSI output mode
+ * (parse, copy into the directory, parse again) and through the VFS output mode (save the rendered text).
+ * The fastest of several rounds per mode is printed; see the test output of
+ * {@code ./gradlew test --tests '*OutputModeBenchmarkTest' -i}.
+ * Files live in the light fixture's in-memory file system, so the figures leave out disk I/O.
+ */
+public class OutputModeBenchmarkTest extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final int ENTITIES = 50;
+    private static final int FIELDS = 10;
+    private static final int ROUNDS = 5;
+
+    public void testBothModesWriteTheSameBatch() throws IOException {
+        List<List<GeneratedFile>> batch = renderBatch();
+        int files = batch.stream().mapToInt(List::size).sum();
+
+        long psiMillis = Long.MAX_VALUE;
+        long vfsMillis = Long.MAX_VALUE;
+        // The first round of each mode loads classes and warms up the parser, so it is not counted
+        for (int round = 0; round <= ROUNDS; round++) {
+            long psi = write(batch, OutputMode.PSI, "psi" + round);
+            long vfs = write(batch, OutputMode.VFS, "vfs" + round);
+            if (round > 0) {
+                psiMillis = Math.min(psiMillis, psi);
+                vfsMillis = Math.min(vfsMillis, vfs);
+            }
+        }
+
+        System.out.printf("Write phase, %d entities (%d files), best of %d rounds: PSI %d ms, VFS %d ms%n",
+                ENTITIES, files, ROUNDS, psiMillis, vfsMillis);
+
+        String path = "src/main/java/com/example/shop/service/Entity0Service.java";
+        VirtualFile psiFile = myFixture.getTempDirFixture().findOrCreateDir("psi0").findFileByRelativePath(path);
+        VirtualFile vfsFile = myFixture.getTempDirFixture().findOrCreateDir("vfs0").findFileByRelativePath(path);
+        assertNotNull(psiFile);
+        assertNotNull(vfsFile);
+        assertEquals(new String(psiFile.contentsToByteArray()), new String(vfsFile.contentsToByteArray()));
+    }
+
+    /**
+     * Writes the batch below a new source root and returns the write time; asserts every file was created.
+     */
+    private long write(List<List<GeneratedFile>> batch, OutputMode outputMode, String module) throws IOException {
+        VirtualFile root = myFixture.getTempDirFixture().findOrCreateDir(module + "/src/main/java");
+        PsiDirectory sourceRoot = PsiManager.getInstance(getProject()).findDirectory(root);
+        assertNotNull(sourceRoot);
+
+        List<CrudGenerator.Step> steps = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            steps.add(new CrudGenerator.Step("entity" + i, "hash", batch.get(i)));
+        }
+
+        GenerationReport report = new GenerationReport(outputMode);
+        long start = System.nanoTime();
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> CrudGenerator.write(getProject(),
+                Map.of(sourceRoot, steps), outputMode, false, new GenerationManifest(), new ExistingFileIndex(),
+                report));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(batch.stream().mapToInt(List::size).sum(), report.getFilesCreated());
+        return millis;
+    }
+
+    private static List<List<GeneratedFile>> renderBatch() {
+        GenerationReport report = new GenerationReport(OutputMode.VFS);
+        List<List<GeneratedFile>> batch = new ArrayList<>();
+        for (int i = 0; i < ENTITIES; i++) {
+            List<FieldMeta> fields = new ArrayList<>();
+            fields.add(new FieldMeta("id", "Long"));
+            for (int f = 0; f < FIELDS; f++) {
+                fields.add(new FieldMeta("attribute" + f, "String"));
+            }
+            ClassMeta meta = new ClassMeta("Entity" + i, "com.example.shop.entity", "Long", fields);
+            batch.add(CrudGenerator.renderEntity(meta, GenerationOptions.DEFAULT, report));
+        }
+        return batch;
+    }
+}
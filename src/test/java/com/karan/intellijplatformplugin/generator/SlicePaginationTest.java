@@ -0,0 +1,56 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlicePaginationTest {
+
+    private static final ClassMeta PRODUCT = new ClassMeta("Product", "com.acme.shop.entity", "Long",
+            List.of(new FieldMeta("id", "Long"), new FieldMeta("name", "String")));
+    private static final ClassMeta ORDER = new ClassMeta("Order", "com.acme.shop.entity", "Long",
+            List.of(new FieldMeta("id", "Long")));
+
+    private static final GenerationOptions SLICE =
+            GenerationOptions.DEFAULT.withSlicePagination(PRODUCT.qualifiedName(), true);
+
+    @Test
+    void serviceReadsASliceWithoutCountQuery() {
+        String service = ServiceGenerator.render(PRODUCT, SLICE).getContent();
+
+        assertTrue(service.contains(
+                "public Slice<Product> findAllPaginated(int page, int size, String sortBy, String sortDirection)"));
+        assertTrue(service.contains("Slice<Product> result = repository.findAllBy(pageable);"));
+        assertFalse(service.contains("repository.findAll(pageable)"));
+    }
+
+    @Test
+    void repositoryDeclaresTheSliceQuery() {
+        assertTrue(RepositoryGenerator.render(PRODUCT, SLICE).getContent()
+                .contains("Slice<Product> findAllBy(Pageable pageable);"));
+    }
+
+    @Test
+    void controllerReturnsASliceResponse() {
+        String controller = ControllerGenerator.render(PRODUCT, SLICE).getContent();
+
+        assertTrue(controller.contains("public ResponseEntity<SliceResponse<Product>> getAllPaginated("));
+        assertTrue(controller.contains("SliceResponse<Product> response = SliceResponse.of(sliceResult);"));
+        assertFalse(controller.contains("PageResponse<Product>"));
+    }
+
+    @Test
+    void otherEntitiesKeepPagesWithTotals() {
+        assertTrue(ServiceGenerator.render(ORDER, SLICE).getContent()
+                .contains("Page<Order> result = repository.findAll(pageable);"));
+        assertTrue(ControllerGenerator.render(ORDER, SLICE).getContent()
+                .contains("public ResponseEntity<PageResponse<Order>> getAllPaginated("));
+        assertFalse(RepositoryGenerator.render(ORDER, SLICE).getContent().contains("findAllBy(Pageable"));
+    }
+}
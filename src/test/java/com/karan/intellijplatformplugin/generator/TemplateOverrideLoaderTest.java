@@ -0,0 +1,72 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+import com.intellij.testFramework.fixtures.TempDirTestFixture;
+import com.intellij.testFramework.fixtures.impl.TempDirTestFixtureImpl;
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+
+import java.util.List;
+
+public class TemplateOverrideLoaderTest extends BasePlatformTestCase {
+
+    @Override
+    protected TempDirTestFixture createTempDirTestFixture() {
+        // Overrides are looked up by path in the local file system
+        return new TempDirTestFixtureImpl();
+    }
+
+    public void testOverrideIsReadThroughTheVfs() {
+        VirtualFile file = createOverride("repository", "// saved repository for {{entity}}\n");
+
+        ClassMeta meta = loadedMeta(file.getParent().getPath());
+
+        assertEquals("// saved repository for Product\n", RepositoryGenerator.render(meta).getContent());
+    }
+
+    public void testUnsavedEditsAreRendered() {
+        VirtualFile file = createOverride("repository", "// saved repository for {{entity}}\n");
+        String directory = file.getParent().getPath();
+        String saved = TemplateOverrideLoader.load(directory).fingerprint();
+
+        Document document = FileDocumentManager.getInstance().getDocument(file);
+        WriteCommandAction.runWriteCommandAction(getProject(), () ->
+                document.setText("// edited repository for {{entity}}\n"));
+
+        ClassMeta meta = loadedMeta(directory);
+        assertEquals("// edited repository for Product\n", RepositoryGenerator.render(meta).getContent());
+        assertFalse(saved.equals(TemplateOverrides.current(directory).fingerprint()));
+    }
+
+    public void testUnchangedOverridesKeepTheirFingerprint() {
+        VirtualFile file = createOverride("service", "// service\n");
+        String directory = file.getParent().getPath();
+
+        String first = TemplateOverrideLoader.load(directory).fingerprint();
+
+        assertFalse(first.isEmpty());
+        assertEquals(first, TemplateOverrideLoader.load(directory).fingerprint());
+    }
+
+    public void testOtherFilesAreIgnored() {
+        VirtualFile readme = myFixture.getTempDirFixture()
+                .createFile(TemplateOverrides.DIRECTORY + "/README.md", "# Templates\n");
+
+        assertEquals("", TemplateOverrideLoader.load(readme.getParent().getPath()).fingerprint());
+    }
+
+    private VirtualFile createOverride(String name, String source) {
+        return myFixture.getTempDirFixture()
+                .createFile(TemplateOverrides.DIRECTORY + "/" + name + TemplateOverrides.EXTENSION, source);
+    }
+
+    private static ClassMeta loadedMeta(String directory) {
+        TemplateOverrideLoader.load(directory);
+        return new ClassMeta("Product", "com.acme.shop.entity", "Long",
+                List.of(new FieldMeta("id", "Long"), new FieldMeta("name", "String")), directory);
+    }
+}
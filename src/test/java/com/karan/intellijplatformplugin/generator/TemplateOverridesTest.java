@@ -0,0 +1,131 @@
+package com.karan.intellijplatformplugin.generator;
+
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+import com.karan.intellijplatformplugin.model.GeneratedFile;
+import com.karan.intellijplatformplugin.model.GenerationOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TemplateOverridesTest {
+
+    // Overrides are registered per directory for the whole JVM, so every test uses its own
+    private final String templates = "/projects/" + UUID.randomUUID() + "/" + TemplateOverrides.DIRECTORY;
+    private final List<TemplateOverrides.Source> sources = new ArrayList<>();
+
+    @Test
+    void entityTemplatesRenderTheProjectOverride() {
+        write("repository", "// custom repository for {{entity}}\n");
+
+        ClassMeta meta = refreshedMeta();
+
+        assertEquals("// custom repository for Product\n", RepositoryGenerator.render(meta).getContent());
+    }
+
+    @Test
+    void sharedTemplatesRenderTheProjectOverride() {
+        write("pagination-page-response", "// page response in {{package}}\n");
+        write("pagination-sort-direction", "// sort direction\n");
+        write("pagination-slice-response", "// slice\n");
+        write("user-entity", "// user\n");
+        write("security-config", "// security\n");
+        write("jwt-service", "// jwt\n");
+        write("jwt-authentication-filter", "// filter\n");
+        write("base-audit-entity", "// audit\n");
+        write("auditing-readme", "# Auditing of {{basePackage}}\n");
+
+        ClassMeta meta = refreshedMeta();
+
+        List<GeneratedFile> pagination = PaginationGenerator.render(meta);
+        assertEquals("// page response in com.acme.shop.dto\n", contentOf(pagination, "PageResponse.java"));
+        assertEquals("// sort direction\n", contentOf(pagination, "SortDirection.java"));
+        assertEquals("// slice\n", contentOf(pagination, "SliceResponse.java"));
+        assertEquals("// user\n", UserEntityGenerator.render(meta).getContent());
+        assertEquals("// security\n", SecurityConfigGenerator.render(meta).getContent());
+        assertEquals("// jwt\n", JwtServiceGenerator.render(meta).getContent());
+        assertEquals("// filter\n", JwtAuthenticationFilterGenerator.render(meta).getContent());
+        assertEquals("// audit\n", BaseAuditEntityGenerator.render(meta).getContent());
+        assertEquals("# Auditing of com.acme.shop\n", AuditingReadmeGenerator.render(meta).getContent());
+    }
+
+    @Test
+    void cursorResponseRendersTheProjectOverride() {
+        write("pagination-cursor-response", "// cursor page in {{package}}\n");
+
+        ClassMeta meta = refreshedMeta();
+
+        GenerationOptions options = GenerationOptions.DEFAULT.withCursorEndpoint(true);
+        List<GeneratedFile> files = PaginationGenerator.render(meta, options);
+        assertEquals("// cursor page in com.acme.shop.dto\n", contentOf(files, "CursorPageResponse.java"));
+    }
+
+    @Test
+    void builtInTemplateIsUsedWithoutOverride() {
+        write("controller", "// custom controller\n");
+
+        ClassMeta meta = refreshedMeta();
+
+        assertTrue(RepositoryGenerator.render(meta).getContent().contains("interface ProductRepository"));
+    }
+
+    @Test
+    void fingerprintChangesWithOverrideSource() {
+        String first = TemplateOverrides.refresh(templates, List.of(source("service", 1, "// one\n"))).fingerprint();
+        String second = TemplateOverrides.refresh(templates, List.of(source("service", 2, "// two\n"))).fingerprint();
+
+        assertNotEquals("", first);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void unchangedSourcesAreNotReadAgain() {
+        String first = TemplateOverrides.refresh(templates, List.of(source("service", 1, "// one\n"))).fingerprint();
+
+        TemplateOverrides.Source unchanged = new TemplateOverrides.Source("service", 1, () -> {
+            throw new AssertionError("Unchanged override was read again");
+        });
+        assertEquals(first, TemplateOverrides.refresh(templates, List.of(unchanged)).fingerprint());
+    }
+
+    @Test
+    void missingDirectoryHasNoOverrides() {
+        write("service", "// one\n");
+        refreshedMeta();
+
+        TemplateOverrides overrides = TemplateOverrides.refresh(templates, List.of());
+
+        assertEquals("", overrides.fingerprint());
+        assertSame(overrides, TemplateOverrides.current(templates));
+        assertSame(overrides, TemplateOverrides.current(null));
+    }
+
+    private void write(String name, String text) {
+        sources.add(source(name, 1, text));
+    }
+
+    private static TemplateOverrides.Source source(String name, long modificationStamp, String text) {
+        return new TemplateOverrides.Source(name, modificationStamp, () -> text);
+    }
+
+    private ClassMeta refreshedMeta() {
+        TemplateOverrides.refresh(templates, sources);
+        return new ClassMeta("Product", "com.acme.shop.entity", "Long",
+                List.of(new FieldMeta("id", "Long"), new FieldMeta("name", "String")), templates);
+    }
+
+    private static String contentOf(List<GeneratedFile> files, String fileName) {
+        return files.stream()
+                .filter(file -> file.getFileName().equals(fileName))
+                .findFirst()
+                .orElseThrow()
+                .getContent();
+    }
+}
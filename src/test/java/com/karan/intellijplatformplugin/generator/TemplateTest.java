@@ -0,0 +1,103 @@
+package com.karan.intellijplatformplugin.generator;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TemplateTest {
+
+    @Test
+    void placeholdersAreReplacedByName() {
+        Template template = Template.compile("{{entity}}Service uses {{entity}}Repository<{{entity}}, {{idType}}>");
+
+        TemplateContext context = new TemplateContext()
+                .with("entity", "Product")
+                .with("idType", "Long");
+
+        assertEquals("ProductService uses ProductRepository<Product, Long>", template.render(context));
+    }
+
+    @Test
+    void invalidPlaceholderNamesAreKeptAsLiterals() {
+        Template template = Template.compile("{{}} {{ name }} {{1st}} {{name}} {{unclosed");
+
+        assertEquals("{{}} {{ name }} {{1st}} value {{unclosed",
+                template.render(new TemplateContext().with("name", "value")));
+    }
+
+    @Test
+    void templateWithoutPlaceholdersRendersItsSource() {
+        String source = "class Empty {\n}\n";
+
+        assertEquals(source, Template.compile(source).render(new TemplateContext()));
+    }
+
+    @Test
+    void measureMatchesTheRenderedLength() {
+        Template template = Template.compile("package {{package}};\n\nclass {{entity}}Dto {\n{{members}}}\n");
+        TemplateContext context = new TemplateContext()
+                .with("package", "com.acme.shop.dto")
+                .with("entity", "Product")
+                .with("members", fragment("    private Long id;\n"));
+
+        String rendered = template.render(context);
+
+        assertEquals("package com.acme.shop.dto;\n\nclass ProductDto {\n    private Long id;\n}\n", rendered);
+        assertEquals(rendered.length(), template.measure(context));
+    }
+
+    @Test
+    void renderToAppendsToTheBuffer() {
+        Template template = Template.compile("[{{value}}]");
+        StringBuilder out = new StringBuilder("before ");
+
+        template.renderTo(new TemplateContext().with("value", "one"), out);
+        template.renderTo(new TemplateContext().with("value", fragment("two")), out);
+
+        assertEquals("before [one][two]", out.toString());
+    }
+
+    @Test
+    void laterValuesReplaceEarlierOnes() {
+        TemplateContext context = new TemplateContext()
+                .with("name", "first")
+                .with("name", "second");
+
+        assertEquals("second", Template.compile("{{name}}").render(context));
+    }
+
+    @Test
+    void missingValueIsRejected() {
+        Template template = Template.compile("{{entity}}Controller");
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> template.render(new TemplateContext()));
+        assertEquals("No value for template placeholder: entity", error.getMessage());
+    }
+
+    @Test
+    void nullArgumentsAreRejected() {
+        Template template = Template.compile("{{value}}");
+
+        assertThrows(IllegalArgumentException.class, () -> Template.compile(null));
+        assertThrows(IllegalArgumentException.class, () -> template.render(null));
+        assertThrows(IllegalArgumentException.class, () -> new TemplateContext().with("value", (String) null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TemplateContext().with(null, "value"));
+    }
+
+    private static TemplateFragment fragment(String text) {
+        return new TemplateFragment() {
+            @Override
+            public int length() {
+                return text.length();
+            }
+
+            @Override
+            public void appendTo(StringBuilder out) {
+                out.append(text);
+            }
+        };
+    }
+}
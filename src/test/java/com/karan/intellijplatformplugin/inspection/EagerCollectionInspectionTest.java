@@ -0,0 +1,67 @@
+package com.karan.intellijplatformplugin.inspection;
+
+public class EagerCollectionInspectionTest extends InspectionTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(new EagerCollectionInspection());
+    }
+
+    public void testEagerCollectionsAreReported() {
+        assertSameElements(warnings("Order.java", """
+                        import jakarta.persistence.*;
+                        import java.util.List;
+                        import java.util.Set;
+
+                        @Entity
+                        public class Order {
+                            @OneToMany(mappedBy = "order", fetch = FetchType.EAGER)
+                            private List<OrderLine> lines;
+
+                            @ElementCollection(fetch = FetchType.EAGER)
+                            private Set<String> tags;
+
+                            @ManyToMany(fetch = FetchType.LAZY)
+                            private Set<Order> related;
+
+                            @OneToMany(mappedBy = "order")
+                            private List<OrderLine> history;
+                        }
+
+                        class OrderLine {
+                        }
+                        """),
+                "Collection 'lines' is loaded with every Order",
+                "Collection 'tags' is loaded with every Order");
+    }
+
+    public void testClassesThatAreNoEntitiesAreSkipped() {
+        assertEmpty(warnings("OrderView.java", """
+                import jakarta.persistence.*;
+                import java.util.Set;
+
+                public class OrderView {
+                    @ElementCollection(fetch = FetchType.EAGER)
+                    private Set<String> tags;
+                }
+                """));
+    }
+
+    public void testFixRemovesTheEagerFetch() {
+        warnings("Order.java", """
+                import jakarta.persistence.*;
+                import java.util.List;
+
+                @Entity
+                public class Order {
+                    @OneToMany(mappedBy = "order", fetch = FetchType.EA<caret>GER)
+                    private List<String> lines;
+                }
+                """);
+
+        applyFix("Fetch lazily");
+
+        assertTrue(fileText(), fileText().contains("@OneToMany(mappedBy = \"order\")\n"));
+    }
+}
@@ -0,0 +1,85 @@
+package com.karan.intellijplatformplugin.inspection;
+
+public class EagerLobInspectionTest extends InspectionTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(new EagerLobInspection());
+    }
+
+    public void testEagerLobsAreReported() {
+        assertSameElements(warnings("Product.java", """
+                        import jakarta.persistence.*;
+
+                        @Entity
+                        public class Product {
+                            @Lob
+                            private String description;
+
+                            @Lob
+                            private byte[] image;
+
+                            @Lob
+                            @Basic(fetch = FetchType.LAZY)
+                            private byte[] manual;
+
+                            private String name;
+                        }
+                        """),
+                "@Lob field 'description' is loaded with every Product in list results",
+                "@Lob field 'image' is loaded with every Product in list results");
+    }
+
+    public void testFixLoadsLazily() {
+        warnings("Product.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class Product {
+                    @Lob
+                    private byte[] ima<caret>ge;
+                }
+                """);
+
+        assertEmpty(myFixture.filterAvailableIntentions("Replace @Lob"));
+        applyFix("Load lazily");
+
+        assertTrue(fileText(), fileText().contains("@Basic(fetch = FetchType.LAZY)"));
+        assertTrue(fileText(), fileText().contains("@Lob"));
+    }
+
+    public void testFixSetsFetchOfExistingBasic() {
+        warnings("Product.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class Product {
+                    @Lob
+                    @Basic(optional = false)
+                    private byte[] ima<caret>ge;
+                }
+                """);
+
+        applyFix("Load lazily");
+
+        assertTrue(fileText(), fileText().contains("@Basic(optional = false, fetch = FetchType.LAZY)"));
+    }
+
+    public void testFixBoundsTheTextLength() {
+        warnings("Product.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class Product {
+                    @Lob
+                    private String descri<caret>ption;
+                }
+                """);
+
+        applyFix("Replace @Lob with @Column(length = 4000)");
+
+        assertFalse(fileText(), fileText().contains("@Lob"));
+        assertTrue(fileText(), fileText().contains("@Column(length = 4000)"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.karan.intellijplatformplugin.inspection;
+
+public class IdentityGenerationInspectionTest extends InspectionTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(new IdentityGenerationInspection());
+    }
+
+    public void testIdentityIdsAreReported() {
+        assertSameElements(warnings("Product.java", """
+                        import jakarta.persistence.*;
+
+                        @Entity
+                        public class Product {
+                            @Id
+                            @GeneratedValue(strategy = GenerationType.IDENTITY)
+                            private Long id;
+                        }
+                        """),
+                "IDENTITY ids disable JDBC batching of Product inserts");
+    }
+
+    public void testOtherStrategiesAreNotReported() {
+        assertEmpty(warnings("Product.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class Product {
+                    @Id
+                    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+                    private Long id;
+
+                    @GeneratedValue
+                    private Long number;
+                }
+                """));
+    }
+
+    public void testFixSwitchesToSequence() {
+        warnings("Product.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class Product {
+                    @Id
+                    @GeneratedValue(strategy = GenerationType.IDEN<caret>TITY)
+                    private Long id;
+                }
+                """);
+
+        applyFix("Use GenerationType.SEQUENCE");
+
+        assertTrue(fileText(), fileText().contains("@GeneratedValue(strategy = GenerationType.SEQUENCE)"));
+    }
+}
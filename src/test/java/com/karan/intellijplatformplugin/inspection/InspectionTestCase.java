@@ -0,0 +1,75 @@
+package com.karan.intellijplatformplugin.inspection;
+
+import com.intellij.codeInsight.daemon.impl.HighlightInfo;
+import com.intellij.lang.annotation.HighlightSeverity;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+
+import java.util.List;
+
+/**
+ * Base class for inspection tests. Adds source stubs of the JPA annotations the inspections look for,
+ * so that test entities resolve them like in a project with Jakarta Persistence on the classpath.
+ */
+abstract class InspectionTestCase extends LightJavaCodeInsightFixtureTestCase {
+
+    private static final String[] JPA_STUBS = {
+            "package jakarta.persistence; public @interface Entity { String name() default \"\"; }",
+            "package jakarta.persistence; public @interface Id {}",
+            "package jakarta.persistence; public enum GenerationType { TABLE, SEQUENCE, IDENTITY, AUTO }",
+            "package jakarta.persistence; public @interface GeneratedValue {"
+                    + " GenerationType strategy() default GenerationType.AUTO; }",
+            "package jakarta.persistence; public enum FetchType { LAZY, EAGER }",
+            "package jakarta.persistence; public @interface Basic {"
+                    + " FetchType fetch() default FetchType.EAGER; boolean optional() default true; }",
+            "package jakarta.persistence; public @interface Lob {}",
+            "package jakarta.persistence; public @interface Column { int length() default 255; }",
+            "package jakarta.persistence; public @interface Version {}",
+            "package jakarta.persistence; public @interface MappedSuperclass {}",
+            "package jakarta.persistence; public @interface OneToMany {"
+                    + " String mappedBy() default \"\"; FetchType fetch() default FetchType.LAZY; }",
+            "package jakarta.persistence; public @interface ManyToMany {"
+                    + " String mappedBy() default \"\"; FetchType fetch() default FetchType.LAZY; }",
+            "package jakarta.persistence; public @interface ElementCollection {"
+                    + " FetchType fetch() default FetchType.LAZY; }",
+            "package jakarta.persistence; public @interface ManyToOne { FetchType fetch() default FetchType.EAGER; }",
+            "package jakarta.persistence; public @interface OneToOne {"
+                    + " String mappedBy() default \"\"; FetchType fetch() default FetchType.EAGER; }",
+            "package jakarta.persistence; public @interface MapsId { String value() default \"\"; }",
+            "package jakarta.persistence; public @interface JoinColumn { String name() default \"\"; }",
+            "package jakarta.persistence; public @interface Index { String columnList(); }",
+            "package jakarta.persistence; public @interface UniqueConstraint { String[] columnNames(); }",
+            "package jakarta.persistence; public @interface Table {"
+                    + " Index[] indexes() default {}; UniqueConstraint[] uniqueConstraints() default {}; }",
+            "package org.hibernate.annotations; public @interface Immutable {}"
+    };
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        for (String stub : JPA_STUBS) {
+            myFixture.addClass(stub);
+        }
+    }
+
+    /**
+     * Opens the file in the editor and returns the descriptions of the warnings reported in it.
+     */
+    protected List<String> warnings(String fileName, String text) {
+        myFixture.configureByText(fileName, text);
+        return myFixture.doHighlighting(HighlightSeverity.WARNING).stream()
+                .filter(info -> HighlightSeverity.WARNING.equals(info.getSeverity()))
+                .map(HighlightInfo::getDescription)
+                .toList();
+    }
+
+    /**
+     * Applies the quick-fix whose name starts with the given text at the caret.
+     */
+    protected void applyFix(String name) {
+        myFixture.launchAction(myFixture.findSingleIntention(name));
+    }
+
+    protected String fileText() {
+        return myFixture.getFile().getText();
+    }
+}
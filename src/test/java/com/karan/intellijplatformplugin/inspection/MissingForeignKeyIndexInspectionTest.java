@@ -0,0 +1,105 @@
+package com.karan.intellijplatformplugin.inspection;
+
+public class MissingForeignKeyIndexInspectionTest extends InspectionTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(new MissingForeignKeyIndexInspection());
+    }
+
+    public void testOnlyForeignKeysLeadingAnIndexAreCovered() {
+        assertSameElements(warnings("Order.java", """
+                        import jakarta.persistence.*;
+
+                        @Entity
+                        @Table(indexes = @Index(columnList = "created_at, customer_id"),
+                               uniqueConstraints = @UniqueConstraint(columnNames = {"storeId", "number"}))
+                        public class Order {
+                            @ManyToOne
+                            private Customer customer;
+
+                            @ManyToOne
+                            @JoinColumn(name = "store_id")
+                            private Store store;
+
+                            @OneToOne
+                            private Address shipping;
+
+                            @OneToOne(mappedBy = "order")
+                            private Invoice invoice;
+                        }
+
+                        class Customer {
+                        }
+
+                        class Store {
+                        }
+
+                        class Address {
+                        }
+
+                        class Invoice {
+                        }
+                        """),
+                "Foreign key column 'customer_id' of Order has no index",
+                "Foreign key column 'shipping_id' of Order has no index");
+    }
+
+    public void testSharedPrimaryKeyIsNotReported() {
+        assertEmpty(warnings("OrderDetails.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class OrderDetails {
+                    @Id
+                    private Long id;
+
+                    @MapsId
+                    @OneToOne
+                    private OrderDetails order;
+                }
+                """));
+    }
+
+    public void testFixAddsTheIndexToTheTable() {
+        warnings("Order.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                @Table(indexes = @Index(columnList = "created_at"))
+                public class Order {
+                    @ManyToOne
+                    private Customer cust<caret>omer;
+                }
+
+                class Customer {
+                }
+                """);
+
+        applyFix("Add @Index on 'customer_id'");
+
+        assertTrue(fileText(), fileText().contains(
+                "@Table(indexes = {@Index(columnList = \"created_at\"), @Index(columnList = \"customer_id\")})"));
+    }
+
+    public void testFixAddsTheTable() {
+        warnings("Order.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class Order {
+                    @ManyToOne
+                    @JoinColumn(name = "customer_ref")
+                    private Customer cust<caret>omer;
+                }
+
+                class Customer {
+                }
+                """);
+
+        applyFix("Add @Index on 'customer_ref'");
+
+        assertTrue(fileText(), fileText().contains("@Table(indexes = @Index(columnList = \"customer_ref\"))"));
+    }
+}
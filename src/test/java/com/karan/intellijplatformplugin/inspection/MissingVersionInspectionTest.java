@@ -0,0 +1,94 @@
+package com.karan.intellijplatformplugin.inspection;
+
+public class MissingVersionInspectionTest extends InspectionTestCase {
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.enableInspections(new MissingVersionInspection());
+    }
+
+    public void testEntityWithoutVersionIsReported() {
+        assertSameElements(warnings("Product.java", """
+                        import jakarta.persistence.*;
+
+                        @Entity
+                        public class Product {
+                            @Id
+                            private Long id;
+                        }
+                        """),
+                "Entity 'Product' has no @Version field for optimistic locking");
+    }
+
+    public void testInheritedVersionIsFound() {
+        assertEmpty(warnings("Product.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class Product extends Versioned {
+                    @Id
+                    private Long id;
+                }
+
+                @MappedSuperclass
+                abstract class Versioned {
+                    @Version
+                    private Long version;
+                }
+                """));
+    }
+
+    public void testImmutableEntityIsSkipped() {
+        assertEmpty(warnings("Country.java", """
+                import jakarta.persistence.*;
+                import org.hibernate.annotations.Immutable;
+
+                @Entity
+                @Immutable
+                public class Country {
+                    @Id
+                    private String code;
+                }
+                """));
+    }
+
+    public void testFixAddsVersionField() {
+        warnings("Product.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class Pro<caret>duct {
+                    @Id
+                    private Long id;
+                }
+                """);
+
+        applyFix("Add @Version field");
+
+        String text = fileText();
+        assertTrue(text, text.contains("@Version"));
+        assertTrue(text, text.indexOf("private Long version;") > text.indexOf("private Long id;"));
+    }
+
+    public void testFixAnnotatesExistingVersionField() {
+        warnings("Product.java", """
+                import jakarta.persistence.*;
+
+                @Entity
+                public class Pro<caret>duct {
+                    @Id
+                    private Long id;
+
+                    private Integer version;
+                }
+                """);
+
+        applyFix("Add @Version field");
+
+        String text = fileText();
+        assertTrue(text, text.contains("@Version"));
+        assertTrue(text, text.contains("private Integer version;"));
+        assertFalse(text, text.contains("private Long version;"));
+    }
+}
@@ -0,0 +1,198 @@
+package com.karan.intellijplatformplugin.inspection;
+
+import com.intellij.psi.PsiClass;
+
+import java.util.List;
+
+public class UnboundedFindAllInspectionTest extends InspectionTestCase {
+
+    private static final String[] SPRING_STUBS = {
+            "package org.springframework.data.repository; public interface Repository<T, ID> {}",
+            "package org.springframework.data.domain; public interface Pageable {}",
+            "package org.springframework.data.domain; public class Sort {"
+                    + " public static Sort by(String... properties) { return new Sort(); } }",
+            "package org.springframework.data.domain; public class PageRequest implements Pageable {"
+                    + " public static PageRequest of(int page, int size) { return new PageRequest(); }"
+                    + " public static PageRequest of(int page, int size, Sort sort) { return new PageRequest(); } }",
+            "package org.springframework.data.domain; public interface Page<T> { java.util.List<T> getContent(); }",
+            "package org.springframework.data.jpa.repository;"
+                    + " import org.springframework.data.domain.*;"
+                    + " import org.springframework.data.repository.Repository;"
+                    + " public interface JpaRepository<T, ID> extends Repository<T, ID> {"
+                    + " java.util.List<T> findAll(); java.util.List<T> findAll(Sort sort);"
+                    + " Page<T> findAll(Pageable pageable); long count(); }",
+            "package org.springframework.data.jpa.repository; public @interface Query { String value(); }",
+            "package org.springframework.transaction.annotation; public @interface Transactional {}"
+    };
+
+    private PsiClass repository;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        for (String stub : SPRING_STUBS) {
+            myFixture.addClass(stub);
+        }
+        myFixture.addClass("""
+                @jakarta.persistence.Entity
+                public class Product {
+                    private String name;
+
+                    public String getName() {
+                        return name;
+                    }
+                }
+                """);
+        repository = myFixture.addClass("""
+                public interface ProductRepository
+                        extends org.springframework.data.jpa.repository.JpaRepository<Product, Long> {
+                }
+                """);
+        myFixture.enableInspections(new UnboundedFindAllInspection());
+    }
+
+    public void testFindAllWithoutPageableIsReported() {
+        assertSameElements(service("""
+                        public List<Product> all() {
+                            return repository.findAll();
+                        }
+
+                        public List<Product> sorted() {
+                            return repository.findAll(Sort.by("name"));
+                        }
+
+                        public long withName() {
+                            return repository.findAll().stream().filter(p -> p.getName() != null).count();
+                        }
+
+                        public List<Product> firstPage() {
+                            return repository.findAll(PageRequest.of(0, 20)).getContent();
+                        }
+                        """),
+                "findAll() without a Pageable loads the whole table",
+                "findAll() without a Pageable loads the whole table",
+                "findAll() loads the whole table to filter it in memory");
+    }
+
+    public void testFirstPageFix() {
+        service("""
+                public List<Product> sorted() {
+                    return repository.find<caret>All(Sort.by("name"));
+                }
+                """);
+
+        applyFix("Load only the first page");
+
+        assertTrue(fileText(), fileText().contains(
+                "return repository.findAll(PageRequest.of(0, 100, Sort.by(\"name\"))).getContent();"));
+    }
+
+    public void testCountFix() {
+        service("""
+                public int total() {
+                    return repository.find<caret>All().size();
+                }
+                """);
+
+        applyFix("Replace with count()");
+
+        assertTrue(fileText(), fileText().contains("return Math.toIntExact(repository.count());"));
+    }
+
+    public void testProjectionFix() {
+        service("""
+                public List<String> names() {
+                    return repository.find<caret>All().stream().map(Product::getName).collect(Collectors.toList());
+                }
+                """);
+
+        applyFix("Query only the mapped property");
+
+        assertTrue(fileText(),
+                fileText().contains("return repository.findNameValues().stream().collect(Collectors.toList());"));
+        String repositoryText = repository.getContainingFile().getText();
+        assertTrue(repositoryText, repositoryText.contains("@Query(\"select e.name from Product e\")"));
+        assertTrue(repositoryText, repositoryText.contains("List<String> findNameValues();"));
+    }
+
+    public void testStreamFixIsOnlyOfferedInTransactions() {
+        service("""
+                public long withName() {
+                    return repository.find<caret>All().stream().filter(p -> p.getName() != null).count();
+                }
+                """);
+
+        assertEmpty(myFixture.filterAvailableIntentions("Stream rows"));
+    }
+
+    public void testStreamFixIsNotOfferedForReturnedStreams() {
+        service("""
+                @Transactional
+                public Stream<Product> named() {
+                    return repository.find<caret>All().stream().filter(p -> p.getName() != null);
+                }
+                """);
+
+        assertEmpty(myFixture.filterAvailableIntentions("Stream rows"));
+    }
+
+    public void testStreamFixClosesTheStream() {
+        service("""
+                @Transactional
+                public long withName() {
+                    return repository.find<caret>All().stream().filter(p -> p.getName() != null).count();
+                }
+                """);
+
+        applyFix("Stream rows from the repository");
+
+        String text = fileText();
+        assertTrue(text, text.contains("try (Stream<Product> entities = repository.streamAllBy()) {"));
+        assertTrue(text, text.contains("return entities.filter(p -> p.getName() != null).count();"));
+        String repositoryText = repository.getContainingFile().getText();
+        assertTrue(repositoryText, repositoryText.contains("Stream<Product> streamAllBy();"));
+    }
+
+    public void testStreamFixKeepsDeclaredVariableVisible() {
+        service("""
+                @Transactional
+                public int countNames() {
+                    List<String> names = repository.find<caret>All().stream()
+                            .map(p -> p.getName().trim())
+                            .collect(Collectors.toList());
+                    return names.size();
+                }
+                """);
+
+        applyFix("Stream rows from the repository");
+
+        String text = fileText();
+        assertTrue(text, text.contains("List<String> names;"));
+        assertTrue(text, text.contains("try (Stream<Product> entities = repository.streamAllBy()) {"));
+        assertTrue(text, text.contains("names = entities"));
+        assertTrue(text, text.indexOf("return names.size();") > text.indexOf("try ("));
+    }
+
+    /**
+     * Opens a service using the repository with the given members and returns the reported warnings.
+     */
+    private List<String> service(String members) {
+        return warnings("ProductService.java", """
+                import org.springframework.data.domain.PageRequest;
+                import org.springframework.data.domain.Sort;
+                import org.springframework.transaction.annotation.Transactional;
+
+                import java.util.List;
+                import java.util.stream.Collectors;
+                import java.util.stream.Stream;
+
+                public class ProductService {
+                    private final ProductRepository repository;
+
+                    public ProductService(ProductRepository repository) {
+                        this.repository = repository;
+                    }
+
+                """ + members.indent(4) + "}\n");
+    }
+}
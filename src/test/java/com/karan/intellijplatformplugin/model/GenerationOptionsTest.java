@@ -0,0 +1,111 @@
+package com.karan.intellijplatformplugin.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenerationOptionsTest {
+
+    private static final ClassMeta PRODUCT = new ClassMeta("Product", "com.acme.shop.entity", "Long", List.of());
+    private static final ClassMeta ORDER = new ClassMeta("Order", "com.acme.shop.entity", "Long", List.of());
+
+    @Test
+    void defaultMatchesTheDefaultProfile() {
+        GenerationOptions options = GenerationOptions.DEFAULT.withProfileDefaults(GenerationProfile.DEFAULT);
+
+        assertEquals(GenerationOptions.DEFAULT.fingerprint(), options.fingerprint());
+    }
+
+    @Test
+    void profileDefaultsSetCursorEndpointAndCaches() {
+        GenerationOptions read = GenerationOptions.DEFAULT.withProfileDefaults(GenerationProfile.HIGH_THROUGHPUT_READ);
+        assertEquals(GenerationProfile.HIGH_THROUGHPUT_READ, read.getProfile());
+        assertTrue(read.isCursorEndpoint());
+        assertTrue(read.isCountCache());
+        assertTrue(read.isEntityCache());
+        assertEquals(DtoStyle.RECORD, read.getDtoStyle());
+
+        GenerationOptions write = read.withProfileDefaults(GenerationProfile.BULK_WRITE);
+        assertFalse(write.isCursorEndpoint());
+        assertFalse(write.isCountCache());
+        assertFalse(write.isEntityCache());
+        assertEquals(DtoStyle.RECORD, write.getDtoStyle());
+        assertEquals(DtoStyle.CLASS, write.withProfileDefaults(GenerationProfile.LOW_MEMORY).getDtoStyle());
+    }
+
+    @Test
+    void profileDefaultsKeepEndpointsAndPaginationModes() {
+        GenerationOptions options = GenerationOptions.DEFAULT
+                .withListEndpoint(true)
+                .withExportEndpoint(false)
+                .withSlicePagination(PRODUCT.qualifiedName(), true)
+                .withProfileDefaults(GenerationProfile.LOW_MEMORY);
+
+        assertTrue(options.isListEndpoint());
+        assertFalse(options.isExportEndpoint());
+        assertTrue(options.isSlicePagination(PRODUCT));
+    }
+
+    @Test
+    void fingerprintChangesWithEverySharedOption() {
+        GenerationOptions base = GenerationOptions.DEFAULT;
+        List<GenerationOptions> changed = List.of(
+                base.withProfile(GenerationProfile.BULK_WRITE),
+                base.withListEndpoint(true),
+                base.withExportEndpoint(false),
+                base.withCursorEndpoint(true),
+                base.withCountCache(true),
+                base.withEntityCache(true),
+                base.withDtoStyle(DtoStyle.RECORD));
+
+        for (GenerationOptions options : changed) {
+            assertNotEquals(base.fingerprint(), options.fingerprint());
+        }
+        assertEquals(changed.size(), changed.stream().map(GenerationOptions::fingerprint).distinct().count());
+    }
+
+    @Test
+    void slicePaginationOnlyChangesTheEntityFingerprint() {
+        GenerationOptions options = GenerationOptions.DEFAULT.withSlicePagination(PRODUCT.qualifiedName(), true);
+
+        assertEquals(GenerationOptions.DEFAULT.fingerprint(), options.fingerprint());
+        assertNotEquals(GenerationOptions.DEFAULT.fingerprint(PRODUCT), options.fingerprint(PRODUCT));
+        assertEquals(GenerationOptions.DEFAULT.fingerprint(ORDER), options.fingerprint(ORDER));
+    }
+
+    @Test
+    void slicePaginationIsSwitchedPerEntity() {
+        GenerationOptions options = GenerationOptions.DEFAULT
+                .withSlicePagination(PRODUCT.qualifiedName(), true)
+                .withSlicePagination(ORDER.qualifiedName(), true)
+                .withSlicePagination(PRODUCT.qualifiedName(), false);
+
+        assertFalse(options.isSlicePagination(PRODUCT));
+        assertTrue(options.isSlicePagination(ORDER));
+        assertEquals(Set.of(ORDER.qualifiedName()), options.getSliceEntities());
+    }
+
+    @Test
+    void chosenPaginationModesAreRemembered() {
+        GenerationOptions options = GenerationOptions.DEFAULT
+                .withSlicePagination(PRODUCT.qualifiedName(), true)
+                .withSlicePagination(ORDER.qualifiedName(), false);
+
+        assertFalse(GenerationOptions.DEFAULT.hasPaginationMode(PRODUCT.qualifiedName()));
+        assertTrue(options.hasPaginationMode(PRODUCT.qualifiedName()));
+        assertTrue(options.hasPaginationMode(ORDER.qualifiedName()));
+        assertEquals(Set.of(ORDER.qualifiedName()), options.getPageEntities());
+        assertEquals(GenerationOptions.DEFAULT.fingerprint(ORDER), options.fingerprint(ORDER));
+
+        GenerationOptions forgotten = options.withoutPaginationModes();
+        assertFalse(forgotten.hasPaginationMode(PRODUCT.qualifiedName()));
+        assertFalse(forgotten.hasPaginationMode(ORDER.qualifiedName()));
+        assertFalse(forgotten.isSlicePagination(PRODUCT));
+    }
+}
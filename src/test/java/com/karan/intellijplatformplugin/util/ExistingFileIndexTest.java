@@ -0,0 +1,75 @@
+package com.karan.intellijplatformplugin.util;
+
+import com.intellij.openapi.util.io.FileUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.testFramework.fixtures.BasePlatformTestCase;
+
+import java.io.File;
+import java.io.IOException;
+
+public class ExistingFileIndexTest extends BasePlatformTestCase {
+
+    private final ExistingFileIndex index = new ExistingFileIndex();
+
+    public void testFilesBelowScannedDirectoryExist() throws IOException {
+        String entity = createFile("shop/entity/Product.java");
+        String dto = createFile("shop/dto/ProductDto.java");
+
+        index.scan(dir("shop"));
+
+        assertTrue(index.exists(entity));
+        assertTrue(index.exists(dto));
+        assertFalse(index.exists(dto.replace("ProductDto", "OrderDto")));
+        assertEquals(2, index.size());
+    }
+
+    public void testScanningANestedDirectoryAgainAddsNothing() throws IOException {
+        createFile("shop/entity/Product.java");
+        index.scan(dir("shop"));
+
+        createFile("shop/entity/Order.java");
+        index.scan(dir("shop/entity"));
+
+        assertEquals(1, index.size());
+    }
+
+    public void testAddedFilesExist() throws IOException {
+        String entity = createFile("shop/entity/Product.java");
+        index.scan(dir("shop"));
+
+        String service = entity.replace("entity/Product", "service/ProductService");
+        assertFalse(index.exists(service));
+
+        index.add(service);
+        assertTrue(index.exists(service));
+    }
+
+    public void testMissingOrPlainFileIsNotScanned() throws IOException {
+        VirtualFile file = myFixture.getTempDirFixture().createFile("shop/entity/Product.java", "");
+
+        index.scan(null);
+        index.scan(file);
+
+        assertEquals(0, index.size());
+    }
+
+    public void testPathsOutsideScannedDirectoriesAreLookedUpDirectly() throws IOException {
+        index.scan(dir("shop"));
+
+        File file = FileUtil.createTempFile("existing", ".java", true);
+        assertNotNull(LocalFileSystem.getInstance().refreshAndFindFileByIoFile(file));
+        String path = FileUtil.toSystemIndependentName(file.getPath());
+
+        assertTrue(index.exists(path));
+        assertFalse(index.exists(path + ".missing"));
+    }
+
+    private String createFile(String relativePath) throws IOException {
+        return myFixture.getTempDirFixture().createFile(relativePath, "").getPath();
+    }
+
+    private VirtualFile dir(String relativePath) throws IOException {
+        return myFixture.getTempDirFixture().findOrCreateDir(relativePath);
+    }
+}
@@ -0,0 +1,27 @@
+package com.karan.intellijplatformplugin.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HashUtilTest {
+
+    @Test
+    void hashIsHexEncodedSha256() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", HashUtil.sha256("abc"));
+    }
+
+    @Test
+    void partsAreHashedOnePerLine() {
+        assertEquals(HashUtil.sha256("Product\ncom.acme.shop.entity"),
+                HashUtil.sha256("Product", "com.acme.shop.entity"));
+        assertNotEquals(HashUtil.sha256("ab", "c"), HashUtil.sha256("a", "bc"));
+    }
+
+    @Test
+    void nullTextIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> HashUtil.sha256((String) null));
+    }
+}
@@ -0,0 +1,69 @@
+package com.karan.intellijplatformplugin.util;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.testFramework.fixtures.LightJavaCodeInsightFixtureTestCase;
+import com.karan.intellijplatformplugin.model.ClassMeta;
+import com.karan.intellijplatformplugin.model.FieldMeta;
+
+import java.util.List;
+
+public class PsiDirectoryUtilTest extends LightJavaCodeInsightFixtureTestCase {
+
+    public void testMetadataIsExtractedOnce() {
+        PsiClass product = myFixture.addClass("""
+                package com.acme.shop.entity;
+
+                public class Product {
+                    private static final int MAX_NAME = 80;
+                    private Long id;
+                    private String name;
+                }
+                """);
+
+        ClassMeta meta = PsiDirectoryUtil.toClassMeta(product);
+
+        assertEquals("Product", meta.getClassName());
+        assertEquals("com.acme.shop.entity", meta.getPackageName());
+        assertEquals(List.of("id", "name"), meta.getFields().stream().map(FieldMeta::getName).toList());
+        assertSame(meta, PsiDirectoryUtil.toClassMeta(product));
+    }
+
+    public void testMetadataIsExtractedAgainAfterTheClassChanges() {
+        PsiClass product = myFixture.addClass("""
+                package com.acme.shop.entity;
+
+                public class Product {
+                    private Long id;
+                }
+                """);
+        ClassMeta before = PsiDirectoryUtil.toClassMeta(product);
+
+        WriteCommandAction.runWriteCommandAction(getProject(), () -> product.add(
+                JavaPsiFacade.getElementFactory(getProject()).createFieldFromText("private String name;", product)));
+
+        ClassMeta after = PsiDirectoryUtil.toClassMeta(product);
+        assertNotSame(before, after);
+        assertEquals(List.of("id", "name"), after.getFields().stream().map(FieldMeta::getName).toList());
+    }
+
+    public void testMetadataIsExtractedAgainAfterOtherJavaFilesChange() {
+        PsiClass product = myFixture.addClass("""
+                package com.acme.shop.entity;
+
+                import jakarta.persistence.Id;
+
+                public class Product {
+                    @Id
+                    private String sku;
+                }
+                """);
+        assertEquals("Long", PsiDirectoryUtil.toClassMeta(product).getIdType());
+
+        // @Id only resolves once the annotation is declared
+        myFixture.addClass("package jakarta.persistence; public @interface Id {}");
+
+        assertEquals("String", PsiDirectoryUtil.toClassMeta(product).getIdType());
+    }
+}